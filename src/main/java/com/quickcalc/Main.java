@@ -1,5 +1,6 @@
 package com.quickcalc;
 
+import com.quickcalc.services.WarmupService;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -59,6 +60,9 @@ public class Main extends Application {
             primaryStage.setScene(new Scene(root, windowWidth, windowHeight));
             primaryStage.show();
             
+            // Compile the analysis and drawing paths in the background while the user orients
+            WarmupService.startIfEnabled();
+            
         } catch (IOException e) {
             e.printStackTrace();
             // For now, if FXML fails to load, show a simple scene
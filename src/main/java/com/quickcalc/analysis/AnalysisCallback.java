@@ -0,0 +1,24 @@
+package com.quickcalc.analysis;
+
+/**
+ * Interface for receiving analysis outcomes from AnalysisService.
+ * All methods are called on the FX thread.
+ */
+public interface AnalysisCallback {
+    void onAnalysisRefined(AnalysisResult result, int refinementLevel);
+    void onAnalysisCompleted(AnalysisResult result);
+    void onAnalysisFailed(String message);
+    void onAnalysisCancelled();
+
+    /**
+     * Receive the result of a time-budgeted analysis. By default it is treated
+     * as a completed analysis and the estimate is dropped.
+     *
+     * @param result The result from the densest mesh that fit the budget
+     * @param estimatedRelativeError Estimated relative error of the maximum deflection,
+     *                               or NaN if the budget left no room for a comparison solve
+     */
+    default void onBudgetedAnalysisCompleted(AnalysisResult result, double estimatedRelativeError) {
+        onAnalysisCompleted(result);
+    }
+}
@@ -0,0 +1,158 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Service provider interface for beam analysis engines.
+ *
+ * Implementations are discovered with {@link java.util.ServiceLoader}, either
+ * through a {@code provides} clause in a module descriptor or a
+ * META-INF/services entry on the class path, and must have a public no-argument
+ * constructor. {@link EngineSelector} chooses among the installed engines.
+ */
+public interface AnalysisEngine {
+
+    /**
+     * Model features an engine may handle
+     */
+    enum Capability {
+        POINT_LOADS,
+        DISTRIBUTED_LOADS,
+        MOMENT_LOADS,
+        STIFFNESS_SEGMENTS,
+        INDETERMINATE,
+        AXIAL_LOAD,
+        ELASTIC_FOUNDATION;
+
+        /**
+         * Get the capabilities an engine needs to analyze a model
+         *
+         * @param beamModel The beam
+         * @return Required capabilities
+         */
+        public static Set<Capability> requiredBy(BeamModel beamModel) {
+            Set<Capability> required = EnumSet.noneOf(Capability.class);
+            for (Load load : beamModel.getLoads()) {
+                switch (load.getType()) {
+                    case POINT:
+                        required.add(POINT_LOADS);
+                        break;
+                    case DISTRIBUTED:
+                        required.add(DISTRIBUTED_LOADS);
+                        break;
+                    case MOMENT:
+                        required.add(MOMENT_LOADS);
+                        break;
+                }
+            }
+            if (!beamModel.getStiffnessSegments().isEmpty()) {
+                required.add(STIFFNESS_SEGMENTS);
+            }
+            if (StabilityChecker.isIndeterminate(beamModel)) {
+                required.add(INDETERMINATE);
+            }
+            if (beamModel.getAxialLoad() != 0.0) {
+                required.add(AXIAL_LOAD);
+            }
+            if (beamModel.getFoundationModulus() > 0.0) {
+                required.add(ELASTIC_FOUNDATION);
+            }
+            return required;
+        }
+    }
+
+    /**
+     * Get the engine's unique name, e.g. "fea"
+     */
+    String getName();
+
+    /**
+     * Get the model features this engine handles
+     */
+    Set<Capability> getCapabilities();
+
+    /**
+     * Check whether this engine can analyze a model
+     *
+     * @param beamModel The beam
+     * @return True if every feature the model uses is supported
+     */
+    default boolean supports(BeamModel beamModel) {
+        return getCapabilities().containsAll(Capability.requiredBy(beamModel));
+    }
+
+    /**
+     * Analyze a beam
+     *
+     * @param beamModel The beam; not modified
+     * @return The result
+     * @throws UnstableStructureException if the beam is a mechanism
+     */
+    AnalysisResult analyze(BeamModel beamModel);
+
+    /**
+     * Estimate the time to analyze a model on a nominal machine.
+     * {@link EngineBenchmark} measures how far each engine's estimates are off on
+     * this machine, and the selector corrects for it.
+     *
+     * @param beamModel The beam
+     * @return Estimated time in nanoseconds
+     */
+    double estimateCost(BeamModel beamModel);
+
+    /**
+     * Check whether this engine solves on the FEA mesh, so that progressive mesh
+     * refinement gives the same answer coarse-first. Other engines are run once
+     * even when the caller asks for refinement.
+     *
+     * @return True if the engine's results can be refined progressively
+     */
+    default boolean supportsRefinement() {
+        return false;
+    }
+
+    /**
+     * Check whether results are final answers that may be kept across sessions:
+     * exact, or solved on the full mesh rather than refined to a tolerance
+     *
+     * @return True if results may be stored in the disk cache
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Compute only the support reactions
+     *
+     * @param beamModel The beam
+     * @return Vertical reactions in kips, in the order of the model's support list
+     */
+    default double[] reactions(BeamModel beamModel) {
+        double[] reactions = new double[beamModel.getSupports().size()];
+        reactions(beamModel, reactions, null);
+        return reactions;
+    }
+
+    /**
+     * Compute only the support reactions into caller-owned arrays. Engines with a
+     * cheaper path than a full analysis should override this.
+     *
+     * @param beamModel The beam
+     * @param forces Output for vertical reactions in kips, in support order
+     * @param moments Output for reaction moments in kip-ft; may be null
+     * @throws UnstableStructureException if the beam is a mechanism
+     */
+    default void reactions(BeamModel beamModel, double[] forces, double[] moments) {
+        AnalysisResult result = analyze(beamModel);
+        for (int i = 0; i < result.getSupportCount(); i++) {
+            forces[i] = result.getReactionForce(i);
+            if (moments != null) {
+                moments[i] = result.getReactionMoment(i);
+            }
+        }
+    }
+}
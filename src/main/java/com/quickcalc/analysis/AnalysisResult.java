@@ -0,0 +1,331 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.Support;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable result of a beam analysis.
+ * Deflections and rotations are given at mesh nodes; shear and moment are given
+ * at diagram stations, where a position appears twice at a discontinuity
+ * (left value first, then right value).
+ *
+ * Units: positions in feet, deflections in inches (positive up), rotations in
+ * radians, shear and reactions in kips, moments in kip-ft (sagging positive).
+ */
+public class AnalysisResult {
+
+    private final double[] nodePositions;
+    private final double[] deflections;
+    private final double[] rotations;
+
+    private final double[] stationPositions;
+    private final double[] shear;
+    private final double[] moment;
+
+    private final double[] supportPositions;
+    private final double[] reactionForces;
+    private final double[] reactionMoments;
+
+    private final int maxDeflectionIndex;
+    private final int maxShearIndex;
+    private final int maxMomentIndex;
+
+    AnalysisResult(double[] nodePositions, double[] deflections, double[] rotations,
+                   double[] stationPositions, double[] shear, double[] moment,
+                   double[] supportPositions, double[] reactionForces, double[] reactionMoments) {
+        this.nodePositions = nodePositions;
+        this.deflections = deflections;
+        this.rotations = rotations;
+        this.stationPositions = stationPositions;
+        this.shear = shear;
+        this.moment = moment;
+        this.supportPositions = supportPositions;
+        this.reactionForces = reactionForces;
+        this.reactionMoments = reactionMoments;
+        this.maxDeflectionIndex = indexOfMaxAbs(deflections);
+        this.maxShearIndex = indexOfMaxAbs(shear);
+        this.maxMomentIndex = indexOfMaxAbs(moment);
+    }
+
+    private static int indexOfMaxAbs(double[] values) {
+        int index = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (Math.abs(values[i]) > Math.abs(values[index])) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    public int getNodeCount() {
+        return nodePositions.length;
+    }
+
+    public int getElementCount() {
+        return nodePositions.length - 1;
+    }
+
+    public double getNodePosition(int node) {
+        return nodePositions[node];
+    }
+
+    public double getDeflection(int node) {
+        return deflections[node];
+    }
+
+    public double getRotation(int node) {
+        return rotations[node];
+    }
+
+    public int getStationCount() {
+        return stationPositions.length;
+    }
+
+    public double getStationPosition(int station) {
+        return stationPositions[station];
+    }
+
+    public double getShear(int station) {
+        return shear[station];
+    }
+
+    public double getMoment(int station) {
+        return moment[station];
+    }
+
+    /**
+     * Get the number of supports, in the order of the analyzed model's support list
+     */
+    public int getSupportCount() {
+        return supportPositions.length;
+    }
+
+    public double getSupportPosition(int support) {
+        return supportPositions[support];
+    }
+
+    public double getReactionForce(int support) {
+        return reactionForces[support];
+    }
+
+    public double getReactionMoment(int support) {
+        return reactionMoments[support];
+    }
+
+    /**
+     * Get the deflection with the largest magnitude
+     *
+     * @return Signed deflection in inches
+     */
+    public double getMaxDeflection() {
+        return deflections[maxDeflectionIndex];
+    }
+
+    /**
+     * Get the location of the largest deflection
+     *
+     * @return Position in feet
+     */
+    public double getMaxDeflectionLocation() {
+        return nodePositions[maxDeflectionIndex];
+    }
+
+    /**
+     * Get the shear with the largest magnitude
+     *
+     * @return Signed shear in kips
+     */
+    public double getMaxShear() {
+        return shear.length == 0 ? 0.0 : shear[maxShearIndex];
+    }
+
+    /**
+     * Get the moment with the largest magnitude
+     *
+     * @return Signed moment in kip-ft
+     */
+    public double getMaxMoment() {
+        return moment.length == 0 ? 0.0 : moment[maxMomentIndex];
+    }
+
+    /**
+     * Get the location of the largest moment
+     *
+     * @return Position in feet
+     */
+    public double getMaxMomentLocation() {
+        return stationPositions.length == 0 ? 0.0 : stationPositions[maxMomentIndex];
+    }
+
+    /**
+     * Get the deflection at any position using Hermite interpolation of the nodal results
+     *
+     * @param position Position in feet
+     * @return Deflection in inches
+     */
+    public double getDeflectionAt(double position) {
+        int element = findElement(position);
+        double x1 = nodePositions[element];
+        double x2 = nodePositions[element + 1];
+        double lengthInches = (x2 - x1) * 12.0;
+        double xi = (position - x1) / (x2 - x1);
+        double xi2 = xi * xi;
+        double xi3 = xi2 * xi;
+        return (1 - 3 * xi2 + 2 * xi3) * deflections[element]
+             + lengthInches * (xi - 2 * xi2 + xi3) * rotations[element]
+             + (3 * xi2 - 2 * xi3) * deflections[element + 1]
+             + lengthInches * (xi3 - xi2) * rotations[element + 1];
+    }
+
+    /**
+     * Get the bending moment at any position by interpolating between diagram stations.
+     * At a discontinuity the value just right of the position is returned.
+     *
+     * @param position Position in feet
+     * @return Moment in kip-ft
+     */
+    public double getMomentAt(double position) {
+        return interpolateStations(moment, position);
+    }
+
+    /**
+     * Get the shear at any position by interpolating between diagram stations.
+     * At a discontinuity the value just right of the position is returned.
+     *
+     * @param position Position in feet
+     * @return Shear in kips
+     */
+    public double getShearAt(double position) {
+        return interpolateStations(shear, position);
+    }
+
+    private double interpolateStations(double[] values, double position) {
+        int count = stationPositions.length;
+        if (count == 0) {
+            return 0.0;
+        }
+        if (position <= stationPositions[0]) {
+            return values[0];
+        }
+        if (position >= stationPositions[count - 1]) {
+            return values[count - 1];
+        }
+        // Last station at or before the position
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (stationPositions[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (low + 1 >= count) {
+            return values[low];
+        }
+        double x1 = stationPositions[low];
+        double x2 = stationPositions[low + 1];
+        if (x2 == x1) {
+            return values[low + 1];
+        }
+        double ratio = (position - x1) / (x2 - x1);
+        return values[low] + ratio * (values[low + 1] - values[low]);
+    }
+
+    private int findElement(double position) {
+        int last = nodePositions.length - 2;
+        if (position <= nodePositions[0]) {
+            return 0;
+        }
+        if (position >= nodePositions[last + 1]) {
+            return last;
+        }
+        int low = 0;
+        int high = last;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (nodePositions[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Reorder the reactions to follow a support list that holds the same supports
+     * in a different order, as happens when a cached result is reused for an
+     * equivalent model.
+     *
+     * @param supports Support list of the requesting model
+     * @return This result if the order already matches, otherwise a reordered copy
+     * @throws IllegalArgumentException if the supports do not match this result
+     */
+    public AnalysisResult withSupportOrder(List<Support> supports) {
+        int count = supportPositions.length;
+        if (supports.size() != count) {
+            throw new IllegalArgumentException("Expected " + count + " supports, got " + supports.size());
+        }
+        boolean[] used = new boolean[count];
+        int[] order = new int[count];
+        boolean identity = true;
+        for (int i = 0; i < count; i++) {
+            double position = supports.get(i).getPosition();
+            int match = -1;
+            for (int j = 0; j < count; j++) {
+                if (!used[j] && Math.abs(supportPositions[j] - position) <= FeaBeamSolver.POSITION_TOLERANCE) {
+                    match = j;
+                    break;
+                }
+            }
+            if (match < 0) {
+                throw new IllegalArgumentException(String.format("No reaction for support at %.2f ft", position));
+            }
+            used[match] = true;
+            order[i] = match;
+            identity &= match == i;
+        }
+        if (identity) {
+            return this;
+        }
+
+        double[] positions = new double[count];
+        double[] forces = new double[count];
+        double[] moments = new double[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = supportPositions[order[i]];
+            forces[i] = reactionForces[order[i]];
+            moments[i] = reactionMoments[order[i]];
+        }
+        return new AnalysisResult(nodePositions, deflections, rotations,
+            stationPositions, shear, moment, positions, forces, moments);
+    }
+
+    /**
+     * Approximate heap footprint, used to bound result caches
+     *
+     * @return Size in bytes
+     */
+    public long getEstimatedSizeBytes() {
+        long doubles = 3L * nodePositions.length + 3L * stationPositions.length + 3L * supportPositions.length;
+        return 8 * doubles + 9 * 16 + 64;
+    }
+
+    /**
+     * Get summary values keyed for the results panel
+     *
+     * @return Map with maxMoment, maxShear and maxDeflection
+     */
+    public Map<String, Double> getSummary() {
+        Map<String, Double> summary = new HashMap<>();
+        summary.put("maxMoment", getMaxMoment());
+        summary.put("maxShear", getMaxShear());
+        summary.put("maxDeflection", getMaxDeflection());
+        return summary;
+    }
+}
@@ -0,0 +1,134 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache of analysis results keyed by model fingerprint.
+ *
+ * Entries are evicted oldest-access-first once the estimated size of the cached
+ * results exceeds the byte limit. Because the key is a canonical content hash,
+ * returning a model to an earlier state (undo, or re-entering the same values)
+ * finds the earlier result without re-solving.
+ *
+ * All methods are synchronized; the cache is shared between the FX thread and
+ * the analysis worker.
+ */
+public class AnalysisResultCache {
+
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private static final AnalysisResultCache SHARED = new AnalysisResultCache(DEFAULT_MAX_BYTES);
+
+    private final long maxBytes;
+    private final LinkedHashMap<ModelFingerprint, AnalysisResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Constructor
+     *
+     * @param maxBytes Upper bound on the estimated size of cached results
+     */
+    public AnalysisResultCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Get the process-wide cache
+     */
+    public static AnalysisResultCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Look up the result for a model
+     *
+     * @param beamModel The model to look up
+     * @return Cached result with reactions ordered to match the model's supports, or null on a miss
+     */
+    public AnalysisResult get(BeamModel beamModel) {
+        AnalysisResult result = get(ModelFingerprint.of(beamModel));
+        return result == null ? null : result.withSupportOrder(beamModel.getSupports());
+    }
+
+    /**
+     * Look up a result by fingerprint. The reactions follow the support order of
+     * the model the result was stored for.
+     *
+     * @param fingerprint Model fingerprint
+     * @return Cached result, or null on a miss
+     */
+    public synchronized AnalysisResult get(ModelFingerprint fingerprint) {
+        AnalysisResult result = entries.get(fingerprint);
+        if (result == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return result;
+    }
+
+    /**
+     * Store a result, evicting least recently used entries as needed
+     *
+     * @param fingerprint Fingerprint of the analyzed model
+     * @param result The result
+     */
+    public synchronized void put(ModelFingerprint fingerprint, AnalysisResult result) {
+        long size = result.getEstimatedSizeBytes();
+        if (size > maxBytes) {
+            return; // Would evict everything else and still not fit
+        }
+        AnalysisResult previous = entries.put(fingerprint, result);
+        if (previous != null) {
+            sizeBytes -= previous.getEstimatedSizeBytes();
+        }
+        sizeBytes += size;
+
+        Iterator<Map.Entry<ModelFingerprint, AnalysisResult>> eldest = entries.entrySet().iterator();
+        while (sizeBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<ModelFingerprint, AnalysisResult> entry = eldest.next();
+            sizeBytes -= entry.getValue().getEstimatedSizeBytes();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+}
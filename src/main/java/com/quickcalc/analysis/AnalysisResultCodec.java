@@ -0,0 +1,121 @@
+package com.quickcalc.analysis;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact binary encoding of AnalysisResult.
+ *
+ * Layout: magic, format version, the version of the solvers that produced the
+ * result, then the node, station and support arrays, each written as a count
+ * followed by raw doubles.
+ */
+public final class AnalysisResultCodec {
+
+    private static final int MAGIC = 0x51435231; // "QCR1"
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAX_COUNT = 1 << 24;
+
+    private AnalysisResultCodec() {
+    }
+
+    /**
+     * Write a result
+     *
+     * @param result The result to encode
+     * @param solverVersion Version of the solvers that produced the result
+     * @param out Destination
+     */
+    public static void write(AnalysisResult result, int solverVersion, DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(solverVersion);
+
+        int nodes = result.getNodeCount();
+        out.writeInt(nodes);
+        for (int i = 0; i < nodes; i++) {
+            out.writeDouble(result.getNodePosition(i));
+            out.writeDouble(result.getDeflection(i));
+            out.writeDouble(result.getRotation(i));
+        }
+
+        int stations = result.getStationCount();
+        out.writeInt(stations);
+        for (int i = 0; i < stations; i++) {
+            out.writeDouble(result.getStationPosition(i));
+            out.writeDouble(result.getShear(i));
+            out.writeDouble(result.getMoment(i));
+        }
+
+        int supports = result.getSupportCount();
+        out.writeInt(supports);
+        for (int i = 0; i < supports; i++) {
+            out.writeDouble(result.getSupportPosition(i));
+            out.writeDouble(result.getReactionForce(i));
+            out.writeDouble(result.getReactionMoment(i));
+        }
+    }
+
+    /**
+     * Read a result written by {@link #write}
+     *
+     * @param in Source
+     * @param solverVersion Version of the solvers the result must come from
+     * @return The decoded result
+     * @throws IOException if the data is truncated, not in this format, or from other solvers
+     */
+    public static AnalysisResult read(DataInput in, int solverVersion) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an analysis result");
+        }
+        int version = in.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported result format version " + version);
+        }
+        int writtenBy = in.readInt();
+        if (writtenBy != solverVersion) {
+            throw new IOException("Result from solver version " + writtenBy + ", expected " + solverVersion);
+        }
+
+        int nodes = readCount(in);
+        if (nodes < 2) {
+            throw new IOException("Result must have at least two nodes");
+        }
+        double[] nodePositions = new double[nodes];
+        double[] deflections = new double[nodes];
+        double[] rotations = new double[nodes];
+        readTriples(in, nodePositions, deflections, rotations);
+
+        int stations = readCount(in);
+        double[] stationPositions = new double[stations];
+        double[] shear = new double[stations];
+        double[] moment = new double[stations];
+        readTriples(in, stationPositions, shear, moment);
+
+        int supports = readCount(in);
+        double[] supportPositions = new double[supports];
+        double[] reactionForces = new double[supports];
+        double[] reactionMoments = new double[supports];
+        readTriples(in, supportPositions, reactionForces, reactionMoments);
+
+        return new AnalysisResult(nodePositions, deflections, rotations,
+            stationPositions, shear, moment, supportPositions, reactionForces, reactionMoments);
+    }
+
+    private static int readCount(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IOException("Invalid array length " + count);
+        }
+        return count;
+    }
+
+    private static void readTriples(DataInput in, double[] a, double[] b, double[] c) throws IOException {
+        for (int i = 0; i < a.length; i++) {
+            a[i] = in.readDouble();
+            b[i] = in.readDouble();
+            c[i] = in.readDouble();
+        }
+    }
+}
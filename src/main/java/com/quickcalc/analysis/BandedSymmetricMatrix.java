@@ -0,0 +1,224 @@
+package com.quickcalc.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Symmetric banded matrix with an in-place Cholesky factorization.
+ * Only the lower band is stored, so assembly, factorization and solves
+ * are all O(n) for the fixed bandwidth of a beam mesh.
+ */
+public class BandedSymmetricMatrix {
+
+    // A pivot this small relative to its original diagonal is treated as zero
+    private static final double ZERO_PIVOT_TOLERANCE = 1e-11;
+
+    private final int size;
+    private final int bandwidth; // Number of sub-diagonals stored
+    private final int stride;
+    private final double[] values;
+    private boolean factored;
+
+    /**
+     * Constructor
+     *
+     * @param size Number of rows and columns
+     * @param bandwidth Number of sub-diagonals (3 for a two-DOF-per-node beam)
+     */
+    public BandedSymmetricMatrix(int size, int bandwidth) {
+        this.size = size;
+        this.bandwidth = bandwidth;
+        this.stride = bandwidth + 1;
+        this.values = new double[size * stride];
+    }
+
+    private BandedSymmetricMatrix(BandedSymmetricMatrix other) {
+        this.size = other.size;
+        this.bandwidth = other.bandwidth;
+        this.stride = other.stride;
+        this.values = other.values.clone();
+        this.factored = other.factored;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getBandwidth() {
+        return bandwidth;
+    }
+
+    public boolean isFactored() {
+        return factored;
+    }
+
+    /**
+     * Get an entry of the matrix (either triangle)
+     */
+    public double get(int row, int col) {
+        if (row < col) {
+            int tmp = row;
+            row = col;
+            col = tmp;
+        }
+        if (row - col > bandwidth) {
+            return 0.0;
+        }
+        return values[row * stride + (row - col)];
+    }
+
+    /**
+     * Add to an entry of the matrix. Entries above the diagonal are mirrored
+     * onto the stored lower band, so callers should add each symmetric pair once.
+     */
+    public void add(int row, int col, double value) {
+        if (row < col) {
+            int tmp = row;
+            row = col;
+            col = tmp;
+        }
+        if (row - col > bandwidth) {
+            throw new IllegalArgumentException("Entry (" + row + ", " + col + ") is outside the band");
+        }
+        values[row * stride + (row - col)] += value;
+    }
+
+    /**
+     * Set an entry of the matrix
+     */
+    public void set(int row, int col, double value) {
+        if (row < col) {
+            int tmp = row;
+            row = col;
+            col = tmp;
+        }
+        if (row - col > bandwidth) {
+            throw new IllegalArgumentException("Entry (" + row + ", " + col + ") is outside the band");
+        }
+        values[row * stride + (row - col)] = value;
+    }
+
+    /**
+     * Zero every entry so the matrix can be reassembled
+     */
+    public void clear() {
+        Arrays.fill(values, 0.0);
+        factored = false;
+    }
+
+    /**
+     * Overwrite this matrix with the entries of another of the same shape
+     *
+     * @param other Source matrix
+     */
+    public void copyFrom(BandedSymmetricMatrix other) {
+        if (other.size != size || other.bandwidth != bandwidth) {
+            throw new IllegalArgumentException("Matrix shapes differ");
+        }
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        factored = other.factored;
+    }
+
+    /**
+     * Replace a row and column with the identity, used to impose a zero displacement
+     */
+    public void constrain(int dof) {
+        int first = Math.max(0, dof - bandwidth);
+        for (int col = first; col < dof; col++) {
+            values[dof * stride + (dof - col)] = 0.0;
+        }
+        int last = Math.min(size - 1, dof + bandwidth);
+        for (int row = dof + 1; row <= last; row++) {
+            values[row * stride + (row - dof)] = 0.0;
+        }
+        values[dof * stride] = 1.0;
+    }
+
+    /**
+     * Multiply the (unfactored) matrix by a vector
+     *
+     * @param x Input vector
+     * @param result Output vector, overwritten
+     */
+    public void multiply(double[] x, double[] result) {
+        if (factored) {
+            throw new IllegalStateException("Cannot multiply a factored matrix");
+        }
+        Arrays.fill(result, 0, size, 0.0);
+        for (int row = 0; row < size; row++) {
+            int base = row * stride;
+            result[row] += values[base] * x[row];
+            int first = Math.max(0, row - bandwidth);
+            for (int col = first; col < row; col++) {
+                double a = values[base + (row - col)];
+                result[row] += a * x[col];
+                result[col] += a * x[row];
+            }
+        }
+    }
+
+    /**
+     * Factor the matrix in place as L·Lᵀ
+     *
+     * @throws SingularMatrixException if a pivot is zero, negative or vanishingly small
+     */
+    public void factor() {
+        for (int i = 0; i < size; i++) {
+            int rowBase = i * stride;
+            int first = Math.max(0, i - bandwidth);
+            for (int j = first; j <= i; j++) {
+                int colBase = j * stride;
+                double sum = values[rowBase + (i - j)];
+                int kStart = Math.max(first, j - bandwidth);
+                for (int k = kStart; k < j; k++) {
+                    sum -= values[rowBase + (i - k)] * values[colBase + (j - k)];
+                }
+                if (i == j) {
+                    if (!(sum > ZERO_PIVOT_TOLERANCE * Math.abs(values[rowBase]))) {
+                        throw new SingularMatrixException(i);
+                    }
+                    values[rowBase] = Math.sqrt(sum);
+                } else {
+                    values[rowBase + (i - j)] = sum / values[colBase];
+                }
+            }
+        }
+        factored = true;
+    }
+
+    /**
+     * Solve A·x = b in place using the factorization
+     *
+     * @param rhs Right-hand side, overwritten with the solution
+     */
+    public void solve(double[] rhs) {
+        if (!factored) {
+            throw new IllegalStateException("Matrix must be factored before solving");
+        }
+        // Forward substitution with L
+        for (int i = 0; i < size; i++) {
+            int rowBase = i * stride;
+            double sum = rhs[i];
+            int first = Math.max(0, i - bandwidth);
+            for (int k = first; k < i; k++) {
+                sum -= values[rowBase + (i - k)] * rhs[k];
+            }
+            rhs[i] = sum / values[rowBase];
+        }
+        // Back substitution with Lᵀ
+        for (int i = size - 1; i >= 0; i--) {
+            double sum = rhs[i];
+            int last = Math.min(size - 1, i + bandwidth);
+            for (int k = i + 1; k <= last; k++) {
+                sum -= values[k * stride + (k - i)] * rhs[k];
+            }
+            rhs[i] = sum / values[i * stride];
+        }
+    }
+
+    /**
+     * Create an independent copy of this matrix
+     */
+    public BandedSymmetricMatrix copy() {
+        return new BandedSymmetricMatrix(this);
+    }
+}
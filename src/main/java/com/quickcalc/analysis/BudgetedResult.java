@@ -0,0 +1,54 @@
+package com.quickcalc.analysis;
+
+/**
+ * Result of a time-budgeted analysis, with the accuracy that the budget bought
+ */
+public class BudgetedResult {
+
+    private final AnalysisResult result;
+    private final long budgetNanos;
+    private final long elapsedNanos;
+    private final double estimatedRelativeError;
+
+    BudgetedResult(AnalysisResult result, long budgetNanos, long elapsedNanos, double estimatedRelativeError) {
+        this.result = result;
+        this.budgetNanos = budgetNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.estimatedRelativeError = estimatedRelativeError;
+    }
+
+    public AnalysisResult getResult() {
+        return result;
+    }
+
+    public int getElementCount() {
+        return result.getElementCount();
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public boolean isWithinBudget() {
+        return elapsedNanos <= budgetNanos;
+    }
+
+    /**
+     * Get the estimated relative error of the maximum deflection
+     *
+     * @return Relative error estimate, or NaN if the budget left no room for a comparison solve
+     */
+    public double getEstimatedRelativeError() {
+        return estimatedRelativeError;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d elements in %.2f ms (budget %.2f ms), estimated error %.2e",
+                             getElementCount(), elapsedNanos / 1e6, budgetNanos / 1e6, estimatedRelativeError);
+    }
+}
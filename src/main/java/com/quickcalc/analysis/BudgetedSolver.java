@@ -0,0 +1,74 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+/**
+ * Deadline-aware analysis: picks the densest mesh expected to finish within a
+ * time budget, using the running SolveCostModel calibration.
+ *
+ * The budget is spent on two nested meshes, n/2 and n elements, so the change
+ * between them gives an accuracy estimate for the finer one. If the coarse solve
+ * overruns its prediction and the fine solve no longer fits, the coarse result
+ * is returned without an estimate rather than missing the deadline. Meshes are
+ * capped at MAX_ELEMENTS, so large budgets simply finish early.
+ */
+public class BudgetedSolver {
+
+    // A bigger budget must not buy a finer mesh than the solver resolves accurately
+    public static final int MAX_ELEMENTS = FeaBeamSolver.MAX_ACCURATE_ELEMENTS;
+
+    // Element error in sampled deflection falls at least as h², so the fine error
+    // is about a third of the coarse-to-fine difference
+    private static final double RICHARDSON_FACTOR = 1.0 / 3.0;
+
+    private final FeaBeamSolver solver;
+    private final SolveCostModel costModel;
+
+    public BudgetedSolver() {
+        this(new FeaBeamSolver(), SolveCostModel.shared());
+    }
+
+    public BudgetedSolver(FeaBeamSolver solver, SolveCostModel costModel) {
+        this.solver = solver;
+        this.costModel = costModel;
+    }
+
+    /**
+     * Analyze a beam within a time budget
+     *
+     * @param beamModel The beam to analyze
+     * @param budgetNanos Time budget in nanoseconds
+     * @return Result with element count, elapsed time and accuracy estimate
+     */
+    public BudgetedResult solve(BeamModel beamModel, long budgetNanos) {
+        long start = System.nanoTime();
+
+        // Two solves: n/2 + n elements plus two overheads must fit the budget
+        long overhead = costModel.estimateNanos(0);
+        double perElement = costModel.getNanosPerElement();
+        long affordable = (long) ((budgetNanos - 2 * overhead) / (1.5 * perElement));
+        int coarseTarget = (int) Math.max(1, Math.min(MAX_ELEMENTS / 2, affordable / 2));
+
+        double[] coarseNodes = FeaBeamSolver.generateNodePositions(beamModel, coarseTarget);
+        AnalysisResult coarse = timedSolve(beamModel, coarseNodes);
+
+        double[] fineNodes = ProgressiveSolver.bisect(coarseNodes);
+        long elapsed = System.nanoTime() - start;
+        if (elapsed + costModel.estimateNanos(fineNodes.length - 1) > budgetNanos) {
+            return new BudgetedResult(coarse, budgetNanos, System.nanoTime() - start, Double.NaN);
+        }
+
+        AnalysisResult fine = timedSolve(beamModel, fineNodes);
+        double fineMax = Math.abs(fine.getMaxDeflection());
+        double difference = Math.abs(fineMax - Math.abs(coarse.getMaxDeflection()));
+        double error = fineMax > 0.0 ? RICHARDSON_FACTOR * difference / fineMax : 0.0;
+        return new BudgetedResult(fine, budgetNanos, System.nanoTime() - start, error);
+    }
+
+    private AnalysisResult timedSolve(BeamModel beamModel, double[] nodes) {
+        long start = System.nanoTime();
+        AnalysisResult result = solver.solveOnMesh(beamModel, nodes);
+        costModel.record(result.getElementCount(), System.nanoTime() - start);
+        return result;
+    }
+}
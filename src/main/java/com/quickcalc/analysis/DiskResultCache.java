@@ -0,0 +1,277 @@
+package com.quickcalc.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persistent content-addressed cache of analysis results, shared across sessions.
+ *
+ * Each result is stored in its own file named by the model fingerprint. Files
+ * are written to a temporary name and moved into place atomically, so a reader
+ * never sees a partial result. A file's modification time is refreshed on every
+ * hit and serves as its access time; once the directory exceeds its size cap
+ * the least recently accessed files are deleted.
+ *
+ * Every file records the solver version it was computed with, and files from
+ * another version are discarded on read, so results never outlive a change to
+ * the solvers. Only final results belong here: exact or full-mesh solutions,
+ * not progressive or time-budgeted approximations.
+ *
+ * The cache is best effort: I/O failures are logged and treated as misses.
+ */
+public class DiskResultCache {
+
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    // Bump whenever a solver or engine change alters the results it computes
+    public static final int SOLVER_VERSION = 1;
+
+    private static final String EXTENSION = ".qcr";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final int solverVersion;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private long sizeBytes = -1; // Unknown until the directory is first scanned
+
+    /**
+     * Constructor for results of the current solvers
+     *
+     * @param directory Cache directory; created on first write
+     * @param maxBytes Size cap for all cached files
+     */
+    public DiskResultCache(Path directory, long maxBytes) {
+        this(directory, maxBytes, SOLVER_VERSION);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param directory Cache directory; created on first write
+     * @param maxBytes Size cap for all cached files
+     * @param solverVersion Version stored results must have been computed with
+     */
+    public DiskResultCache(Path directory, long maxBytes, int solverVersion) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.solverVersion = solverVersion;
+    }
+
+    /**
+     * Get the default cache directory, ~/.quickcalc/cache
+     */
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".quickcalc", "cache");
+    }
+
+    /**
+     * Look up a result
+     *
+     * @param fingerprint Model fingerprint
+     * @return The stored result, or null if absent, unreadable or from another solver version
+     */
+    public AnalysisResult get(ModelFingerprint fingerprint) {
+        Path file = fileFor(fingerprint);
+        try (InputStream stream = Files.newInputStream(file)) {
+            AnalysisResult result = AnalysisResultCodec.read(new DataInputStream(new BufferedInputStream(stream)), solverVersion);
+            touch(file);
+            hitCount.incrementAndGet();
+            return result;
+        } catch (NoSuchFileException e) {
+            missCount.incrementAndGet();
+            return null;
+        } catch (IOException e) {
+            System.err.println("Discarding cached result " + file + ": " + e.getMessage());
+            delete(file);
+            missCount.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Store a final result, evicting least recently accessed files if the cap is exceeded
+     *
+     * @param fingerprint Fingerprint of the analyzed model
+     * @param result The result; exact or solved on the full mesh
+     */
+    public synchronized void put(ModelFingerprint fingerprint, AnalysisResult result) {
+        Path file = fileFor(fingerprint);
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            if (sizeBytes < 0) {
+                sizeBytes = scanSize();
+            }
+            long previousSize = Files.exists(file) ? Files.size(file) : 0;
+
+            temp = Files.createTempFile(directory, fingerprint.toString(), ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                AnalysisResultCodec.write(result, solverVersion, out);
+            }
+            long size = Files.size(temp);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+
+            sizeBytes += size - previousSize;
+            if (sizeBytes > maxBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to cache result " + file + ": " + e.getMessage());
+        } finally {
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    /**
+     * Delete every cached result
+     */
+    public synchronized void clear() {
+        for (Path file : listFiles()) {
+            delete(file);
+        }
+        sizeBytes = 0;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Get the total size of cached files, scanning the directory if not yet known
+     */
+    public synchronized long getSizeBytes() {
+        if (sizeBytes < 0) {
+            sizeBytes = scanSize();
+        }
+        return sizeBytes;
+    }
+
+    private Path fileFor(ModelFingerprint fingerprint) {
+        return directory.resolve(fingerprint + EXTENSION);
+    }
+
+    /**
+     * Remove least recently accessed files until the directory is back under the cap
+     */
+    private void evict() {
+        List<CachedFile> files = new ArrayList<>();
+        long total = 0;
+        for (Path file : listFiles()) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                files.add(new CachedFile(file, attributes.size(), attributes.lastModifiedTime()));
+                total += attributes.size();
+            } catch (IOException e) {
+                // Removed concurrently; nothing to account for
+            }
+        }
+        files.sort(Comparator.comparing(cached -> cached.accessed));
+
+        for (CachedFile cached : files) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (delete(cached.path)) {
+                total -= cached.size;
+            }
+        }
+        sizeBytes = total;
+    }
+
+    private long scanSize() {
+        long total = 0;
+        for (Path file : listFiles()) {
+            try {
+                total += Files.size(file);
+            } catch (IOException e) {
+                // Removed concurrently
+            }
+        }
+        return total;
+    }
+
+    private List<Path> listFiles() {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to list result cache: " + e.getMessage());
+        }
+        return files;
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Only affects eviction order
+        }
+    }
+
+    private static boolean delete(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static final class CachedFile {
+        final Path path;
+        final long size;
+        final FileTime accessed;
+
+        CachedFile(Path path, long size, FileTime accessed) {
+            this.path = path;
+            this.size = size;
+            this.accessed = accessed;
+        }
+    }
+}
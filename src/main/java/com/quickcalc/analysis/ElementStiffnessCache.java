@@ -0,0 +1,159 @@
+package com.quickcalc.analysis;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small direct-mapped cache of 4x4 beam element stiffness matrices.
+ * Keys are the element length and end EI values quantized to fixed
+ * resolutions, so a uniform mesh computes each distinct matrix once.
+ * Entries are immutable and slots are replaced atomically, which makes
+ * the cache safe to share between analysis threads without locking.
+ */
+public class ElementStiffnessCache {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    // Quantization resolutions: 1 micro-inch of length, 0.001 kip-in² of EI
+    private static final double LENGTH_QUANTUM = 1e-6;
+    private static final double EI_QUANTUM = 1e-3;
+
+    // Gauss-Legendre points and weights on [0, 1] for tapered elements
+    private static final double[] GAUSS_POINTS = {
+        0.5 - 0.5 * Math.sqrt(0.6), 0.5, 0.5 + 0.5 * Math.sqrt(0.6)
+    };
+    private static final double[] GAUSS_WEIGHTS = {5.0 / 18.0, 8.0 / 18.0, 5.0 / 18.0};
+
+    private static final ElementStiffnessCache SHARED = new ElementStiffnessCache(DEFAULT_CAPACITY);
+
+    private static final class Entry {
+        final long length;
+        final long startEI;
+        final long endEI;
+        final double[] matrix;
+
+        Entry(long length, long startEI, long endEI, double[] matrix) {
+            this.length = length;
+            this.startEI = startEI;
+            this.endEI = endEI;
+            this.matrix = matrix;
+        }
+    }
+
+    private final Entry[] slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor
+     *
+     * @param capacity Number of slots, rounded up to a power of two
+     */
+    public ElementStiffnessCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the cache shared by solvers that are not given their own
+     */
+    public static ElementStiffnessCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Get the stiffness matrix of an element whose EI varies linearly between its ends.
+     * The returned array is row-major [v1, θ1, v2, θ2] and must not be modified.
+     *
+     * @param length Element length in inches
+     * @param startEI EI at the first node in kip-in²
+     * @param endEI EI at the second node in kip-in²
+     * @return 16-element stiffness matrix in kip and inch units
+     */
+    public double[] get(double length, double startEI, double endEI) {
+        long qLength = Math.round(length / LENGTH_QUANTUM);
+        long qStart = Math.round(startEI / EI_QUANTUM);
+        long qEnd = Math.round(endEI / EI_QUANTUM);
+
+        int index = hash(qLength, qStart, qEnd) & mask;
+        Entry entry = slots[index];
+        if (entry != null && entry.length == qLength && entry.startEI == qStart && entry.endEI == qEnd) {
+            hits.increment();
+            return entry.matrix;
+        }
+
+        misses.increment();
+        double[] matrix = qStart == qEnd
+            ? prismaticStiffness(length, startEI)
+            : taperedStiffness(length, startEI, endEI);
+        slots[index] = new Entry(qLength, qStart, qEnd, matrix);
+        return matrix;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Remove all entries and reset the counters
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = null;
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Closed-form Euler-Bernoulli stiffness for a prismatic element
+     */
+    static double[] prismaticStiffness(double length, double ei) {
+        double l = length;
+        double c = ei / (l * l * l);
+        return new double[] {
+             12 * c,      6 * l * c,     -12 * c,      6 * l * c,
+             6 * l * c,   4 * l * l * c, -6 * l * c,   2 * l * l * c,
+            -12 * c,     -6 * l * c,      12 * c,     -6 * l * c,
+             6 * l * c,   2 * l * l * c, -6 * l * c,   4 * l * l * c
+        };
+    }
+
+    /**
+     * Stiffness of a tapered element by Gauss quadrature of EI·B·Bᵀ,
+     * where B holds the second derivatives of the Hermite shape functions
+     */
+    static double[] taperedStiffness(double length, double startEI, double endEI) {
+        double l = length;
+        double[] k = new double[16];
+        double[] b = new double[4];
+        for (int g = 0; g < GAUSS_POINTS.length; g++) {
+            double xi = GAUSS_POINTS[g];
+            double ei = startEI + xi * (endEI - startEI);
+            b[0] = (-6 + 12 * xi) / (l * l);
+            b[1] = (-4 + 6 * xi) / l;
+            b[2] = (6 - 12 * xi) / (l * l);
+            b[3] = (-2 + 6 * xi) / l;
+            double factor = GAUSS_WEIGHTS[g] * l * ei;
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    k[i * 4 + j] += factor * b[i] * b[j];
+                }
+            }
+        }
+        return k;
+    }
+
+    private static int hash(long length, long startEI, long endEI) {
+        long h = length * 0x9E3779B97F4A7C15L;
+        h ^= startEI * 0xC2B2AE3D27D4EB4FL;
+        h ^= endEI * 0x165667B19E3779F9L;
+        h ^= h >>> 29;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,252 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Micro-benchmark of the installed analysis engines on this machine.
+ *
+ * Each engine analyzes a fixed set of representative beams, first untimed to
+ * let the JIT compile it and then timed. The result records throughput and
+ * the ratio of measured to estimated time, which {@link EngineSelector} uses
+ * to correct the engine's cost estimates. Results can be saved so the
+ * benchmark need not be rerun every session.
+ */
+public class EngineBenchmark {
+
+    public static final int DEFAULT_WARMUP_ROUNDS = 20;
+    public static final int DEFAULT_MEASURED_ROUNDS = 50;
+
+    private final List<BeamModel> models;
+    private final int warmupRounds;
+    private final int measuredRounds;
+
+    public EngineBenchmark() {
+        this(standardModels(), DEFAULT_WARMUP_ROUNDS, DEFAULT_MEASURED_ROUNDS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param models Beams every engine analyzes in each round
+     * @param warmupRounds Untimed rounds
+     * @param measuredRounds Timed rounds
+     */
+    public EngineBenchmark(List<BeamModel> models, int warmupRounds, int measuredRounds) {
+        if (models.isEmpty() || measuredRounds <= 0 || warmupRounds < 0) {
+            throw new IllegalArgumentException("Benchmark needs models and at least one measured round");
+        }
+        this.models = new ArrayList<>(models);
+        this.warmupRounds = warmupRounds;
+        this.measuredRounds = measuredRounds;
+    }
+
+    /**
+     * Representative beams: simple span with mixed loads, propped cantilever,
+     * and a three-span continuous beam with a moment load
+     */
+    public static List<BeamModel> standardModels() {
+        BeamModel simple = new BeamModel(24.0);
+        simple.addLoad(new Load(9.0, -12.0, Load.Type.POINT));
+        simple.addLoad(new Load(0.0, 24.0, -0.75));
+
+        BeamModel propped = simple.copy();
+        propped.getSupports().get(0).setType(Support.Type.FIXED);
+
+        BeamModel continuous = simple.copy();
+        continuous.setLength(60.0);
+        continuous.getSupports().get(1).setPosition(60.0);
+        continuous.addSupport(new Support(20.0, Support.Type.ROLLER));
+        continuous.addSupport(new Support(40.0, Support.Type.ROLLER));
+        continuous.addLoad(new Load(30.0, 20.0, Load.Type.MOMENT));
+
+        List<BeamModel> models = new ArrayList<>();
+        Collections.addAll(models, simple, propped, continuous);
+        return models;
+    }
+
+    /**
+     * Benchmark one engine on the models it supports
+     *
+     * @param engine The engine
+     * @return Measurement; zero analyses if the engine supports none of the models
+     */
+    public Measurement measure(AnalysisEngine engine) {
+        List<BeamModel> supported = new ArrayList<>();
+        for (BeamModel model : models) {
+            if (engine.supports(model)) {
+                supported.add(model);
+            }
+        }
+        if (supported.isEmpty()) {
+            return new Measurement(engine.getName(), 0, 0, 0.0);
+        }
+
+        for (int round = 0; round < warmupRounds; round++) {
+            for (BeamModel model : supported) {
+                engine.analyze(model);
+            }
+        }
+
+        double estimated = 0.0;
+        for (BeamModel model : supported) {
+            estimated += engine.estimateCost(model);
+        }
+        estimated *= measuredRounds;
+
+        long start = System.nanoTime();
+        for (int round = 0; round < measuredRounds; round++) {
+            for (BeamModel model : supported) {
+                engine.analyze(model);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Measurement(engine.getName(), measuredRounds * supported.size(), elapsed, estimated);
+    }
+
+    /**
+     * Benchmark every engine of a selector and apply the calibration to it
+     *
+     * @param selector The selector
+     * @return Measurements keyed by engine name
+     */
+    public Map<String, Measurement> run(EngineSelector selector) {
+        Map<String, Measurement> measurements = new LinkedHashMap<>();
+        for (AnalysisEngine engine : selector.getEngines()) {
+            measurements.put(engine.getName(), measure(engine));
+        }
+        selector.applyBenchmark(measurements);
+        return measurements;
+    }
+
+    /**
+     * Get the default location for saved measurements, ~/.quickcalc/engine-benchmark.properties
+     */
+    public static Path defaultFile() {
+        return Paths.get(System.getProperty("user.home"), ".quickcalc", "engine-benchmark.properties");
+    }
+
+    /**
+     * Save measurements
+     *
+     * @param measurements Measurements keyed by engine name
+     * @param file Destination
+     */
+    public static void save(Map<String, Measurement> measurements, Path file) throws IOException {
+        Properties properties = new Properties();
+        for (Measurement measurement : measurements.values()) {
+            String prefix = measurement.getEngineName() + ".";
+            properties.setProperty(prefix + "analyses", Long.toString(measurement.getAnalyses()));
+            properties.setProperty(prefix + "elapsedNanos", Long.toString(measurement.getElapsedNanos()));
+            properties.setProperty(prefix + "estimatedNanos", Double.toString(measurement.getEstimatedNanos()));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "QuickCalc analysis engine benchmark");
+        }
+    }
+
+    /**
+     * Load saved measurements
+     *
+     * @param file Source
+     * @return Measurements keyed by engine name; empty if the file does not exist
+     */
+    public static Map<String, Measurement> load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (NoSuchFileException e) {
+            return new LinkedHashMap<>();
+        }
+
+        Map<String, Measurement> measurements = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.endsWith(".analyses")) {
+                continue;
+            }
+            String name = key.substring(0, key.length() - ".analyses".length());
+            try {
+                measurements.put(name, new Measurement(name,
+                    Long.parseLong(properties.getProperty(key)),
+                    Long.parseLong(properties.getProperty(name + ".elapsedNanos", "0")),
+                    Double.parseDouble(properties.getProperty(name + ".estimatedNanos", "0"))));
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring malformed benchmark entry for " + name);
+            }
+        }
+        return measurements;
+    }
+
+    /**
+     * Benchmark outcome for one engine
+     */
+    public static final class Measurement {
+        private final String engineName;
+        private final long analyses;
+        private final long elapsedNanos;
+        private final double estimatedNanos;
+
+        public Measurement(String engineName, long analyses, long elapsedNanos, double estimatedNanos) {
+            this.engineName = engineName;
+            this.analyses = analyses;
+            this.elapsedNanos = elapsedNanos;
+            this.estimatedNanos = estimatedNanos;
+        }
+
+        public String getEngineName() {
+            return engineName;
+        }
+
+        public long getAnalyses() {
+            return analyses;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getEstimatedNanos() {
+            return estimatedNanos;
+        }
+
+        public double getAnalysesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : analyses * 1e9 / elapsedNanos;
+        }
+
+        public double getNanosPerAnalysis() {
+            return analyses == 0 ? 0.0 : (double) elapsedNanos / analyses;
+        }
+
+        /**
+         * Get the ratio of measured to estimated time (1.0 if nothing was measured)
+         */
+        public double getCalibration() {
+            return analyses == 0 || !(estimatedNanos > 0.0) || elapsedNanos == 0
+                ? 1.0 : elapsedNanos / estimatedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.0f analyses/s (%.1f us each, calibration %.2f)",
+                engineName, getAnalysesPerSecond(), getNanosPerAnalysis() / 1e3, getCalibration());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chooses the fastest installed engine that can analyze a given model.
+ *
+ * An engine's cost estimate is multiplied by its calibration factor, the ratio
+ * of measured to estimated time recorded by {@link EngineBenchmark} on this
+ * machine (1.0 until benchmarked).
+ */
+public class EngineSelector {
+
+    private final List<AnalysisEngine> engines;
+    private final Map<String, Double> calibration = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using every engine installed as a service provider
+     */
+    public EngineSelector() {
+        this(loadInstalled());
+    }
+
+    public EngineSelector(List<AnalysisEngine> engines) {
+        this.engines = Collections.unmodifiableList(new ArrayList<>(engines));
+    }
+
+    /**
+     * Discover engines with ServiceLoader. If two providers share a name the first wins.
+     *
+     * @return Installed engines in discovery order
+     */
+    public static List<AnalysisEngine> loadInstalled() {
+        Map<String, AnalysisEngine> byName = new LinkedHashMap<>();
+        for (AnalysisEngine engine : ServiceLoader.load(AnalysisEngine.class)) {
+            byName.putIfAbsent(engine.getName(), engine);
+        }
+        return new ArrayList<>(byName.values());
+    }
+
+    /**
+     * Pick the engine with the lowest calibrated cost among those supporting the model
+     *
+     * @param beamModel The beam
+     * @return Selected engine
+     * @throws IllegalStateException if no installed engine supports the model
+     */
+    public AnalysisEngine select(BeamModel beamModel) {
+        AnalysisEngine best = null;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (AnalysisEngine engine : engines) {
+            if (!engine.supports(beamModel)) {
+                continue;
+            }
+            double cost = estimateNanos(engine, beamModel);
+            if (best == null || cost < bestCost) {
+                best = engine;
+                bestCost = cost;
+            }
+        }
+        if (best == null) {
+            throw new IllegalStateException("No installed analysis engine supports "
+                + AnalysisEngine.Capability.requiredBy(beamModel));
+        }
+        return best;
+    }
+
+    /**
+     * Analyze a model with the selected engine
+     *
+     * @param beamModel The beam
+     * @return The result
+     */
+    public AnalysisResult analyze(BeamModel beamModel) {
+        return select(beamModel).analyze(beamModel);
+    }
+
+    /**
+     * Get an engine's estimate corrected by its calibration factor
+     *
+     * @param engine The engine
+     * @param beamModel The beam
+     * @return Expected time in nanoseconds on this machine
+     */
+    public double estimateNanos(AnalysisEngine engine, BeamModel beamModel) {
+        return engine.estimateCost(beamModel) * getCalibration(engine.getName());
+    }
+
+    /**
+     * Get an installed engine by name
+     *
+     * @param name Engine name
+     * @return The engine, or null if not installed
+     */
+    public AnalysisEngine getEngine(String name) {
+        for (AnalysisEngine engine : engines) {
+            if (engine.getName().equals(name)) {
+                return engine;
+            }
+        }
+        return null;
+    }
+
+    public List<AnalysisEngine> getEngines() {
+        return engines;
+    }
+
+    public double getCalibration(String engineName) {
+        return calibration.getOrDefault(engineName, 1.0);
+    }
+
+    /**
+     * Set the ratio of measured to estimated time for an engine
+     *
+     * @param engineName Engine name
+     * @param factor Calibration factor; must be positive
+     */
+    public void setCalibration(String engineName, double factor) {
+        if (!(factor > 0.0) || Double.isInfinite(factor)) {
+            throw new IllegalArgumentException("Calibration must be positive: " + factor);
+        }
+        calibration.put(engineName, factor);
+    }
+
+    /**
+     * Apply every measurement of a benchmark run
+     *
+     * @param measurements Measurements keyed by engine name
+     */
+    public void applyBenchmark(Map<String, EngineBenchmark.Measurement> measurements) {
+        for (EngineBenchmark.Measurement measurement : measurements.values()) {
+            if (measurement.getAnalyses() > 0) {
+                setCalibration(measurement.getEngineName(), measurement.getCalibration());
+            }
+        }
+    }
+}
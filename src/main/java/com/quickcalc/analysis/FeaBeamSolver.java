@@ -0,0 +1,675 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.StiffnessSegment;
+import com.quickcalc.models.Support;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Euler-Bernoulli finite element solver for a BeamModel.
+ *
+ * The mesh always has nodes at the beam ends, supports, load points, distributed
+ * load ends and stiffness segment boundaries, so loads land exactly on nodes and
+ * every element lies inside a single segment. Load and segment positions that
+ * nearly coincide with another node share it instead, since a very short element
+ * would leave the stiffness too ill-conditioned to solve; a point load moved onto
+ * a shared node brings its moment about that node, so statics are unchanged.
+ * Element stiffness comes from a shared ElementStiffnessCache, the global matrix
+ * is stored banded, and shear and moment diagrams are recovered exactly from
+ * the reactions by statics.
+ * Models are screened by StabilityChecker before any assembly work is done.
+ * An elastic foundation adds the consistent Winkler stiffness of each element
+ * inside the same band, and its pressure enters the statics as a linear load.
+ * A solve running on an interrupted thread stops with a CancellationException.
+ *
+ * Sign convention: forces and deflections positive up, moments and rotations
+ * positive counterclockwise, internal moment positive in sagging.
+ */
+public class FeaBeamSolver {
+
+    public static final int DEFAULT_MIN_ELEMENTS = 10;
+
+    // Element stiffness grows as EI/h³, so the condition number of the assembled
+    // matrix grows about as n⁴ and round-off swamps the deflections on fine meshes:
+    // a point-loaded span is off by ~2e-4 at 2k elements, ~2e-3 at 4k, and by
+    // orders of magnitude (or reports a spurious mechanism) past 10k
+    public static final int MAX_ACCURATE_ELEMENTS = 2048;
+
+    // Positions closer than this (in feet) share a node
+    static final double POSITION_TOLERANCE = 1e-6;
+
+    // Load and segment positions closer than this fraction of the beam length to another
+    // node share it. An element that much shorter than its neighbour is stiffer by the
+    // cube of the ratio, so anything shorter loses the solution to round-off or trips the
+    // zero-pivot guard; supports and beam ends always keep their own nodes
+    static final double MERGE_TOLERANCE_RATIO = 1e-3;
+
+    // Two DOFs per node and two nodes per element give three sub-diagonals
+    static final int BANDWIDTH = 3;
+
+    // Longest element on an elastic foundation, in radians of the decay wave λx
+    static final double MAX_FOUNDATION_ELEMENT_RADIANS = 0.25;
+
+    // Gauss-Legendre points and weights on [0, 1]
+    private static final double[] GAUSS_POINTS = {
+        0.5 - 0.5 * Math.sqrt(0.6), 0.5, 0.5 + 0.5 * Math.sqrt(0.6)
+    };
+    private static final double[] GAUSS_WEIGHTS = {5.0 / 18.0, 8.0 / 18.0, 5.0 / 18.0};
+
+    // Interrupt status is polled once per this many elements during assembly
+    private static final int CANCEL_CHECK_MASK = 1023;
+
+    private final ElementStiffnessCache stiffnessCache;
+
+    /**
+     * Constructor using the shared element stiffness cache
+     */
+    public FeaBeamSolver() {
+        this(ElementStiffnessCache.shared());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param stiffnessCache Cache of element stiffness matrices
+     */
+    public FeaBeamSolver(ElementStiffnessCache stiffnessCache) {
+        this.stiffnessCache = stiffnessCache;
+    }
+
+    /**
+     * Analyze a beam with the default mesh density
+     *
+     * @param beamModel The beam to analyze
+     * @return Analysis result
+     */
+    public AnalysisResult solve(BeamModel beamModel) {
+        return solve(beamModel, DEFAULT_MIN_ELEMENTS);
+    }
+
+    /**
+     * Analyze a beam with at least the given number of elements
+     *
+     * @param beamModel The beam to analyze
+     * @param minElements Minimum number of elements in the mesh
+     * @return Analysis result
+     */
+    public AnalysisResult solve(BeamModel beamModel, int minElements) {
+        return solveOnMesh(beamModel, generateNodePositions(beamModel, minElements));
+    }
+
+    /**
+     * Get the sorted, de-duplicated positions that must be mesh nodes
+     *
+     * @param beamModel The beam
+     * @return Node positions in feet
+     */
+    public static double[] requiredNodePositions(BeamModel beamModel) {
+        double[] positions = new double[requiredNodeCapacity(beamModel)];
+        return Arrays.copyOf(positions, collectRequiredNodes(beamModel, positions));
+    }
+
+    /**
+     * Get the array length {@link #collectRequiredNodes} may need for a beam
+     */
+    static int requiredNodeCapacity(BeamModel beamModel) {
+        return 2 + beamModel.getSupports().size() + 2 * beamModel.getLoads().size()
+            + 2 * beamModel.getStiffnessSegments().size();
+    }
+
+    /**
+     * Write the required node positions into a caller-owned array. Beam ends and
+     * supports are kept exactly; a load or segment position within
+     * {@link #MERGE_TOLERANCE_RATIO} of the length of a kept position is dropped,
+     * and {@link #findNode} maps it to the nearby node.
+     *
+     * @param positions Output, at least {@link #requiredNodeCapacity} long
+     * @return Number of positions written
+     */
+    static int collectRequiredNodes(BeamModel beamModel, double[] positions) {
+        double length = beamModel.getLength();
+        int count = 0;
+        positions[count++] = 0.0;
+        positions[count++] = length;
+        for (Support support : beamModel.getSupports()) {
+            count = addIfOnBeam(positions, count, support.getPosition(), length);
+        }
+        int anchors = dedupe(positions, count, POSITION_TOLERANCE);
+        // Keep the beam end exact after merging
+        positions[anchors - 1] = length;
+
+        count = anchors;
+        for (Load load : beamModel.getLoads()) {
+            count = addIfOnBeam(positions, count, load.getPosition(), length);
+            if (load.getType() == Load.Type.DISTRIBUTED) {
+                count = addIfOnBeam(positions, count, load.getEndPosition(), length);
+            }
+        }
+        for (StiffnessSegment segment : beamModel.getStiffnessSegments()) {
+            count = addIfOnBeam(positions, count, segment.getStartPosition(), length);
+            count = addIfOnBeam(positions, count, segment.getEndPosition(), length);
+        }
+        Arrays.sort(positions, anchors, count);
+
+        // Keep the others that are clear of every anchor and of the last one kept
+        double tolerance = MERGE_TOLERANCE_RATIO * length;
+        int unique = anchors;
+        int anchor = 0;
+        for (int i = anchors; i < count; i++) {
+            double position = positions[i];
+            while (anchor + 1 < anchors && positions[anchor + 1] <= position) {
+                anchor++;
+            }
+            boolean clear = position - positions[anchor] > tolerance
+                && (anchor + 1 >= anchors || positions[anchor + 1] - position > tolerance)
+                && (unique == anchors || position - positions[unique - 1] > tolerance);
+            if (clear) {
+                positions[unique++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, unique);
+        return unique;
+    }
+
+    /**
+     * Sort the first count positions and drop any within tolerance of the one before
+     *
+     * @return Number of positions kept
+     */
+    private static int dedupe(double[] positions, int count, double tolerance) {
+        Arrays.sort(positions, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || positions[i] - positions[unique - 1] > tolerance) {
+                positions[unique++] = positions[i];
+            }
+        }
+        return unique;
+    }
+
+    private static int addIfOnBeam(double[] positions, int count, double position, double length) {
+        if (position > 0.0 && position < length) {
+            positions[count++] = position;
+        }
+        return count;
+    }
+
+    /**
+     * Generate mesh node positions: the required nodes, with every gap split into
+     * equal elements no longer than length / minElements. On an elastic foundation
+     * elements are also kept short relative to the decay length 1/λ.
+     *
+     * @param beamModel The beam
+     * @param minElements Minimum number of elements
+     * @return Node positions in feet
+     */
+    public static double[] generateNodePositions(BeamModel beamModel, int minElements) {
+        double[] required = requiredNodePositions(beamModel);
+        double targetSize = beamModel.getLength() / Math.max(1, minElements);
+        double lambda = SectionProperties.getFoundationCharacteristic(beamModel);
+        if (lambda > 0.0) {
+            targetSize = Math.min(targetSize, MAX_FOUNDATION_ELEMENT_RADIANS / lambda / 12.0);
+        }
+
+        int total = 1;
+        int[] parts = new int[required.length - 1];
+        for (int i = 0; i < parts.length; i++) {
+            double gap = required[i + 1] - required[i];
+            parts[i] = Math.max(1, (int) Math.ceil(gap / targetSize - 1e-9));
+            total += parts[i];
+        }
+
+        double[] nodes = new double[total];
+        int index = 0;
+        for (int i = 0; i < parts.length; i++) {
+            double start = required[i];
+            double step = (required[i + 1] - start) / parts[i];
+            for (int p = 0; p < parts[i]; p++) {
+                nodes[index++] = start + p * step;
+            }
+        }
+        nodes[index] = required[required.length - 1];
+        return nodes;
+    }
+
+    /**
+     * Analyze a beam on a given mesh. The mesh must contain every required node.
+     *
+     * @param beamModel The beam to analyze
+     * @param nodes Sorted node positions in feet
+     * @return Analysis result
+     */
+    public AnalysisResult solveOnMesh(BeamModel beamModel, double[] nodes) {
+        StabilityChecker.requireStable(beamModel);
+
+        int nodeCount = nodes.length;
+        int elementCount = nodeCount - 1;
+        int dofCount = 2 * nodeCount;
+
+        BandedSymmetricMatrix stiffness = new BandedSymmetricMatrix(dofCount, BANDWIDTH);
+        assembleStiffness(beamModel, nodes, stiffness);
+
+        double[] forces = new double[dofCount];
+        double[] nodeForces = new double[nodeCount];   // Concentrated forces for statics (kips)
+        double[] nodeMoments = new double[nodeCount];  // Concentrated moments for statics (kip-ft)
+        double[] elementStartLoad = new double[elementCount]; // Distributed intensity at element start (kip/ft)
+        double[] elementEndLoad = new double[elementCount];   // Distributed intensity at element end (kip/ft)
+        assembleLoads(beamModel, nodes, forces, nodeForces, nodeMoments, elementStartLoad, elementEndLoad);
+        checkCancelled();
+
+        // Impose supports and solve
+        List<Support> supports = beamModel.getSupports();
+        int[] supportNodes = new int[supports.size()];
+        BandedSymmetricMatrix constrained = stiffness.copy();
+        double[] displacements = forces.clone();
+        for (int s = 0; s < supports.size(); s++) {
+            Support support = supports.get(s);
+            int node = findNode(nodes, support.getPosition());
+            supportNodes[s] = node;
+            if (node < 0) {
+                continue;
+            }
+            constrained.constrain(2 * node);
+            displacements[2 * node] = 0.0;
+            if (support.getType() == Support.Type.FIXED) {
+                constrained.constrain(2 * node + 1);
+                displacements[2 * node + 1] = 0.0;
+            }
+        }
+        factor(constrained, nodes);
+        constrained.solve(displacements);
+        checkCancelled();
+
+        double[] internal = new double[dofCount];
+        stiffness.multiply(displacements, internal);
+        addFoundationPressure(beamModel, nodes, displacements, elementStartLoad, elementEndLoad);
+        return buildResult(supports, supportNodes, nodes, displacements, internal, forces,
+                           nodeForces, nodeMoments, elementStartLoad, elementEndLoad);
+    }
+
+    /**
+     * Recover reactions from the internal nodal forces, then the diagrams by statics.
+     * Support reactions are added into nodeForces and nodeMoments.
+     *
+     * @param internal Internal nodal forces K·u, in kips and kip-in
+     */
+    static AnalysisResult buildResult(List<Support> supports, int[] supportNodes, double[] nodes,
+                                      double[] displacements, double[] internal, double[] forces,
+                                      double[] nodeForces, double[] nodeMoments,
+                                      double[] elementStartLoad, double[] elementEndLoad) {
+        int nodeCount = nodes.length;
+        int elementCount = nodeCount - 1;
+
+        // Reactions R = K·u - F at the support DOFs
+        double[] supportPositions = new double[supports.size()];
+        double[] reactionForces = new double[supports.size()];
+        double[] reactionMoments = new double[supports.size()];
+        boolean[] assigned = new boolean[nodeCount];
+        for (int s = 0; s < supports.size(); s++) {
+            int node = supportNodes[s];
+            supportPositions[s] = supports.get(s).getPosition();
+            if (node < 0 || assigned[node]) {
+                continue; // Off the beam, or a duplicate at a node already reported
+            }
+            assigned[node] = true;
+            reactionForces[s] = internal[2 * node] - forces[2 * node];
+            if (supports.get(s).getType() == Support.Type.FIXED) {
+                reactionMoments[s] = (internal[2 * node + 1] - forces[2 * node + 1]) / 12.0;
+            }
+            nodeForces[node] += reactionForces[s];
+            nodeMoments[node] += reactionMoments[s];
+        }
+
+        double[] deflections = new double[nodeCount];
+        double[] rotations = new double[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            deflections[i] = displacements[2 * i];
+            rotations[i] = displacements[2 * i + 1];
+        }
+
+        StationBuffer stations = new StationBuffer(2 * nodeCount + elementCount);
+        recoverDiagrams(nodes, nodeForces, nodeMoments, elementStartLoad, elementEndLoad, stations);
+
+        return new AnalysisResult(nodes, deflections, rotations,
+                                  stations.positions(), stations.shear(), stations.moment(),
+                                  supportPositions, reactionForces, reactionMoments);
+    }
+
+    /**
+     * Abort the solve if the analysis thread has been interrupted
+     */
+    static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Analysis cancelled");
+        }
+    }
+
+    /**
+     * Factor the constrained stiffness, turning a zero pivot into a diagnostic that names the node
+     */
+    static void factor(BandedSymmetricMatrix matrix, double[] nodes) {
+        try {
+            matrix.factor();
+        } catch (SingularMatrixException e) {
+            int node = e.getDof() / 2;
+            String freedom = e.getDof() % 2 == 0 ? "vertical translation" : "rotation";
+            throw new UnstableStructureException(new StabilityReport(StabilityReport.Issue.SINGULAR_STIFFNESS,
+                String.format("Structure is unstable: %s at %.2f ft is unrestrained", freedom, nodes[node])));
+        }
+    }
+
+    void assembleStiffness(BeamModel beamModel, double[] nodes, BandedSymmetricMatrix stiffness) {
+        double baseEI = SectionProperties.getFlexuralRigidity(beamModel);
+        List<StiffnessSegment> segments = beamModel.getStiffnessSegments();
+
+        for (int e = 0; e < nodes.length - 1; e++) {
+            if ((e & CANCEL_CHECK_MASK) == 0) {
+                checkCancelled();
+            }
+            double start = nodes[e];
+            double end = nodes[e + 1];
+            StiffnessSegment segment = findSegment(segments, 0.5 * (start + end));
+            double startEI = segment != null ? segment.getEIAt(start) : baseEI;
+            double endEI = segment != null ? segment.getEIAt(end) : baseEI;
+
+            double[] k = stiffnessCache.get((end - start) * 12.0, startEI, endEI);
+            int dof = 2 * e;
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j <= i; j++) {
+                    stiffness.add(dof + i, dof + j, k[i * 4 + j]);
+                }
+            }
+        }
+
+        double modulus = beamModel.getFoundationModulus();
+        if (modulus > 0.0) {
+            assembleFoundationStiffness(nodes, modulus, stiffness);
+        }
+    }
+
+    /**
+     * Add the consistent Winkler foundation stiffness of every element,
+     * (k·L / 420)·[156, 22L, 54, -13L; 22L, 4L², 13L, -3L²; ...]
+     */
+    private static void assembleFoundationStiffness(double[] nodes, double modulus, BandedSymmetricMatrix stiffness) {
+        for (int e = 0; e < nodes.length - 1; e++) {
+            double l = (nodes[e + 1] - nodes[e]) * 12.0;
+            double c = modulus * l / 420.0;
+            double[] k = {
+                156.0,
+                22.0 * l,     4.0 * l * l,
+                54.0,         13.0 * l,     156.0,
+                -13.0 * l,    -3.0 * l * l, -22.0 * l,   4.0 * l * l
+            };
+            int dof = 2 * e;
+            int index = 0;
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j <= i; j++) {
+                    stiffness.add(dof + i, dof + j, c * k[index++]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the foundation pressure -k·v, taken as linear between nodes, to the
+     * distributed load on each element for diagram recovery
+     */
+    static void addFoundationPressure(BeamModel beamModel, double[] nodes, double[] displacements,
+                                      double[] elementStartLoad, double[] elementEndLoad) {
+        double modulus = beamModel.getFoundationModulus();
+        if (modulus <= 0.0) {
+            return;
+        }
+        for (int e = 0; e < nodes.length - 1; e++) {
+            elementStartLoad[e] -= modulus * displacements[2 * e] * 12.0;
+            elementEndLoad[e] -= modulus * displacements[2 * e + 2] * 12.0;
+        }
+    }
+
+    /**
+     * Find the segment governing a position. Later segments take precedence where segments overlap.
+     */
+    private static StiffnessSegment findSegment(List<StiffnessSegment> segments, double position) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (segments.get(i).contains(position)) {
+                return segments.get(i);
+            }
+        }
+        return null;
+    }
+
+    static void assembleLoads(BeamModel beamModel, double[] nodes, double[] forces,
+                              double[] nodeForces, double[] nodeMoments,
+                              double[] elementStartLoad, double[] elementEndLoad) {
+        for (Load load : beamModel.getLoads()) {
+            switch (load.getType()) {
+                case POINT: {
+                    int node = findNode(nodes, load.getPosition());
+                    if (node >= 0) {
+                        // A load merged onto a nearby node adds its moment about the node
+                        double couple = load.getMagnitude() * (load.getPosition() - nodes[node]);
+                        forces[2 * node] += load.getMagnitude();
+                        forces[2 * node + 1] += couple * 12.0;
+                        nodeForces[node] += load.getMagnitude();
+                        nodeMoments[node] += couple;
+                    }
+                    break;
+                }
+                case MOMENT: {
+                    int node = findNode(nodes, load.getPosition());
+                    if (node >= 0) {
+                        forces[2 * node + 1] += load.getMagnitude() * 12.0;
+                        nodeMoments[node] += load.getMagnitude();
+                    }
+                    break;
+                }
+                case DISTRIBUTED:
+                    assembleDistributedLoad(load, nodes, forces, elementStartLoad, elementEndLoad);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown load type");
+            }
+        }
+    }
+
+    private static void assembleDistributedLoad(Load load, double[] nodes, double[] forces,
+                                                double[] elementStartLoad, double[] elementEndLoad) {
+        double x1 = load.getPosition();
+        double x2 = load.getEndPosition();
+        double w1 = load.getMagnitude();
+        double w2 = load.getMagnitudeEnd();
+        if (x2 < x1) {
+            double tmp = x1; x1 = x2; x2 = tmp;
+            tmp = w1; w1 = w2; w2 = tmp;
+        }
+        double start = Math.max(x1, nodes[0]);
+        double end = Math.min(x2, nodes[nodes.length - 1]);
+        if (end - start <= POSITION_TOLERANCE) {
+            return;
+        }
+        double slope = (w2 - w1) / (x2 - x1);
+        int index = Arrays.binarySearch(nodes, start);
+        int first = index >= 0 ? index : Math.max(0, -index - 2);
+        for (int e = first; e < nodes.length - 1 && nodes[e] < end; e++) {
+            double elementLength = nodes[e + 1] - nodes[e];
+            double a = Math.max(start, nodes[e]);
+            double b = Math.min(end, nodes[e + 1]);
+            if (b - a <= 0.0) {
+                continue;
+            }
+            int dof = 2 * e;
+            double l = elementLength * 12.0;
+            if (b - a >= elementLength - POSITION_TOLERANCE) {
+                double wa = w1 + slope * (nodes[e] - x1);
+                double wb = w1 + slope * (nodes[e + 1] - x1);
+                elementStartLoad[e] += wa;
+                elementEndLoad[e] += wb;
+
+                // Consistent nodal loads for a linearly varying load (kip/in over inches)
+                double qa = wa / 12.0;
+                double qb = wb / 12.0;
+                forces[dof] += l * (7 * qa + 3 * qb) / 20.0;
+                forces[dof + 1] += l * l * (3 * qa + 2 * qb) / 60.0;
+                forces[dof + 2] += l * (3 * qa + 7 * qb) / 20.0;
+                forces[dof + 3] -= l * l * (2 * qa + 3 * qb) / 60.0;
+            } else {
+                addPartialElementLoad(nodes[e], elementLength, a, b, w1 + slope * (a - x1), w1 + slope * (b - x1),
+                                      dof, forces, elementStartLoad, elementEndLoad, e);
+            }
+        }
+    }
+
+    /**
+     * Load an element over part of its length, as when a load end has been merged
+     * into a nearby node. The consistent nodal loads are integrated exactly, so nodal
+     * results stay exact; the diagrams see the linear load over the whole element
+     * with the same resultant and moment.
+     *
+     * @param a Start of the loaded part in feet
+     * @param b End of the loaded part in feet
+     * @param wa Intensity at a in kip/ft
+     * @param wb Intensity at b in kip/ft
+     */
+    private static void addPartialElementLoad(double elementStart, double elementLength, double a, double b,
+                                              double wa, double wb, int dof, double[] forces,
+                                              double[] elementStartLoad, double[] elementEndLoad, int e) {
+        double span = b - a;
+        double resultant = (wa + wb) * span / 2.0;
+        double firstMoment = resultant * (a - elementStart) + span * span * (wa + 2.0 * wb) / 6.0;
+        double end = 6.0 * firstMoment / (elementLength * elementLength) - 2.0 * resultant / elementLength;
+        elementStartLoad[e] += 2.0 * resultant / elementLength - end;
+        elementEndLoad[e] += end;
+
+        // Shape functions times a linear load are quartic, so three Gauss points are exact
+        double l = elementLength * 12.0;
+        for (int g = 0; g < GAUSS_POINTS.length; g++) {
+            double t = GAUSS_POINTS[g];
+            double xi = (a + t * span - elementStart) / elementLength;
+            // kip/ft over feet gives the kips carried by this Gauss point
+            double weight = GAUSS_WEIGHTS[g] * span * (wa + t * (wb - wa));
+            double xi2 = xi * xi;
+            double xi3 = xi2 * xi;
+            forces[dof] += weight * (1 - 3 * xi2 + 2 * xi3);
+            forces[dof + 1] += weight * l * (xi - 2 * xi2 + xi3);
+            forces[dof + 2] += weight * (3 * xi2 - 2 * xi3);
+            forces[dof + 3] += weight * l * (xi3 - xi2);
+        }
+    }
+
+    /**
+     * Walk the beam from left to right accumulating shear and moment from the
+     * concentrated forces at nodes and the linear distributed load on each element
+     */
+    static void recoverDiagrams(double[] nodes, double[] nodeForces, double[] nodeMoments,
+                                double[] elementStartLoad, double[] elementEndLoad, StationBuffer stations) {
+        double shear = 0.0;
+        double moment = 0.0;
+        for (int i = 0; i < nodes.length; i++) {
+            stations.add(nodes[i], shear, moment);
+            if (nodeForces[i] != 0.0 || nodeMoments[i] != 0.0) {
+                shear += nodeForces[i];
+                moment -= nodeMoments[i];
+                stations.add(nodes[i], shear, moment);
+            }
+            if (i == nodes.length - 1) {
+                break;
+            }
+
+            double length = nodes[i + 1] - nodes[i];
+            double wa = elementStartLoad[i];
+            double wb = elementEndLoad[i];
+
+            // Interior moment extremum where V(s) = V + wa·s + (wb - wa)·s²/(2L) crosses zero
+            double a = (wb - wa) / (2.0 * length);
+            double s = Double.NaN;
+            if (Math.abs(a) > 1e-12) {
+                double disc = wa * wa - 4.0 * a * shear;
+                if (disc >= 0.0) {
+                    double root = Math.sqrt(disc);
+                    double s1 = (-wa + root) / (2.0 * a);
+                    double s2 = (-wa - root) / (2.0 * a);
+                    s = s1 > 0.0 && s1 < length ? s1 : s2;
+                }
+            } else if (Math.abs(wa) > 1e-12) {
+                s = -shear / wa;
+            }
+            if (s > 1e-9 && s < length - 1e-9) {
+                double m = moment + shear * s + wa * s * s / 2.0 + (wb - wa) * s * s * s / (6.0 * length);
+                stations.add(nodes[i] + s, 0.0, m);
+            }
+
+            moment += shear * length + length * length * (2.0 * wa + wb) / 6.0;
+            shear += (wa + wb) * length / 2.0;
+        }
+    }
+
+    /**
+     * Find the node at a position: the nearest node within the merge tolerance
+     * of the mesh, which is where {@link #collectRequiredNodes} put the position
+     *
+     * @return Node index, or -1 if there is no node within tolerance
+     */
+    static int findNode(double[] nodes, double position) {
+        int index = Arrays.binarySearch(nodes, position);
+        if (index >= 0) {
+            return index;
+        }
+        int insertion = -index - 1;
+        double tolerance = Math.max(POSITION_TOLERANCE, MERGE_TOLERANCE_RATIO * (nodes[nodes.length - 1] - nodes[0]));
+        double after = insertion < nodes.length ? nodes[insertion] - position : Double.POSITIVE_INFINITY;
+        double before = insertion > 0 ? position - nodes[insertion - 1] : Double.POSITIVE_INFINITY;
+        if (after <= before && after <= tolerance) {
+            return insertion;
+        }
+        if (before <= tolerance) {
+            return insertion - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Growable primitive storage for diagram stations
+     */
+    static final class StationBuffer {
+        private double[] positions;
+        private double[] shear;
+        private double[] moment;
+        private int size;
+
+        StationBuffer(int capacity) {
+            positions = new double[Math.max(4, capacity)];
+            shear = new double[positions.length];
+            moment = new double[positions.length];
+        }
+
+        void add(double position, double v, double m) {
+            if (size == positions.length) {
+                int capacity = size * 2;
+                positions = Arrays.copyOf(positions, capacity);
+                shear = Arrays.copyOf(shear, capacity);
+                moment = Arrays.copyOf(moment, capacity);
+            }
+            positions[size] = position;
+            shear[size] = v;
+            moment[size] = m;
+            size++;
+        }
+
+        double[] positions() {
+            return Arrays.copyOf(positions, size);
+        }
+
+        double[] shear() {
+            return Arrays.copyOf(shear, size);
+        }
+
+        double[] moment() {
+            return Arrays.copyOf(moment, size);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Analysis engine backed by a single FeaBeamSolver solve on the default mesh
+ */
+public class FeaEngine implements AnalysisEngine {
+
+    public static final String NAME = "fea";
+
+    // First-order only; axial loads need the P-delta engine
+    private static final Set<Capability> CAPABILITIES =
+        Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(Capability.AXIAL_LOAD)));
+
+    private final FeaBeamSolver solver;
+    private final SolveCostModel costModel;
+    private final ThreadLocal<ReactionSolver> reactionSolver = ThreadLocal.withInitial(ReactionSolver::new);
+
+    public FeaEngine() {
+        this(new FeaBeamSolver(), SolveCostModel.shared());
+    }
+
+    public FeaEngine(FeaBeamSolver solver, SolveCostModel costModel) {
+        this.solver = solver;
+        this.costModel = costModel;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public AnalysisResult analyze(BeamModel beamModel) {
+        return solver.solve(beamModel);
+    }
+
+    @Override
+    public void reactions(BeamModel beamModel, double[] forces, double[] moments) {
+        reactionSolver.get().solve(beamModel, forces, moments);
+    }
+
+    @Override
+    public boolean supportsRefinement() {
+        return true;
+    }
+
+    @Override
+    public double estimateCost(BeamModel beamModel) {
+        int elements = FeaBeamSolver.generateNodePositions(beamModel, FeaBeamSolver.DEFAULT_MIN_ELEMENTS).length - 1;
+        return costModel.estimateNanos(elements);
+    }
+}
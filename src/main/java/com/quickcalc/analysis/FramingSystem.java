@@ -0,0 +1,325 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A floor framing system: beams linked by reaction transfer, where the reaction
+ * at a support of one beam is applied as a point load on another (joists onto
+ * girders, girders onto transfer girders).
+ *
+ * The links form a directed acyclic graph. Beams are grouped into topological
+ * waves; every beam in a wave depends only on earlier waves, so each wave is
+ * analyzed in parallel. Only beams marked changed, and beams downstream of a
+ * transferred reaction that actually changed, are re-analyzed.
+ *
+ * Only vertical reactions are transferred; connections are treated as simple
+ * shear connections, so fixed-end moments stay with the supporting beam.
+ */
+public class FramingSystem {
+
+    private static final double FORCE_TOLERANCE = 1e-9; // Relative change in a transferred reaction
+
+    private final FeaBeamSolver solver;
+    private final ExecutorService executor;
+    private final Map<String, Member> members = new LinkedHashMap<>();
+    private List<List<Member>> waves; // Null when the graph has changed
+
+    public FramingSystem() {
+        this(new FeaBeamSolver(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param solver Solver used for every beam
+     * @param executor Executor for parallel waves
+     */
+    public FramingSystem(FeaBeamSolver solver, ExecutorService executor) {
+        this.solver = solver;
+        this.executor = executor;
+    }
+
+    /**
+     * Add a beam. The model is held by reference; call {@link #beamChanged}
+     * after editing it.
+     *
+     * @param id Unique beam mark, e.g. "J1"
+     * @param beamModel The beam with its own loads
+     */
+    public void addBeam(String id, BeamModel beamModel) {
+        if (members.containsKey(id)) {
+            throw new IllegalArgumentException("Duplicate beam id: " + id);
+        }
+        members.put(id, new Member(id, beamModel));
+        waves = null;
+    }
+
+    /**
+     * Transfer a support reaction of one beam onto another as a point load
+     *
+     * @param sourceId Supported beam
+     * @param supportIndex Index of the support in the source beam's support list
+     * @param targetId Supporting beam
+     * @param position Position of the load on the supporting beam in feet
+     * @throws IllegalArgumentException if a beam is unknown, the index or position is
+     *         out of range, or the link would create a cycle
+     */
+    public void linkReaction(String sourceId, int supportIndex, String targetId, double position) {
+        Member source = member(sourceId);
+        Member target = member(targetId);
+        if (supportIndex < 0 || supportIndex >= source.model.getSupports().size()) {
+            throw new IllegalArgumentException("Beam " + sourceId + " has no support " + supportIndex);
+        }
+        if (position < 0.0 || position > target.model.getLength()) {
+            throw new IllegalArgumentException(String.format("Position %.2f ft is off beam %s", position, targetId));
+        }
+
+        Transfer transfer = new Transfer(source, supportIndex, target, position);
+        source.outgoing.add(transfer);
+        target.incoming.add(transfer);
+        try {
+            waves = computeWaves();
+        } catch (IllegalArgumentException e) {
+            source.outgoing.remove(transfer);
+            target.incoming.remove(transfer);
+            throw e;
+        }
+        target.dirty = true;
+    }
+
+    /**
+     * Mark a beam for re-analysis after its model was edited
+     *
+     * @param id Beam mark
+     */
+    public void beamChanged(String id) {
+        member(id).dirty = true;
+    }
+
+    /**
+     * Bring every result up to date, re-analyzing only what changed
+     *
+     * @return Number of beams analyzed
+     */
+    public int analyze() {
+        if (waves == null) {
+            waves = computeWaves();
+        }
+        int analyzed = 0;
+        for (List<Member> wave : waves) {
+            List<Member> dirty = new ArrayList<>();
+            for (Member member : wave) {
+                if (member.dirty) {
+                    dirty.add(member);
+                }
+            }
+            if (dirty.isEmpty()) {
+                continue;
+            }
+
+            AnalysisResult[] results = solveWave(dirty);
+            for (int i = 0; i < dirty.size(); i++) {
+                Member member = dirty.get(i);
+                member.result = results[i];
+                member.dirty = false;
+                propagate(member);
+            }
+            analyzed += dirty.size();
+        }
+        return analyzed;
+    }
+
+    private AnalysisResult[] solveWave(List<Member> dirty) {
+        AnalysisResult[] results = new AnalysisResult[dirty.size()];
+        if (dirty.size() == 1) {
+            results[0] = solver.solve(dirty.get(0).loadedModel());
+            return results;
+        }
+
+        List<Callable<AnalysisResult>> tasks = new ArrayList<>(dirty.size());
+        for (Member member : dirty) {
+            BeamModel loaded = member.loadedModel();
+            tasks.add(() -> solver.solve(loaded));
+        }
+        try {
+            List<Future<AnalysisResult>> futures = executor.invokeAll(tasks);
+            for (int i = 0; i < results.length; i++) {
+                results[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Framing analysis interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Framing analysis failed", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Pass new reactions downstream, dirtying a supporting beam only when its load changed
+     */
+    private static void propagate(Member member) {
+        for (Transfer transfer : member.outgoing) {
+            double force = member.result.getReactionForce(transfer.supportIndex);
+            double scale = Math.max(1.0, Math.abs(force));
+            if (!transfer.applied || Math.abs(force - transfer.force) > FORCE_TOLERANCE * scale) {
+                transfer.force = force;
+                transfer.applied = true;
+                transfer.target.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Group beams into topological waves with Kahn's algorithm
+     *
+     * @throws IllegalArgumentException if the links contain a cycle
+     */
+    private List<List<Member>> computeWaves() {
+        Map<Member, Integer> remaining = new LinkedHashMap<>();
+        List<Member> current = new ArrayList<>();
+        for (Member member : members.values()) {
+            remaining.put(member, member.incoming.size());
+            if (member.incoming.isEmpty()) {
+                current.add(member);
+            }
+        }
+
+        List<List<Member>> result = new ArrayList<>();
+        int placed = 0;
+        while (!current.isEmpty()) {
+            result.add(current);
+            placed += current.size();
+            List<Member> next = new ArrayList<>();
+            for (Member member : current) {
+                for (Transfer transfer : member.outgoing) {
+                    int count = remaining.merge(transfer.target, -1, Integer::sum);
+                    if (count == 0) {
+                        next.add(transfer.target);
+                    }
+                }
+            }
+            current = next;
+        }
+
+        if (placed < members.size()) {
+            List<String> cycle = new ArrayList<>();
+            for (Map.Entry<Member, Integer> entry : remaining.entrySet()) {
+                if (entry.getValue() > 0) {
+                    cycle.add(entry.getKey().id);
+                }
+            }
+            throw new IllegalArgumentException("Reaction transfer cycle through beams " + cycle);
+        }
+        return result;
+    }
+
+    private Member member(String id) {
+        Member member = members.get(id);
+        if (member == null) {
+            throw new IllegalArgumentException("Unknown beam id: " + id);
+        }
+        return member;
+    }
+
+    public BeamModel getBeam(String id) {
+        return member(id).model;
+    }
+
+    /**
+     * Get the latest result for a beam, including loads transferred from supported beams
+     *
+     * @param id Beam mark
+     * @return Result, or null if the beam has not been analyzed
+     */
+    public AnalysisResult getResult(String id) {
+        return member(id).result;
+    }
+
+    public int getBeamCount() {
+        return members.size();
+    }
+
+    /**
+     * Get the beam marks grouped by analysis wave
+     */
+    public List<List<String>> getWaves() {
+        if (waves == null) {
+            waves = computeWaves();
+        }
+        List<List<String>> ids = new ArrayList<>(waves.size());
+        for (List<Member> wave : waves) {
+            List<String> waveIds = new ArrayList<>(wave.size());
+            for (Member member : wave) {
+                waveIds.add(member.id);
+            }
+            ids.add(Collections.unmodifiableList(waveIds));
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    /**
+     * A beam in the system
+     */
+    private static final class Member {
+        final String id;
+        final BeamModel model;
+        final List<Transfer> incoming = new ArrayList<>();
+        final List<Transfer> outgoing = new ArrayList<>();
+        AnalysisResult result;
+        boolean dirty = true;
+
+        Member(String id, BeamModel model) {
+            this.id = id;
+            this.model = model;
+        }
+
+        /**
+         * Snapshot of the beam with transferred reactions added as downward point loads
+         */
+        BeamModel loadedModel() {
+            BeamModel loaded = model.copy();
+            for (Transfer transfer : incoming) {
+                if (transfer.applied && transfer.force != 0.0) {
+                    loaded.addLoad(new Load(transfer.position, -transfer.force, Load.Type.POINT));
+                }
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * A reaction-transfer link from a supported beam to a supporting beam
+     */
+    private static final class Transfer {
+        final Member source;
+        final int supportIndex;
+        final Member target;
+        final double position;
+        double force;     // Last reaction applied to the target, kips up on the source
+        boolean applied;
+
+        Transfer(Member source, int supportIndex, Member target, double position) {
+            this.source = source;
+            this.supportIndex = supportIndex;
+            this.target = target;
+            this.position = position;
+        }
+    }
+}
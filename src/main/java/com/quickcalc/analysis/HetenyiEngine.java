@@ -0,0 +1,65 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Analysis engine for beams on an elastic foundation, backed by HetenyiSolver.
+ * Only offered for beams that have a foundation; those outside the closed form
+ * are solved by its finite element fallback.
+ */
+public class HetenyiEngine implements AnalysisEngine {
+
+    public static final String NAME = "hetenyi";
+
+    private static final Set<Capability> CAPABILITIES =
+        Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(Capability.AXIAL_LOAD)));
+    // Nominal cost of one kernel evaluation (one source at one station)
+    private static final double NANOS_PER_TERM = 25.0;
+
+    private final HetenyiSolver solver;
+    private final SolveCostModel costModel;
+
+    public HetenyiEngine() {
+        this(new HetenyiSolver(), SolveCostModel.shared());
+    }
+
+    public HetenyiEngine(HetenyiSolver solver, SolveCostModel costModel) {
+        this.solver = solver;
+        this.costModel = costModel;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public boolean supports(BeamModel beamModel) {
+        return beamModel.getFoundationModulus() > 0.0 && AnalysisEngine.super.supports(beamModel);
+    }
+
+    @Override
+    public AnalysisResult analyze(BeamModel beamModel) {
+        return solver.solve(beamModel);
+    }
+
+    @Override
+    public double estimateCost(BeamModel beamModel) {
+        if (!HetenyiSolver.isClosedForm(beamModel)) {
+            int elements = FeaBeamSolver.generateNodePositions(beamModel, FeaBeamSolver.DEFAULT_MIN_ELEMENTS).length - 1;
+            return costModel.estimateNanos(elements);
+        }
+        int stations = HetenyiSolver.stationCount(beamModel, FeaBeamSolver.DEFAULT_MIN_ELEMENTS);
+        int sources = 4 + beamModel.getLoads().size() + 2 * beamModel.getSupports().size();
+        return NANOS_PER_TERM * stations * sources;
+    }
+}
@@ -0,0 +1,572 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Closed-form analysis of a finite beam on a Winkler foundation by Hetényi's method.
+ *
+ * Every load is represented by its exact infinite-beam solution, which decays as
+ * e^(-λx)·(cos λx, sin λx). Fictitious forces and couples at the two ends are
+ * added so the finite beam's end conditions hold, and interior supports become
+ * unknown forces (plus couples where fixed) that hold the deflection (and
+ * rotation) to zero there. This gives a small dense system with four unknowns
+ * plus one or two per interior support. Distributed loads are integrated
+ * analytically, so evaluating the result costs O(stations × loads) with no
+ * mesh or factorization.
+ *
+ * Beams outside the closed form (stiffness segments, axial load, no foundation)
+ * and beams so short relative to the decay length that the superposition loses
+ * precision fall back to the banded finite element solver.
+ *
+ * Sign convention: forces and deflections positive up, moments and rotations
+ * positive counterclockwise, internal moment positive in sagging.
+ */
+public class HetenyiSolver {
+
+    // Below this λL the fictitious end loads nearly cancel and the FEA is more accurate
+    static final double MIN_LAMBDA_LENGTH = 1.0;
+
+    // Diagram stations per radian of the decay wave
+    private static final double STATIONS_PER_RADIAN = 16.0;
+
+    private static final int Y = 0;
+    private static final int THETA = 1;
+    private static final int MOMENT = 2;
+    private static final int SHEAR = 3;
+
+    // End restraints, in increasing order of fixity
+    private static final int FREE = 0;
+    private static final int PINNED = 1;
+    private static final int FIXED = 2;
+
+    private static final double TOLERANCE = FeaBeamSolver.POSITION_TOLERANCE * 12.0; // Inches
+
+    private final FeaBeamSolver fallback;
+
+    public HetenyiSolver() {
+        this(new FeaBeamSolver());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param fallback Solver for beams outside the closed form
+     */
+    public HetenyiSolver(FeaBeamSolver fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Check whether a beam can be analyzed in closed form
+     *
+     * @param beamModel The beam
+     * @return True if the beam is uniform, has no axial load and is long enough on its foundation
+     */
+    public static boolean isClosedForm(BeamModel beamModel) {
+        double lambda = SectionProperties.getFoundationCharacteristic(beamModel);
+        return lambda > 0.0
+            && beamModel.getStiffnessSegments().isEmpty()
+            && beamModel.getAxialLoad() == 0.0
+            && lambda * beamModel.getLength() * 12.0 >= MIN_LAMBDA_LENGTH;
+    }
+
+    /**
+     * Analyze a beam in closed form, or with the finite element fallback when it is not eligible
+     *
+     * @param beamModel The beam to analyze
+     * @return Analysis result
+     */
+    public AnalysisResult solve(BeamModel beamModel) {
+        return solve(beamModel, FeaBeamSolver.DEFAULT_MIN_ELEMENTS);
+    }
+
+    /**
+     * Analyze a beam with at least the given number of diagram intervals
+     *
+     * @param beamModel The beam to analyze
+     * @param minElements Minimum number of intervals between result nodes
+     * @return Analysis result
+     */
+    public AnalysisResult solve(BeamModel beamModel, int minElements) {
+        if (!isClosedForm(beamModel)) {
+            return fallback.solve(beamModel, minElements);
+        }
+        StabilityChecker.requireStable(beamModel);
+
+        double lambda = SectionProperties.getFoundationCharacteristic(beamModel);
+        double lengthIn = beamModel.getLength() * 12.0;
+        double[] nodes = generateStations(beamModel, intervals(beamModel, minElements));
+        Field field = new Field(lambda, beamModel.getFoundationModulus(), lengthIn);
+        for (Load load : beamModel.getLoads()) {
+            field.addLoad(load);
+        }
+        FeaBeamSolver.checkCancelled();
+
+        List<Support> supports = beamModel.getSupports();
+        Source[] reactions = new Source[supports.size()]; // Interior support reactions
+        Source[] couples = new Source[supports.size()];   // Interior fixed-support moments
+        solveUnknowns(field, supports, reactions, couples);
+        FeaBeamSolver.checkCancelled();
+        return buildResult(field, beamModel, supports, reactions, couples, nodes);
+    }
+
+    /**
+     * Get the number of result nodes for a closed-form solve
+     *
+     * @param beamModel The beam
+     * @param minElements Minimum number of intervals between result nodes
+     * @return Node count
+     */
+    public static int stationCount(BeamModel beamModel, int minElements) {
+        return generateStations(beamModel, intervals(beamModel, minElements)).length;
+    }
+
+    private static int intervals(BeamModel beamModel, int minElements) {
+        double lambda = SectionProperties.getFoundationCharacteristic(beamModel);
+        return Math.max(minElements, (int) Math.ceil(lambda * beamModel.getLength() * 12.0 * STATIONS_PER_RADIAN));
+    }
+
+    /**
+     * Get result node positions: the required nodes with the gaps split evenly
+     */
+    private static double[] generateStations(BeamModel beamModel, int intervals) {
+        double[] required = FeaBeamSolver.requiredNodePositions(beamModel);
+        double targetSize = beamModel.getLength() / intervals;
+        int total = 1;
+        int[] parts = new int[required.length - 1];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = Math.max(1, (int) Math.ceil((required[i + 1] - required[i]) / targetSize - 1e-9));
+            total += parts[i];
+        }
+        double[] nodes = new double[total];
+        int index = 0;
+        for (int i = 0; i < parts.length; i++) {
+            double step = (required[i + 1] - required[i]) / parts[i];
+            for (int p = 0; p < parts[i]; p++) {
+                nodes[index++] = required[i] + p * step;
+            }
+        }
+        nodes[index] = required[required.length - 1];
+        return nodes;
+    }
+
+    /**
+     * Find the end forces, end couples and interior reactions that satisfy the
+     * boundary conditions, and add them to the field
+     */
+    private static void solveUnknowns(Field field, List<Support> supports, Source[] reactions, Source[] couples) {
+        double lengthIn = field.length;
+        List<Source> unknowns = new ArrayList<>();
+        unknowns.add(Source.endForce(0.0, 1.0));
+        unknowns.add(Source.endCouple(0.0, 1.0));
+        unknowns.add(Source.endForce(lengthIn, -1.0));
+        unknowns.add(Source.endCouple(lengthIn, -1.0));
+
+        // End supports are carried by the end loads; interior ones get their own unknowns
+        int left = FREE;
+        int right = FREE;
+        List<double[]> conditions = new ArrayList<>(); // Position, side, field component
+        for (int s = 0; s < supports.size(); s++) {
+            Support support = supports.get(s);
+            double position = support.getPosition() * 12.0;
+            int restraint = support.getType() == Support.Type.FIXED ? FIXED : PINNED;
+            if (position <= TOLERANCE) {
+                left = Math.max(left, restraint);
+            } else if (position >= lengthIn - TOLERANCE) {
+                right = Math.max(right, restraint);
+            } else if (!hasEarlierSupportAt(supports, s)) {
+                reactions[s] = Source.force(position, 0.0);
+                unknowns.add(reactions[s]);
+                conditions.add(new double[] {position, 1.0, Y});
+                if (restraint == FIXED) {
+                    couples[s] = Source.couple(position, 0.0);
+                    unknowns.add(couples[s]);
+                    conditions.add(new double[] {position, 1.0, THETA});
+                }
+            }
+        }
+        addEndConditions(conditions, 0.0, -1.0, left);
+        addEndConditions(conditions, lengthIn, 1.0, right);
+
+        int n = unknowns.size();
+        double[][] matrix = new double[n][n];
+        double[] rhs = new double[n];
+        double[] values = new double[4];
+        for (int row = 0; row < n; row++) {
+            double[] condition = conditions.get(row);
+            int component = (int) condition[2];
+            field.evaluate(condition[0], condition[1], values);
+            rhs[row] = -values[component];
+            for (int col = 0; col < n; col++) {
+                Arrays.fill(values, 0.0);
+                field.add(unknowns.get(col), 1.0, condition[0], condition[1], values);
+                matrix[row][col] = values[component];
+            }
+        }
+
+        double[] solution = solveDense(matrix, rhs);
+        for (int i = 0; i < n; i++) {
+            Source unknown = unknowns.get(i);
+            unknown.magnitude = solution[i];
+            field.sources.add(unknown);
+        }
+    }
+
+    /**
+     * Two conditions at an end: zero moment and shear if free, zero deflection and
+     * moment if pinned, zero deflection and rotation if fixed
+     */
+    private static void addEndConditions(List<double[]> conditions, double position, double side, int restraint) {
+        if (restraint == FREE) {
+            conditions.add(new double[] {position, side, MOMENT});
+            conditions.add(new double[] {position, side, SHEAR});
+        } else if (restraint == FIXED) {
+            conditions.add(new double[] {position, side, Y});
+            conditions.add(new double[] {position, side, THETA});
+        } else {
+            conditions.add(new double[] {position, side, Y});
+            conditions.add(new double[] {position, side, MOMENT});
+        }
+    }
+
+    /**
+     * Gaussian elimination with partial pivoting on the small dense system
+     */
+    private static double[] solveDense(double[][] a, double[] b) {
+        int n = b.length;
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            if (a[pivot][col] == 0.0) {
+                throw new UnstableStructureException(new StabilityReport(StabilityReport.Issue.SINGULAR_STIFFNESS,
+                    "Structure is unstable: boundary conditions are singular"));
+            }
+            double[] rowSwap = a[col];
+            a[col] = a[pivot];
+            a[pivot] = rowSwap;
+            double valueSwap = b[col];
+            b[col] = b[pivot];
+            b[pivot] = valueSwap;
+            for (int row = col + 1; row < n; row++) {
+                double factor = a[row][col] / a[col][col];
+                if (factor == 0.0) {
+                    continue;
+                }
+                for (int k = col; k < n; k++) {
+                    a[row][k] -= factor * a[col][k];
+                }
+                b[row] -= factor * b[col];
+            }
+        }
+        double[] x = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            double sum = b[row];
+            for (int k = row + 1; k < n; k++) {
+                sum -= a[row][k] * x[k];
+            }
+            x[row] = sum / a[row][row];
+        }
+        return x;
+    }
+
+    private static boolean hasEarlierSupportAt(List<Support> supports, int s) {
+        for (int other = 0; other < s; other++) {
+            if (Math.abs(supports.get(other).getPosition() - supports.get(s).getPosition())
+                    <= FeaBeamSolver.POSITION_TOLERANCE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static AnalysisResult buildResult(Field field, BeamModel beamModel, List<Support> supports,
+                                              Source[] reactions, Source[] couples, double[] nodes) {
+        double lengthIn = field.length;
+        double[] values = new double[4];
+
+        // End reactions are the shear and moment just inside the fictitious end loads
+        field.evaluate(0.0, -1.0, values);
+        double leftForce = values[SHEAR];
+        double leftMoment = -values[MOMENT] / 12.0;
+        field.evaluate(lengthIn, 1.0, values);
+        double rightForce = -values[SHEAR];
+        double rightMoment = values[MOMENT] / 12.0;
+
+        double[] supportPositions = new double[supports.size()];
+        double[] reactionForces = new double[supports.size()];
+        double[] reactionMoments = new double[supports.size()];
+        double[] nodeForces = new double[nodes.length];
+        double[] nodeMoments = new double[nodes.length];
+        boolean leftAssigned = false;
+        boolean rightAssigned = false;
+        for (int s = 0; s < supports.size(); s++) {
+            Support support = supports.get(s);
+            double position = support.getPosition();
+            boolean fixed = support.getType() == Support.Type.FIXED;
+            supportPositions[s] = position;
+            if (reactions[s] != null) {
+                reactionForces[s] = reactions[s].magnitude;
+                reactionMoments[s] = couples[s] != null ? couples[s].magnitude / 12.0 : 0.0;
+            } else if (position * 12.0 <= TOLERANCE && !leftAssigned) {
+                leftAssigned = true;
+                reactionForces[s] = leftForce;
+                reactionMoments[s] = fixed ? leftMoment : 0.0;
+            } else if (position * 12.0 >= lengthIn - TOLERANCE && !rightAssigned) {
+                rightAssigned = true;
+                reactionForces[s] = rightForce;
+                reactionMoments[s] = fixed ? rightMoment : 0.0;
+            } else {
+                continue; // A duplicate at a position already reported
+            }
+            int node = FeaBeamSolver.findNode(nodes, position);
+            nodeForces[node] += reactionForces[s];
+            nodeMoments[node] += reactionMoments[s];
+        }
+        for (Load load : beamModel.getLoads()) {
+            int node = FeaBeamSolver.findNode(nodes, load.getPosition());
+            if (node < 0) {
+                continue;
+            }
+            if (load.getType() == Load.Type.POINT) {
+                nodeForces[node] += load.getMagnitude();
+            } else if (load.getType() == Load.Type.MOMENT) {
+                nodeMoments[node] += load.getMagnitude();
+            }
+        }
+
+        double[] deflections = new double[nodes.length];
+        double[] rotations = new double[nodes.length];
+        FeaBeamSolver.StationBuffer stations = new FeaBeamSolver.StationBuffer(2 * nodes.length);
+        int last = nodes.length - 1;
+        for (int i = 0; i <= last; i++) {
+            double x = nodes[i] * 12.0;
+            boolean jump = nodeForces[i] != 0.0 || nodeMoments[i] != 0.0;
+            if (i == 0) {
+                stations.add(nodes[i], 0.0, 0.0);
+            } else {
+                field.evaluate(x, -1.0, values);
+                stations.add(nodes[i], values[SHEAR], values[MOMENT] / 12.0);
+            }
+            field.evaluate(x, 1.0, values);
+            deflections[i] = values[Y];
+            rotations[i] = values[THETA];
+            if (i == last) {
+                if (jump) {
+                    // Just past the right end the applied end loads and the reaction balance
+                    stations.add(nodes[i], values[SHEAR] + (rightAssigned ? rightForce : 0.0),
+                                 values[MOMENT] / 12.0 - (rightAssigned ? rightMoment : 0.0));
+                }
+            } else if (jump) {
+                stations.add(nodes[i], values[SHEAR], values[MOMENT] / 12.0);
+            }
+        }
+
+        return new AnalysisResult(nodes, deflections, rotations,
+                                  stations.positions(), stations.shear(), stations.moment(),
+                                  supportPositions, reactionForces, reactionMoments);
+    }
+
+    /**
+     * A concentrated force or couple, or a linearly varying distributed load, on the infinite beam
+     */
+    private static final class Source {
+        static final int FORCE = 0;
+        static final int COUPLE = 1;
+        static final int DISTRIBUTED = 2;
+
+        final int kind;
+        final double start;     // Position in inches
+        final double end;       // End of a distributed load in inches
+        final double slope;     // Change in intensity per inch of a distributed load
+        final double beamSide;  // For fictitious end loads, the side the beam lies on (+1 or -1); zero otherwise
+        double magnitude;       // Kips, kip-in, or intensity at start in kip/in
+
+        private Source(int kind, double start, double end, double magnitude, double slope, double beamSide) {
+            this.kind = kind;
+            this.start = start;
+            this.end = end;
+            this.magnitude = magnitude;
+            this.slope = slope;
+            this.beamSide = beamSide;
+        }
+
+        static Source force(double position, double magnitude) {
+            return new Source(FORCE, position, position, magnitude, 0.0, 0.0);
+        }
+
+        static Source couple(double position, double magnitude) {
+            return new Source(COUPLE, position, position, magnitude, 0.0, 0.0);
+        }
+
+        static Source endForce(double position, double beamSide) {
+            return new Source(FORCE, position, position, 0.0, 0.0, beamSide);
+        }
+
+        static Source endCouple(double position, double beamSide) {
+            return new Source(COUPLE, position, position, 0.0, 0.0, beamSide);
+        }
+
+        static Source distributed(double start, double end, double startIntensity, double slope) {
+            return new Source(DISTRIBUTED, start, end, startIntensity, slope, 0.0);
+        }
+    }
+
+    /**
+     * Superposition of infinite-beam solutions. All quantities are in kips and inches.
+     */
+    private static final class Field {
+        final double lambda;
+        final double modulus;
+        final double length;
+        final List<Source> sources = new ArrayList<>();
+
+        Field(double lambda, double modulus, double length) {
+            this.lambda = lambda;
+            this.modulus = modulus;
+            this.length = length;
+        }
+
+        void addLoad(Load load) {
+            switch (load.getType()) {
+                case POINT:
+                    sources.add(Source.force(load.getPosition() * 12.0, load.getMagnitude()));
+                    break;
+                case MOMENT:
+                    sources.add(Source.couple(load.getPosition() * 12.0, load.getMagnitude() * 12.0));
+                    break;
+                case DISTRIBUTED: {
+                    double x1 = load.getPosition();
+                    double x2 = load.getEndPosition();
+                    double w1 = load.getMagnitude();
+                    double w2 = load.getMagnitudeEnd();
+                    if (x2 < x1) {
+                        double tmp = x1; x1 = x2; x2 = tmp;
+                        tmp = w1; w1 = w2; w2 = tmp;
+                    }
+                    if (!(x2 > x1)) {
+                        break;
+                    }
+                    double slope = (w2 - w1) / (x2 - x1); // kip/ft per ft
+                    double start = Math.max(0.0, x1);
+                    double end = Math.min(length / 12.0, x2);
+                    if (end > start) {
+                        double intensity = w1 + slope * (start - x1);
+                        sources.add(Source.distributed(start * 12.0, end * 12.0, intensity / 12.0, slope / 144.0));
+                    }
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unknown load type");
+            }
+        }
+
+        /**
+         * Evaluate deflection, rotation, moment and shear at a position. Concentrated
+         * loads exactly at the position count as left of it when side is positive.
+         */
+        void evaluate(double x, double side, double[] out) {
+            Arrays.fill(out, 0.0);
+            for (Source source : sources) {
+                add(source, source.magnitude, x, side, out);
+            }
+        }
+
+        /**
+         * Add the response to a source at a position. Concentrated sources are scaled by
+         * the given magnitude; distributed loads always use their own intensity.
+         */
+        void add(Source source, double magnitude, double x, double side, double[] out) {
+            if (source.kind == Source.DISTRIBUTED) {
+                addDistributed(source, x, out);
+                return;
+            }
+            double r = x - source.start;
+            double sign;
+            if (Math.abs(r) > TOLERANCE) {
+                sign = Math.signum(r);
+            } else {
+                sign = source.beamSide != 0.0 ? source.beamSide : side;
+            }
+            double t = lambda * Math.abs(r);
+            double e = Math.exp(-t);
+            double d = e * Math.cos(t);
+            double b = e * Math.sin(t);
+            double a = d + b;
+            double c = d - b;
+            if (source.kind == Source.FORCE) {
+                out[Y] += magnitude * lambda / (2.0 * modulus) * a;
+                out[THETA] -= magnitude * lambda * lambda / modulus * sign * b;
+                out[MOMENT] -= magnitude / (4.0 * lambda) * c;
+                out[SHEAR] += magnitude * 0.5 * sign * d;
+            } else {
+                out[Y] += magnitude * lambda * lambda / modulus * sign * b;
+                out[THETA] += magnitude * lambda * lambda * lambda / modulus * c;
+                out[MOMENT] -= magnitude * 0.5 * sign * d;
+                out[SHEAR] += magnitude * 0.5 * lambda * a;
+            }
+        }
+
+        /**
+         * Integrate the force kernels over a linearly varying load in closed form,
+         * splitting at x so the distance is one-signed on each side
+         */
+        private void addDistributed(Source source, double x, double[] out) {
+            double alpha = source.magnitude + source.slope * (x - source.start); // Intensity extended to x
+            double beta = source.slope / lambda;
+
+            // Load left of x: t runs from λ(x - min(end, x)) up to λ(x - start), intensity α - β·t
+            if (source.start < x) {
+                double tLow = lambda * (x - Math.min(source.end, x));
+                double tHigh = lambda * (x - source.start);
+                accumulate(tLow, tHigh, alpha, -beta, 1.0, out);
+            }
+            // Load right of x: t runs from λ(max(start, x) - x) up to λ(end - x), intensity α + β·t
+            if (source.end > x) {
+                double tLow = lambda * (Math.max(source.start, x) - x);
+                double tHigh = lambda * (source.end - x);
+                accumulate(tLow, tHigh, alpha, beta, -1.0, out);
+            }
+        }
+
+        private void accumulate(double tLow, double tHigh, double alpha, double beta, double sign, double[] out) {
+            double[] low = primitives(tLow);
+            double[] high = primitives(tHigh);
+            double scale = 1.0 / lambda;
+            // primitives: ∫A, ∫B, ∫C, ∫D, ∫tA, ∫tB, ∫tC, ∫tD
+            double intA = alpha * (high[0] - low[0]) + beta * (high[4] - low[4]);
+            double intB = alpha * (high[1] - low[1]) + beta * (high[5] - low[5]);
+            double intC = alpha * (high[2] - low[2]) + beta * (high[6] - low[6]);
+            double intD = alpha * (high[3] - low[3]) + beta * (high[7] - low[7]);
+            out[Y] += scale * lambda / (2.0 * modulus) * intA;
+            out[THETA] -= scale * lambda * lambda / modulus * sign * intB;
+            out[MOMENT] -= scale / (4.0 * lambda) * intC;
+            out[SHEAR] += scale * 0.5 * sign * intD;
+        }
+
+        /**
+         * Antiderivatives of A = e^-t(cos t + sin t), B = e^-t sin t, C = e^-t(cos t - sin t),
+         * D = e^-t cos t, and of t times each
+         */
+        private static double[] primitives(double t) {
+            double e = Math.exp(-t);
+            double d = e * Math.cos(t);
+            double b = e * Math.sin(t);
+            double a = d + b;
+            double c = d - b;
+            return new double[] {
+                -d, -a / 2.0, b, -c / 2.0,
+                -t * d - c / 2.0, -t * a / 2.0 - d / 2.0, t * b + a / 2.0, -t * c / 2.0 + b / 2.0
+            };
+        }
+    }
+}
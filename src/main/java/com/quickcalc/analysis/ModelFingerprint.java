@@ -0,0 +1,203 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.StiffnessSegment;
+import com.quickcalc.models.Support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Canonical 128-bit content hash of a BeamModel.
+ *
+ * Covers length, material, section, axial load, foundation modulus, supports, loads
+ * and stiffness segments.
+ * Supports, loads and segments are sorted before hashing, so two models that
+ * differ only in the order elements were added have the same fingerprint.
+ */
+public final class ModelFingerprint {
+
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+
+    private final long high;
+    private final long low;
+
+    public ModelFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Compute the fingerprint of a beam
+     *
+     * @param beamModel The beam
+     * @return 128-bit fingerprint
+     */
+    public static ModelFingerprint of(BeamModel beamModel) {
+        Hasher hasher = new Hasher();
+        hasher.add(canonical(beamModel.getLength()));
+        hasher.add(beamModel.getMaterial());
+        hasher.add(beamModel.getSection());
+        hasher.add(canonical(beamModel.getAxialLoad()));
+        hasher.add(canonical(beamModel.getFoundationModulus()));
+
+        List<Support> supports = beamModel.getSupports();
+        long[][] supportRecords = new long[supports.size()][];
+        for (int i = 0; i < supportRecords.length; i++) {
+            Support support = supports.get(i);
+            supportRecords[i] = new long[] {canonical(support.getPosition()), support.getType().ordinal()};
+        }
+        hasher.addRecords(1, supportRecords);
+
+        List<Load> loads = beamModel.getLoads();
+        long[][] loadRecords = new long[loads.size()][];
+        for (int i = 0; i < loadRecords.length; i++) {
+            loadRecords[i] = loadRecord(loads.get(i));
+        }
+        hasher.addRecords(2, loadRecords);
+
+        List<StiffnessSegment> segments = beamModel.getStiffnessSegments();
+        long[][] segmentRecords = new long[segments.size()][];
+        for (int i = 0; i < segmentRecords.length; i++) {
+            StiffnessSegment segment = segments.get(i);
+            segmentRecords[i] = new long[] {
+                canonical(segment.getStartPosition()), canonical(segment.getEndPosition()),
+                canonical(segment.getStartEI()), canonical(segment.getEndEI())
+            };
+        }
+        // Where segments overlap the later one wins, so their order is significant
+        hasher.addOrderedRecords(3, segmentRecords);
+
+        return hasher.finish();
+    }
+
+    private static long[] loadRecord(Load load) {
+        double start = load.getPosition();
+        double end = load.getEndPosition();
+        double startMagnitude = load.getMagnitude();
+        double endMagnitude = load.getType() == Load.Type.DISTRIBUTED ? load.getMagnitudeEnd() : load.getMagnitude();
+        // A distributed load given right-to-left is the same load given left-to-right
+        if (end < start) {
+            double tmp = start; start = end; end = tmp;
+            tmp = startMagnitude; startMagnitude = endMagnitude; endMagnitude = tmp;
+        }
+        return new long[] {
+            load.getType().ordinal(), canonical(start), canonical(end),
+            canonical(startMagnitude), canonical(endMagnitude)
+        };
+    }
+
+    /**
+     * Bit pattern of a double with -0.0 folded into 0.0 and all NaNs made equal
+     */
+    private static long canonical(double value) {
+        return value == 0.0 ? 0L : Double.doubleToLongBits(value);
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ModelFingerprint)) {
+            return false;
+        }
+        ModelFingerprint that = (ModelFingerprint) other;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (low ^ (low >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    /**
+     * Two-lane 64-bit hash over a stream of longs
+     */
+    private static final class Hasher {
+        private long h1 = SEED_HIGH;
+        private long h2 = SEED_LOW;
+        private long count;
+
+        void add(long value) {
+            long k1 = mix(value * 0x87C37B91114253D5L);
+            long k2 = mix(value * 0x4CF5AD432745937FL);
+            h1 = Long.rotateLeft(h1 ^ k1, 27) * 5 + 0x52DCE729;
+            h2 = Long.rotateLeft(h2 ^ k2, 31) * 5 + 0x38495AB5;
+            h1 += h2;
+            h2 += h1;
+            count++;
+        }
+
+        void add(String value) {
+            String normalized = value == null ? "" : value.trim().toUpperCase();
+            byte[] bytes = normalized.getBytes(StandardCharsets.UTF_8);
+            add(bytes.length);
+            for (byte b : bytes) {
+                add(b);
+            }
+        }
+
+        void addRecords(int tag, long[][] records) {
+            Arrays.sort(records, Hasher::compare);
+            addOrderedRecords(tag, records);
+        }
+
+        void addOrderedRecords(int tag, long[][] records) {
+            add(tag);
+            add(records.length);
+            for (long[] record : records) {
+                for (long value : record) {
+                    add(value);
+                }
+            }
+        }
+
+        ModelFingerprint finish() {
+            h1 ^= count;
+            h2 ^= count;
+            h1 += h2;
+            h2 += h1;
+            h1 = mix(h1);
+            h2 = mix(h2);
+            h1 += h2;
+            h2 += h1;
+            return new ModelFingerprint(h1, h2);
+        }
+
+        private static int compare(long[] a, long[] b) {
+            for (int i = 0; i < Math.min(a.length, b.length); i++) {
+                int c = Long.compare(a[i], b[i]);
+                if (c != 0) {
+                    return c;
+                }
+            }
+            return Integer.compare(a.length, b.length);
+        }
+
+        private static long mix(long k) {
+            k ^= k >>> 33;
+            k *= 0xFF51AFD7ED558CCDL;
+            k ^= k >>> 33;
+            k *= 0xC4CEB9FE1A85EC53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Analysis engine backed by a PDeltaSolver solve on the default mesh. Handles
+ * every model, but only models with an axial load need it.
+ */
+public class PDeltaEngine implements AnalysisEngine {
+
+    public static final String NAME = "pdelta";
+
+    private static final Set<Capability> CAPABILITIES =
+        Collections.unmodifiableSet(EnumSet.allOf(Capability.class));
+    // Geometric assembly and a few back-substitutions on top of the linear solve
+    private static final double COST_FACTOR = 1.3;
+
+    private final PDeltaSolver solver;
+    private final SolveCostModel costModel;
+
+    public PDeltaEngine() {
+        this(new PDeltaSolver(), SolveCostModel.shared());
+    }
+
+    public PDeltaEngine(PDeltaSolver solver, SolveCostModel costModel) {
+        this.solver = solver;
+        this.costModel = costModel;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public AnalysisResult analyze(BeamModel beamModel) {
+        return solver.solve(beamModel).getResult();
+    }
+
+    @Override
+    public double estimateCost(BeamModel beamModel) {
+        int elements = FeaBeamSolver.generateNodePositions(beamModel, FeaBeamSolver.DEFAULT_MIN_ELEMENTS).length - 1;
+        return COST_FACTOR * costModel.estimateNanos(elements);
+    }
+}
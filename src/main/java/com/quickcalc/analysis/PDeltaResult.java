@@ -0,0 +1,71 @@
+package com.quickcalc.analysis;
+
+/**
+ * Outcome of a second-order (P-delta) analysis: the amplified result, the
+ * first-order result it started from, and how the iteration converged
+ */
+public class PDeltaResult {
+
+    private final AnalysisResult result;
+    private final AnalysisResult linearResult;
+    private final int iterations;
+    private final int refactorCount;
+
+    PDeltaResult(AnalysisResult result, AnalysisResult linearResult, int iterations, int refactorCount) {
+        this.result = result;
+        this.linearResult = linearResult;
+        this.iterations = iterations;
+        this.refactorCount = refactorCount;
+    }
+
+    /**
+     * Get the second-order result, with moments including the P-delta contribution
+     */
+    public AnalysisResult getResult() {
+        return result;
+    }
+
+    /**
+     * Get the first-order result for the same loads, ignoring the axial force
+     */
+    public AnalysisResult getLinearResult() {
+        return linearResult;
+    }
+
+    /**
+     * Get the number of back-substitutions after the first-order solve
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Get the number of times the tangent stiffness was factored because the
+     * iteration on the linear factorization stalled
+     */
+    public int getRefactorCount() {
+        return refactorCount;
+    }
+
+    /**
+     * Get the ratio of second-order to first-order maximum deflection
+     *
+     * @return Amplification factor, 1.0 when there is no deflection
+     */
+    public double getDeflectionAmplification() {
+        return ratio(result.getMaxDeflection(), linearResult.getMaxDeflection());
+    }
+
+    /**
+     * Get the ratio of second-order to first-order maximum moment
+     *
+     * @return Amplification factor, 1.0 when there is no moment
+     */
+    public double getMomentAmplification() {
+        return ratio(result.getMaxMoment(), linearResult.getMaxMoment());
+    }
+
+    private static double ratio(double secondOrder, double firstOrder) {
+        return firstOrder == 0.0 ? 1.0 : Math.abs(secondOrder / firstOrder);
+    }
+}
@@ -0,0 +1,316 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Support;
+
+import java.util.List;
+
+/**
+ * Second-order (P-delta) analysis of a beam carrying an axial force.
+ *
+ * The axial force enters through the consistent geometric stiffness Kg, and the
+ * equilibrium equations become (K - Kg)·u = F. They are solved by modified
+ * Newton iteration on the first-order factorization, u = K⁻¹(F + Kg·u), with a
+ * secant estimate of the contraction rate used to extrapolate toward the fixed
+ * point. Each iteration costs one back-substitution, so for moderate axial loads
+ * the analysis is barely more expensive than a linear solve. When the rate shows
+ * the iteration has stalled (the axial force is a large fraction of the
+ * buckling load, or a large tension) the tangent stiffness K - Kg is factored
+ * once and solved directly; a failed factorization means the beam has buckled.
+ *
+ * The axial force is taken as constant along the beam and applied at its ends,
+ * compression positive. Reported moments include P·Δ measured from the chord
+ * through the left end; shears are the transverse statics shears.
+ */
+public class PDeltaSolver {
+
+    public static final double DEFAULT_TOLERANCE = 1e-8; // Relative change in displacements
+    public static final int DEFAULT_MAX_ITERATIONS = 25;
+
+    // Contraction per iteration beyond which one refactorization beats iterating
+    static final double STALL_RATIO = 0.5;
+
+    private final FeaBeamSolver solver;
+    private final double tolerance;
+    private final int maxIterations;
+
+    public PDeltaSolver() {
+        this(new FeaBeamSolver());
+    }
+
+    public PDeltaSolver(FeaBeamSolver solver) {
+        this(solver, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param solver Solver providing assembly and the element stiffness cache
+     * @param tolerance Convergence tolerance on the relative change in displacements
+     * @param maxIterations Iterations on the linear factorization before refactoring
+     */
+    public PDeltaSolver(FeaBeamSolver solver, double tolerance, int maxIterations) {
+        if (tolerance <= 0.0 || maxIterations < 1) {
+            throw new IllegalArgumentException("Tolerance and iteration limit must be positive");
+        }
+        this.solver = solver;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Analyze a beam with the default mesh density
+     *
+     * @param beamModel The beam to analyze
+     * @return Second-order result
+     * @throws UnstableStructureException if the model is a mechanism or the axial load buckles it
+     */
+    public PDeltaResult solve(BeamModel beamModel) {
+        return solve(beamModel, FeaBeamSolver.DEFAULT_MIN_ELEMENTS);
+    }
+
+    /**
+     * Analyze a beam with at least the given number of elements
+     *
+     * @param beamModel The beam to analyze
+     * @param minElements Minimum number of elements in the mesh
+     * @return Second-order result
+     */
+    public PDeltaResult solve(BeamModel beamModel, int minElements) {
+        return solveOnMesh(beamModel, FeaBeamSolver.generateNodePositions(beamModel, minElements));
+    }
+
+    /**
+     * Analyze a beam on a given mesh. The mesh must contain every required node.
+     *
+     * @param beamModel The beam to analyze
+     * @param nodes Sorted node positions in feet
+     * @return Second-order result
+     */
+    public PDeltaResult solveOnMesh(BeamModel beamModel, double[] nodes) {
+        StabilityChecker.requireStable(beamModel);
+
+        int nodeCount = nodes.length;
+        int elementCount = nodeCount - 1;
+        int dofCount = 2 * nodeCount;
+        double axialLoad = beamModel.getAxialLoad();
+
+        BandedSymmetricMatrix stiffness = new BandedSymmetricMatrix(dofCount, FeaBeamSolver.BANDWIDTH);
+        solver.assembleStiffness(beamModel, nodes, stiffness);
+        BandedSymmetricMatrix geometric = new BandedSymmetricMatrix(dofCount, FeaBeamSolver.BANDWIDTH);
+        assembleGeometricStiffness(nodes, axialLoad, geometric);
+
+        double[] forces = new double[dofCount];
+        double[] nodeForces = new double[nodeCount];
+        double[] nodeMoments = new double[nodeCount];
+        double[] elementStartLoad = new double[elementCount];
+        double[] elementEndLoad = new double[elementCount];
+        FeaBeamSolver.assembleLoads(beamModel, nodes, forces, nodeForces, nodeMoments,
+                                    elementStartLoad, elementEndLoad);
+        FeaBeamSolver.checkCancelled();
+
+        List<Support> supports = beamModel.getSupports();
+        int[] supportNodes = new int[supports.size()];
+        boolean[] restrained = new boolean[dofCount];
+        for (int s = 0; s < supports.size(); s++) {
+            int node = FeaBeamSolver.findNode(nodes, supports.get(s).getPosition());
+            supportNodes[s] = node;
+            if (node < 0) {
+                continue;
+            }
+            restrained[2 * node] = true;
+            if (supports.get(s).getType() == Support.Type.FIXED) {
+                restrained[2 * node + 1] = true;
+            }
+        }
+
+        BandedSymmetricMatrix factored = constrain(stiffness.copy(), restrained);
+        FeaBeamSolver.factor(factored, nodes);
+        double[] linear = constrain(forces.clone(), restrained);
+        factored.solve(linear);
+
+        // Modified Newton on the linear factorization: u ← K⁻¹(F + Kg·u)
+        double[] displacements = linear.clone();
+        double[] next = new double[dofCount];
+        double[] change = new double[dofCount];
+        double[] previousChange = new double[dofCount];
+        int iterations = 0;
+        int refactors = 0;
+        boolean converged = axialLoad == 0.0 || maxAbs(linear) == 0.0;
+        while (!converged) {
+            FeaBeamSolver.checkCancelled();
+            geometric.multiply(displacements, next);
+            for (int i = 0; i < dofCount; i++) {
+                next[i] = restrained[i] ? 0.0 : forces[i] + next[i];
+            }
+            factored.solve(next);
+            iterations++;
+
+            for (int i = 0; i < dofCount; i++) {
+                change[i] = next[i] - displacements[i];
+            }
+            double[] swap = displacements;
+            displacements = next;
+            next = swap;
+            if (maxAbs(change) <= tolerance * maxAbs(displacements)) {
+                converged = true;
+                break;
+            }
+
+            // Secant estimate of the contraction rate along the dominant error mode
+            double rate = iterations > 1 ? dot(change, previousChange) / dot(previousChange, previousChange) : 0.0;
+            if (Math.abs(rate) > STALL_RATIO || iterations >= maxIterations) {
+                break;
+            }
+            if (iterations > 1) {
+                double extrapolation = rate / (1.0 - rate);
+                for (int i = 0; i < dofCount; i++) {
+                    displacements[i] += extrapolation * change[i];
+                }
+            }
+            swap = previousChange;
+            previousChange = change;
+            change = swap;
+        }
+
+        if (!converged) {
+            // Stalled: factor the tangent stiffness once; the problem is linear in u, so one solve is exact
+            BandedSymmetricMatrix tangent = stiffness.copy();
+            assembleGeometricStiffness(nodes, -axialLoad, tangent);
+            constrain(tangent, restrained);
+            try {
+                tangent.factor();
+            } catch (SingularMatrixException e) {
+                throw new UnstableStructureException(new StabilityReport(StabilityReport.Issue.AXIAL_BUCKLING,
+                    String.format("Axial load of %.1f kips exceeds the elastic buckling load", axialLoad)));
+            }
+            refactors++;
+            displacements = constrain(forces.clone(), restrained);
+            tangent.solve(displacements);
+        }
+        FeaBeamSolver.checkCancelled();
+
+        double[] internal = new double[dofCount];
+        stiffness.multiply(linear, internal);
+        double[] linearStartLoad = elementStartLoad.clone();
+        double[] linearEndLoad = elementEndLoad.clone();
+        FeaBeamSolver.addFoundationPressure(beamModel, nodes, linear, linearStartLoad, linearEndLoad);
+        AnalysisResult linearResult = FeaBeamSolver.buildResult(supports, supportNodes, nodes, linear, internal,
+            forces, nodeForces.clone(), nodeMoments.clone(), linearStartLoad, linearEndLoad);
+
+        // Internal forces of the second-order state are (K - Kg)·u
+        double[] geometricForces = new double[dofCount];
+        stiffness.multiply(displacements, internal);
+        geometric.multiply(displacements, geometricForces);
+        for (int i = 0; i < dofCount; i++) {
+            internal[i] -= geometricForces[i];
+        }
+        FeaBeamSolver.addFoundationPressure(beamModel, nodes, displacements, elementStartLoad, elementEndLoad);
+        AnalysisResult transverse = FeaBeamSolver.buildResult(supports, supportNodes, nodes, displacements, internal,
+            forces, nodeForces, nodeMoments, elementStartLoad, elementEndLoad);
+        AnalysisResult result = addAxialMoments(transverse, axialLoad);
+
+        return new PDeltaResult(result, linearResult, iterations, refactors);
+    }
+
+    /**
+     * Add the consistent geometric stiffness of every element, scaled by the axial force.
+     * For compression P the element matrix is (P / 30L)·[36, 3L, -36, 3L; 3L, 4L², -3L, -L²; ...].
+     */
+    static void assembleGeometricStiffness(double[] nodes, double axialLoad, BandedSymmetricMatrix matrix) {
+        if (axialLoad == 0.0) {
+            return;
+        }
+        for (int e = 0; e < nodes.length - 1; e++) {
+            double l = (nodes[e + 1] - nodes[e]) * 12.0;
+            double c = axialLoad / (30.0 * l);
+            double[] k = {
+                36.0,
+                3.0 * l,      4.0 * l * l,
+                -36.0,        -3.0 * l,     36.0,
+                3.0 * l,      -l * l,       -3.0 * l,    4.0 * l * l
+            };
+            int dof = 2 * e;
+            int index = 0;
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j <= i; j++) {
+                    matrix.add(dof + i, dof + j, c * k[index++]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the moment of the axial force about each station, -P·(v(x) - v(0)), to the
+     * transverse statics moments
+     */
+    private static AnalysisResult addAxialMoments(AnalysisResult transverse, double axialLoad) {
+        int nodeCount = transverse.getNodeCount();
+        double[] nodePositions = new double[nodeCount];
+        double[] deflections = new double[nodeCount];
+        double[] rotations = new double[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            nodePositions[i] = transverse.getNodePosition(i);
+            deflections[i] = transverse.getDeflection(i);
+            rotations[i] = transverse.getRotation(i);
+        }
+
+        int stationCount = transverse.getStationCount();
+        double[] stationPositions = new double[stationCount];
+        double[] shear = new double[stationCount];
+        double[] moment = new double[stationCount];
+        double origin = deflections[0];
+        for (int i = 0; i < stationCount; i++) {
+            double position = transverse.getStationPosition(i);
+            stationPositions[i] = position;
+            shear[i] = transverse.getShear(i);
+            moment[i] = transverse.getMoment(i) - axialLoad * (transverse.getDeflectionAt(position) - origin) / 12.0;
+        }
+
+        int supportCount = transverse.getSupportCount();
+        double[] supportPositions = new double[supportCount];
+        double[] reactionForces = new double[supportCount];
+        double[] reactionMoments = new double[supportCount];
+        for (int i = 0; i < supportCount; i++) {
+            supportPositions[i] = transverse.getSupportPosition(i);
+            reactionForces[i] = transverse.getReactionForce(i);
+            reactionMoments[i] = transverse.getReactionMoment(i);
+        }
+        return new AnalysisResult(nodePositions, deflections, rotations, stationPositions, shear, moment,
+                                  supportPositions, reactionForces, reactionMoments);
+    }
+
+    private static BandedSymmetricMatrix constrain(BandedSymmetricMatrix matrix, boolean[] restrained) {
+        for (int i = 0; i < restrained.length; i++) {
+            if (restrained[i]) {
+                matrix.constrain(i);
+            }
+        }
+        return matrix;
+    }
+
+    private static double[] constrain(double[] vector, boolean[] restrained) {
+        for (int i = 0; i < restrained.length; i++) {
+            if (restrained[i]) {
+                vector[i] = 0.0;
+            }
+        }
+        return vector;
+    }
+
+    private static double maxAbs(double[] values) {
+        double max = 0.0;
+        for (double value : values) {
+            max = Math.max(max, Math.abs(value));
+        }
+        return max;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,74 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Iterative analysis engine: refines the mesh by bisection until the maximum
+ * deflection converges. Slower than a single solve but self-checking.
+ */
+public class ProgressiveEngine implements AnalysisEngine {
+
+    public static final String NAME = "progressive";
+
+    // First-order only; axial loads need the P-delta engine
+    private static final Set<Capability> CAPABILITIES =
+        Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(Capability.AXIAL_LOAD)));
+    private static final int EXPECTED_LEVELS = 5; // Typical refinement depth at the default tolerance
+
+    private final ProgressiveSolver solver;
+    private final SolveCostModel costModel;
+    private final ThreadLocal<ReactionSolver> reactionSolver = ThreadLocal.withInitial(ReactionSolver::new);
+
+    public ProgressiveEngine() {
+        this(new ProgressiveSolver(new FeaBeamSolver()), SolveCostModel.shared());
+    }
+
+    public ProgressiveEngine(ProgressiveSolver solver, SolveCostModel costModel) {
+        this.solver = solver;
+        this.costModel = costModel;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public AnalysisResult analyze(BeamModel beamModel) {
+        return solver.solve(beamModel, (result, level, converged) -> { });
+    }
+
+    @Override
+    public void reactions(BeamModel beamModel, double[] forces, double[] moments) {
+        reactionSolver.get().solve(beamModel, forces, moments);
+    }
+
+    @Override
+    public boolean supportsRefinement() {
+        return true;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return false; // Converged only to the refinement tolerance
+    }
+
+    @Override
+    public double estimateCost(BeamModel beamModel) {
+        int elements = FeaBeamSolver.requiredNodePositions(beamModel).length - 1;
+        double total = 0.0;
+        for (int level = 0; level <= EXPECTED_LEVELS; level++) {
+            total += costModel.estimateNanos(elements << level);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,101 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+
+/**
+ * Progressive analysis: solve first on the minimal mesh of required nodes
+ * (beam ends, supports, load points and load ends), then bisect every element
+ * and re-solve until the maximum deflection stops changing or another level would
+ * pass MAX_ELEMENTS.
+ *
+ * Each level is reported to a listener as soon as it is available, so a caller
+ * can show the coarse answer immediately and replace it as refinement proceeds.
+ */
+public class ProgressiveSolver {
+
+    public static final double DEFAULT_TOLERANCE = 1e-3;  // Relative change in max deflection
+    public static final int DEFAULT_MAX_LEVEL = 8;
+    // Finer meshes lose accuracy to round-off and eventually fail as spurious mechanisms
+    public static final int MAX_ELEMENTS = FeaBeamSolver.MAX_ACCURATE_ELEMENTS;
+
+    /**
+     * Interface for receiving results as each refinement level completes
+     */
+    public interface RefinementListener {
+        void onLevelCompleted(AnalysisResult result, int level, boolean converged);
+    }
+
+    private final FeaBeamSolver solver;
+    private final double tolerance;
+    private final int maxLevel;
+
+    public ProgressiveSolver(FeaBeamSolver solver) {
+        this(solver, DEFAULT_TOLERANCE, DEFAULT_MAX_LEVEL);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param solver Solver used for each level
+     * @param tolerance Relative change in maximum deflection treated as converged
+     * @param maxLevel Highest refinement level to attempt
+     */
+    public ProgressiveSolver(FeaBeamSolver solver, double tolerance, int maxLevel) {
+        this.solver = solver;
+        this.tolerance = tolerance;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Run the progressive analysis
+     *
+     * @param beamModel The beam to analyze
+     * @param listener Receives the result of every level, the last one flagged converged
+     * @return Result of the final level
+     */
+    public AnalysisResult solve(BeamModel beamModel, RefinementListener listener) {
+        double[] nodes = FeaBeamSolver.requiredNodePositions(beamModel);
+        AnalysisResult previous = solver.solveOnMesh(beamModel, nodes);
+        int level = 0;
+
+        while (level < maxLevel && 2 * (nodes.length - 1) <= MAX_ELEMENTS) {
+            listener.onLevelCompleted(previous, level, false);
+
+            nodes = bisect(nodes);
+            level++;
+            AnalysisResult current = solver.solveOnMesh(beamModel, nodes);
+            if (hasConverged(previous, current)) {
+                listener.onLevelCompleted(current, level, true);
+                return current;
+            }
+            previous = current;
+        }
+
+        // Refinement limit reached; report the finest result as final
+        listener.onLevelCompleted(previous, level, true);
+        return previous;
+    }
+
+    private boolean hasConverged(AnalysisResult previous, AnalysisResult current) {
+        double before = Math.abs(previous.getMaxDeflection());
+        double after = Math.abs(current.getMaxDeflection());
+        double scale = Math.max(after, 1e-12);
+        return Math.abs(after - before) <= tolerance * scale;
+    }
+
+    /**
+     * Split every element of a mesh in two
+     *
+     * @param nodes Sorted node positions
+     * @return Refined node positions
+     */
+    static double[] bisect(double[] nodes) {
+        double[] refined = new double[2 * nodes.length - 1];
+        for (int i = 0; i < nodes.length - 1; i++) {
+            refined[2 * i] = nodes[i];
+            refined[2 * i + 1] = 0.5 * (nodes[i] + nodes[i + 1]);
+        }
+        refined[refined.length - 1] = nodes[nodes.length - 1];
+        return refined;
+    }
+}
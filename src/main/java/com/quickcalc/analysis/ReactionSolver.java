@@ -0,0 +1,294 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.StiffnessSegment;
+import com.quickcalc.models.Support;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Support reactions without a full analysis, for load takedown over many beams.
+ *
+ * Statically determinate beams are resolved by equilibrium of the load
+ * resultants. Other beams get the banded FEA solve on the smallest mesh that
+ * gives the same reactions: prismatic elements with consistent loads are exact
+ * at the nodes, so only the required nodes are used, while tapered segments and
+ * elastic foundations keep the default mesh of {@link FeaBeamSolver}. No
+ * diagrams or result objects are built, and the matrices and vectors are a
+ * workspace reused from beam to beam, so a warmed-up solver does not allocate
+ * for a prismatic beam. An instance is not safe for concurrent use.
+ *
+ * Axial load is ignored; reactions are first-order.
+ */
+public class ReactionSolver {
+
+    private final FeaBeamSolver assembler;
+
+    // Workspace, grown on demand and never shrunk
+    private double[] required = new double[16];
+    private double[][] meshes = new double[16][]; // Exact-length node arrays, reused by node count
+    private BandedSymmetricMatrix stiffness;
+    private BandedSymmetricMatrix constrained;
+    private double[] loads = new double[0];
+    private double[] displacements = new double[0];
+    private double[] internal = new double[0];
+    private double[] nodeForces = new double[0];
+    private double[] nodeMoments = new double[0];
+    private double[] elementStartLoad = new double[0];
+    private double[] elementEndLoad = new double[0];
+    private double loadForce;
+    private double loadMoment;
+
+    /**
+     * Constructor using the shared element stiffness cache
+     */
+    public ReactionSolver() {
+        this(ElementStiffnessCache.shared());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param stiffnessCache Cache of element stiffness matrices
+     */
+    public ReactionSolver(ElementStiffnessCache stiffnessCache) {
+        this.assembler = new FeaBeamSolver(stiffnessCache);
+    }
+
+    /**
+     * Compute the reactions of a beam
+     *
+     * @param beamModel The beam
+     * @param forces Output for vertical reactions in kips, in support order
+     * @param moments Output for reaction moments in kip-ft, zero at non-fixed supports; may be null
+     * @throws UnstableStructureException if the beam is a mechanism
+     */
+    public void solve(BeamModel beamModel, double[] forces, double[] moments) {
+        solve(beamModel, forces, moments, 0);
+    }
+
+    /**
+     * Compute the reactions of many beams in one pass, packed beam after beam
+     *
+     * @param beams The beams
+     * @param forces Output for vertical reactions in kips, at least as long as the total support count
+     * @return Number of reactions written
+     * @throws UnstableStructureException if any beam is a mechanism
+     */
+    public int solveAll(List<BeamModel> beams, double[] forces) {
+        int offset = 0;
+        for (BeamModel beam : beams) {
+            solve(beam, forces, null, offset);
+            offset += beam.getSupports().size();
+        }
+        return offset;
+    }
+
+    private void solve(BeamModel beamModel, double[] forces, double[] moments, int offset) {
+        StabilityChecker.requireStable(beamModel);
+        int supportCount = beamModel.getSupports().size();
+        Arrays.fill(forces, offset, offset + supportCount, 0.0);
+        if (moments != null) {
+            Arrays.fill(moments, offset, offset + supportCount, 0.0);
+        }
+        if (!StabilityChecker.isIndeterminate(beamModel) && solveByStatics(beamModel, forces, moments, offset)) {
+            return;
+        }
+        solveBanded(beamModel, forces, moments, offset);
+    }
+
+    /**
+     * Resolve the two restraints of a determinate beam from equilibrium
+     *
+     * @return False if the supports coincide and the banded solve should report it
+     */
+    private boolean solveByStatics(BeamModel beamModel, double[] forces, double[] moments, int offset) {
+        List<Support> supports = beamModel.getSupports();
+        if (supports.size() == 1) {
+            // A single stable support is fixed
+            sumLoads(beamModel, supports.get(0).getPosition());
+            forces[offset] = -loadForce;
+            if (moments != null) {
+                moments[offset] = -loadMoment;
+            }
+            return true;
+        }
+
+        double a = supports.get(0).getPosition();
+        double b = supports.get(1).getPosition();
+        if (Math.abs(b - a) <= FeaBeamSolver.POSITION_TOLERANCE) {
+            return false;
+        }
+        sumLoads(beamModel, a);
+        double right = -loadMoment / (b - a);
+        forces[offset + 1] = right;
+        forces[offset] = -loadForce - right;
+        return true;
+    }
+
+    /**
+     * Sum the applied loads on the beam into {@link #loadForce} in kips and
+     * {@link #loadMoment}, their counterclockwise moment about a point, in kip-ft.
+     * Loads are clipped to the beam as the mesh clips them.
+     */
+    private void sumLoads(BeamModel beamModel, double about) {
+        double length = beamModel.getLength();
+        double force = 0.0;
+        double moment = 0.0;
+        for (Load load : beamModel.getLoads()) {
+            switch (load.getType()) {
+                case POINT:
+                    if (isOnBeam(load.getPosition(), length)) {
+                        force += load.getMagnitude();
+                        moment += load.getMagnitude() * (load.getPosition() - about);
+                    }
+                    break;
+                case MOMENT:
+                    if (isOnBeam(load.getPosition(), length)) {
+                        moment += load.getMagnitude();
+                    }
+                    break;
+                case DISTRIBUTED: {
+                    double x1 = load.getPosition();
+                    double x2 = load.getEndPosition();
+                    double w1 = load.getMagnitude();
+                    double w2 = load.getMagnitudeEnd();
+                    if (x2 < x1) {
+                        double tmp = x1; x1 = x2; x2 = tmp;
+                        tmp = w1; w1 = w2; w2 = tmp;
+                    }
+                    double start = Math.max(x1, 0.0);
+                    double end = Math.min(x2, length);
+                    if (end - start <= FeaBeamSolver.POSITION_TOLERANCE) {
+                        break;
+                    }
+                    double slope = (w2 - w1) / (x2 - x1);
+                    double wa = w1 + slope * (start - x1);
+                    double wb = w1 + slope * (end - x1);
+                    double span = end - start;
+                    double resultant = (wa + wb) * span / 2.0;
+                    force += resultant;
+                    moment += resultant * (start - about) + span * span * (wa + 2.0 * wb) / 6.0;
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unknown load type");
+            }
+        }
+        loadForce = force;
+        loadMoment = moment;
+    }
+
+    private static boolean isOnBeam(double position, double length) {
+        return position >= -FeaBeamSolver.POSITION_TOLERANCE && position <= length + FeaBeamSolver.POSITION_TOLERANCE;
+    }
+
+    private void solveBanded(BeamModel beamModel, double[] forces, double[] moments, int offset) {
+        double[] nodes = mesh(beamModel);
+        int nodeCount = nodes.length;
+        int dofCount = 2 * nodeCount;
+        ensureCapacity(dofCount);
+
+        // Trailing workspace DOFs stay decoupled identity rows with zero load
+        stiffness.clear();
+        assembler.assembleStiffness(beamModel, nodes, stiffness);
+        Arrays.fill(loads, 0.0);
+        Arrays.fill(nodeForces, 0.0);
+        Arrays.fill(nodeMoments, 0.0);
+        // Element intensities only feed the diagrams, so they are never read back here
+        FeaBeamSolver.assembleLoads(beamModel, nodes, loads, nodeForces, nodeMoments, elementStartLoad, elementEndLoad);
+        FeaBeamSolver.checkCancelled();
+
+        List<Support> supports = beamModel.getSupports();
+        constrained.copyFrom(stiffness);
+        for (int dof = dofCount; dof < constrained.getSize(); dof++) {
+            constrained.constrain(dof);
+        }
+        System.arraycopy(loads, 0, displacements, 0, loads.length);
+        for (Support support : supports) {
+            int node = FeaBeamSolver.findNode(nodes, support.getPosition());
+            if (node < 0) {
+                continue;
+            }
+            constrained.constrain(2 * node);
+            displacements[2 * node] = 0.0;
+            if (support.getType() == Support.Type.FIXED) {
+                constrained.constrain(2 * node + 1);
+                displacements[2 * node + 1] = 0.0;
+            }
+        }
+        FeaBeamSolver.factor(constrained, nodes);
+        constrained.solve(displacements);
+        stiffness.multiply(displacements, internal);
+
+        // R = K·u - F at the support DOFs; a duplicate support at a reported node gets nothing
+        for (int s = 0; s < supports.size(); s++) {
+            int node = FeaBeamSolver.findNode(nodes, supports.get(s).getPosition());
+            if (node < 0 || isReported(supports, nodes, s, node)) {
+                continue;
+            }
+            forces[offset + s] = internal[2 * node] - loads[2 * node];
+            if (moments != null && supports.get(s).getType() == Support.Type.FIXED) {
+                moments[offset + s] = (internal[2 * node + 1] - loads[2 * node + 1]) / 12.0;
+            }
+        }
+    }
+
+    private static boolean isReported(List<Support> supports, double[] nodes, int support, int node) {
+        for (int s = 0; s < support; s++) {
+            if (FeaBeamSolver.findNode(nodes, supports.get(s).getPosition()) == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the mesh for a beam, reusing a workspace array when only the required nodes are needed
+     */
+    private double[] mesh(BeamModel beamModel) {
+        if (beamModel.getFoundationModulus() > 0.0 || hasTaperedSegment(beamModel)) {
+            return FeaBeamSolver.generateNodePositions(beamModel, FeaBeamSolver.DEFAULT_MIN_ELEMENTS);
+        }
+        int capacity = FeaBeamSolver.requiredNodeCapacity(beamModel);
+        if (required.length < capacity) {
+            required = new double[Math.max(capacity, 2 * required.length)];
+        }
+        int count = FeaBeamSolver.collectRequiredNodes(beamModel, required);
+        if (count >= meshes.length) {
+            meshes = Arrays.copyOf(meshes, Math.max(count + 1, 2 * meshes.length));
+        }
+        if (meshes[count] == null) {
+            meshes[count] = new double[count];
+        }
+        System.arraycopy(required, 0, meshes[count], 0, count);
+        return meshes[count];
+    }
+
+    private static boolean hasTaperedSegment(BeamModel beamModel) {
+        for (StiffnessSegment segment : beamModel.getStiffnessSegments()) {
+            if (segment.isTapered()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int dofCount) {
+        if (stiffness != null && stiffness.getSize() >= dofCount) {
+            return;
+        }
+        int size = Math.max(dofCount, stiffness == null ? 0 : 2 * stiffness.getSize());
+        stiffness = new BandedSymmetricMatrix(size, FeaBeamSolver.BANDWIDTH);
+        constrained = new BandedSymmetricMatrix(size, FeaBeamSolver.BANDWIDTH);
+        loads = new double[size];
+        displacements = new double[size];
+        internal = new double[size];
+        nodeForces = new double[size / 2];
+        nodeMoments = new double[size / 2];
+        elementStartLoad = new double[size / 2];
+        elementEndLoad = new double[size / 2];
+    }
+}
@@ -0,0 +1,96 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.constants.BeamConstants;
+import com.quickcalc.models.BeamModel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup of material and section properties used to derive a beam's base flexural rigidity
+ */
+public class SectionProperties {
+
+    // Fallback moment of inertia for unknown sections, matching the backend default (in^4)
+    public static final double DEFAULT_MOMENT_OF_INERTIA = 100.0;
+
+    private static final Map<String, Double> MOMENTS_OF_INERTIA = new HashMap<>();
+
+    static {
+        // Steel wide-flange sections (strong axis, in^4)
+        MOMENTS_OF_INERTIA.put("W8X10", 30.8);
+        MOMENTS_OF_INERTIA.put("W10X12", 53.8);
+        MOMENTS_OF_INERTIA.put("W12X26", 204.0);
+        MOMENTS_OF_INERTIA.put("W14X22", 199.0);
+        MOMENTS_OF_INERTIA.put("W16X26", 301.0);
+        MOMENTS_OF_INERTIA.put("W18X35", 510.0);
+        MOMENTS_OF_INERTIA.put("W21X44", 843.0);
+        MOMENTS_OF_INERTIA.put("W24X55", 1350.0);
+
+        // Dimension lumber (actual sizes, strong axis, in^4)
+        MOMENTS_OF_INERTIA.put("2X6", 20.80);
+        MOMENTS_OF_INERTIA.put("2X8", 47.63);
+        MOMENTS_OF_INERTIA.put("2X10", 98.93);
+        MOMENTS_OF_INERTIA.put("2X12", 177.98);
+    }
+
+    private SectionProperties() {
+    }
+
+    /**
+     * Get the modulus of elasticity for a material
+     *
+     * @param material Material name (e.g., "Steel", "Wood")
+     * @return Modulus of elasticity in ksi
+     */
+    public static double getElasticModulus(String material) {
+        if (material == null) {
+            return BeamConstants.E_STEEL;
+        }
+        switch (material.trim().toLowerCase()) {
+            case "concrete":
+                return BeamConstants.E_CONCRETE;
+            case "wood":
+            case "timber":
+                return BeamConstants.E_WOOD;
+            case "steel":
+            default:
+                return BeamConstants.E_STEEL;
+        }
+    }
+
+    /**
+     * Get the strong-axis moment of inertia for a section designation
+     *
+     * @param section Section designation (e.g., "W10x12", "2x8")
+     * @return Moment of inertia in in^4
+     */
+    public static double getMomentOfInertia(String section) {
+        if (section == null) {
+            return DEFAULT_MOMENT_OF_INERTIA;
+        }
+        return MOMENTS_OF_INERTIA.getOrDefault(section.trim().toUpperCase(), DEFAULT_MOMENT_OF_INERTIA);
+    }
+
+    /**
+     * Get the base flexural rigidity of a beam from its material and section
+     *
+     * @param beamModel The beam
+     * @return EI in kip-in²
+     */
+    public static double getFlexuralRigidity(BeamModel beamModel) {
+        return getElasticModulus(beamModel.getMaterial()) * getMomentOfInertia(beamModel.getSection());
+    }
+
+    /**
+     * Get the characteristic of a beam on an elastic foundation, λ = (k / 4EI)^¼.
+     * Deflection waves under a load decay as e^(-λx).
+     *
+     * @param beamModel The beam
+     * @return λ in 1/in, or zero if the beam has no foundation
+     */
+    public static double getFoundationCharacteristic(BeamModel beamModel) {
+        double modulus = beamModel.getFoundationModulus();
+        return modulus > 0.0 ? Math.pow(modulus / (4.0 * getFlexuralRigidity(beamModel)), 0.25) : 0.0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.quickcalc.analysis;
+
+/**
+ * Thrown by the factorization when a pivot vanishes, identifying the offending DOF
+ */
+public class SingularMatrixException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int dof;
+
+    public SingularMatrixException(int dof) {
+        super("Stiffness matrix is singular at DOF " + dof);
+        this.dof = dof;
+    }
+
+    public int getDof() {
+        return dof;
+    }
+}
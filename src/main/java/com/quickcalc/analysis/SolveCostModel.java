@@ -0,0 +1,80 @@
+package com.quickcalc.analysis;
+
+/**
+ * Running calibration of solve cost on this machine.
+ * Cost is modeled as a fixed per-solve overhead plus a per-element cost,
+ * the latter tracked as an exponentially weighted moving average of
+ * observed solves so the estimate follows JIT warm-up and machine load.
+ */
+public class SolveCostModel {
+
+    // Conservative starting point before any solve has been observed
+    private static final double INITIAL_NANOS_PER_ELEMENT = 5_000.0;
+    private static final double OVERHEAD_NANOS = 20_000.0;
+    private static final double SMOOTHING = 0.2;
+
+    private static final SolveCostModel SHARED = new SolveCostModel();
+
+    private double nanosPerElement = INITIAL_NANOS_PER_ELEMENT;
+    private long samples;
+
+    /**
+     * Constructor for a calibration that starts from the conservative default
+     */
+    public SolveCostModel() {
+    }
+
+    /**
+     * Get the calibration shared by all budgeted solves
+     */
+    public static SolveCostModel shared() {
+        return SHARED;
+    }
+
+    /**
+     * Record an observed solve
+     *
+     * @param elements Number of elements solved
+     * @param elapsedNanos Wall-clock time of the solve
+     */
+    public synchronized void record(int elements, long elapsedNanos) {
+        if (elements <= 0) {
+            return;
+        }
+        double observed = Math.max(1.0, (elapsedNanos - OVERHEAD_NANOS) / elements);
+        nanosPerElement = samples == 0 ? observed : nanosPerElement + SMOOTHING * (observed - nanosPerElement);
+        samples++;
+    }
+
+    /**
+     * Estimate the time to solve a mesh
+     *
+     * @param elements Number of elements
+     * @return Estimated time in nanoseconds
+     */
+    public synchronized long estimateNanos(int elements) {
+        return (long) (OVERHEAD_NANOS + nanosPerElement * elements);
+    }
+
+    /**
+     * Get the largest element count expected to solve within a time budget
+     *
+     * @param budgetNanos Time budget in nanoseconds
+     * @return Element count (zero if even the overhead does not fit)
+     */
+    public synchronized int affordableElements(long budgetNanos) {
+        double available = budgetNanos - OVERHEAD_NANOS;
+        if (available <= 0) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, available / nanosPerElement);
+    }
+
+    public synchronized double getNanosPerElement() {
+        return nanosPerElement;
+    }
+
+    public synchronized long getSampleCount() {
+        return samples;
+    }
+}
@@ -0,0 +1,118 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Support;
+
+import java.util.List;
+
+/**
+ * Kinematic stability screen for a beam, run before any assembly.
+ * Looks only at the support list, so an unstable model is rejected in
+ * O(supports) instead of failing inside the factorization. A beam on an
+ * elastic foundation is held by the foundation and needs no supports.
+ */
+public class StabilityChecker {
+
+    private StabilityChecker() {
+    }
+
+    /**
+     * Check whether the supports of a beam prevent every rigid-body motion
+     *
+     * @param beamModel The beam to check
+     * @return Report describing the first problem found, or a stable report
+     */
+    public static StabilityReport check(BeamModel beamModel) {
+        double length = beamModel.getLength();
+        if (!(length > 0.0)) {
+            return new StabilityReport(StabilityReport.Issue.INVALID_LENGTH,
+                String.format("Beam length must be positive (got %.3f ft)", length));
+        }
+
+        List<Support> supports = beamModel.getSupports();
+        boolean onFoundation = beamModel.getFoundationModulus() > 0.0;
+        if (supports.isEmpty() && !onFoundation) {
+            return new StabilityReport(StabilityReport.Issue.NO_SUPPORTS,
+                "Beam has no supports; it is free to translate and rotate");
+        }
+
+        double minPosition = Double.POSITIVE_INFINITY;
+        double maxPosition = Double.NEGATIVE_INFINITY;
+        boolean rotationRestrained = false;
+        boolean horizontalRestrained = false;
+
+        for (Support support : supports) {
+            double position = support.getPosition();
+            if (position < -FeaBeamSolver.POSITION_TOLERANCE || position > length + FeaBeamSolver.POSITION_TOLERANCE) {
+                return new StabilityReport(StabilityReport.Issue.SUPPORT_OFF_BEAM,
+                    String.format("%s support at %.2f ft is outside the beam (0 to %.2f ft)",
+                                  support.getType(), position, length));
+            }
+            minPosition = Math.min(minPosition, position);
+            maxPosition = Math.max(maxPosition, position);
+            switch (support.getType()) {
+                case FIXED:
+                    rotationRestrained = true;
+                    horizontalRestrained = true;
+                    break;
+                case PINNED:
+                    horizontalRestrained = true;
+                    break;
+                case ROLLER:
+                default:
+                    break;
+            }
+        }
+
+        if (onFoundation) {
+            return StabilityReport.stable();
+        }
+
+        // Vertical restraints that all act at one point cannot resist rotation about it
+        if (!rotationRestrained && maxPosition - minPosition <= FeaBeamSolver.POSITION_TOLERANCE) {
+            return new StabilityReport(StabilityReport.Issue.ROTATION_MECHANISM,
+                String.format("All supports are at %.2f ft and none is fixed; the beam can rotate freely about that point",
+                              minPosition));
+        }
+
+        if (!horizontalRestrained) {
+            return new StabilityReport(StabilityReport.Issue.NO_HORIZONTAL_RESTRAINT,
+                "All supports are rollers; nothing resists horizontal movement. Change one support to pinned or fixed");
+        }
+
+        return StabilityReport.stable();
+    }
+
+    /**
+     * Check whether a beam has more transverse restraints than statics can resolve.
+     * Each support restrains vertical movement and a fixed support also restrains
+     * rotation; a stable beam with more than two such restraints is indeterminate,
+     * as is any beam on an elastic foundation.
+     *
+     * @param beamModel The beam to check
+     * @return True if the reactions cannot be found from equilibrium alone
+     */
+    public static boolean isIndeterminate(BeamModel beamModel) {
+        if (beamModel.getFoundationModulus() > 0.0) {
+            return true;
+        }
+        int restraints = 0;
+        for (Support support : beamModel.getSupports()) {
+            restraints += support.getType() == Support.Type.FIXED ? 2 : 1;
+        }
+        return restraints > 2;
+    }
+
+    /**
+     * Check a beam and throw if it is unstable
+     *
+     * @param beamModel The beam to check
+     * @throws UnstableStructureException if the beam is a mechanism
+     */
+    public static void requireStable(BeamModel beamModel) {
+        StabilityReport report = check(beamModel);
+        if (!report.isStable()) {
+            throw new UnstableStructureException(report);
+        }
+    }
+}
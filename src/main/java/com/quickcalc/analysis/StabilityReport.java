@@ -0,0 +1,61 @@
+package com.quickcalc.analysis;
+
+/**
+ * Outcome of a kinematic stability check, with a diagnostic for unstable models
+ */
+public class StabilityReport {
+
+    /**
+     * Enum for the reasons a model can be rejected
+     */
+    public enum Issue {
+        NONE,                    // Model is stable
+        INVALID_LENGTH,          // Beam length is zero or negative
+        NO_SUPPORTS,             // Free to translate and rotate
+        SUPPORT_OFF_BEAM,        // A support lies outside the beam
+        ROTATION_MECHANISM,      // All vertical restraint at one point with no fixity
+        NO_HORIZONTAL_RESTRAINT, // Roller-only: nothing resists sliding along the beam
+        SINGULAR_STIFFNESS,      // Caught by the zero-pivot guard during factorization
+        AXIAL_BUCKLING           // Axial compression at or above the elastic buckling load
+    }
+
+    private static final StabilityReport STABLE = new StabilityReport(Issue.NONE, "Model is stable");
+
+    private final Issue issue;
+    private final String message;
+
+    /**
+     * Constructor
+     *
+     * @param issue Reason the model is unstable, or NONE
+     * @param message Human-readable diagnostic
+     */
+    public StabilityReport(Issue issue, String message) {
+        this.issue = issue;
+        this.message = message;
+    }
+
+    /**
+     * Get the report for a stable model
+     */
+    public static StabilityReport stable() {
+        return STABLE;
+    }
+
+    public boolean isStable() {
+        return issue == Issue.NONE;
+    }
+
+    public Issue getIssue() {
+        return issue;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return issue + ": " + message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.quickcalc.analysis;
+
+/**
+ * Thrown when a model cannot be analyzed because it is a mechanism
+ */
+public class UnstableStructureException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final StabilityReport report;
+
+    public UnstableStructureException(StabilityReport report) {
+        super(report.getMessage());
+        this.report = report;
+    }
+
+    public StabilityReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,83 @@
+package com.quickcalc.analysis.fatigue;
+
+/**
+ * Fatigue damage at a set of stations from repeated passes of a wheel train.
+ * Each station streams its bending stress history straight into its own
+ * rainflow counter, so memory stays bounded however many passes are added.
+ */
+public class FatigueAnalysis {
+
+    private final InfluenceLines influenceLines;
+    private final MovingLoad train;
+    private final double sectionModulus;
+    private final double increment;
+    private final RainflowCounter[] counters;
+    private long passes;
+
+    /**
+     * Constructor
+     *
+     * @param influenceLines Moment influence lines at the stations of interest
+     * @param train Wheel train crossing the beam
+     * @param sectionModulus Elastic section modulus in in³
+     * @param increment Advance of the train between stress samples in feet
+     * @param binWidth Stress range bin width in ksi
+     */
+    public FatigueAnalysis(InfluenceLines influenceLines, MovingLoad train, double sectionModulus,
+                           double increment, double binWidth) {
+        if (!(sectionModulus > 0.0)) {
+            throw new IllegalArgumentException("Section modulus must be positive: " + sectionModulus);
+        }
+        this.influenceLines = influenceLines;
+        this.train = train;
+        this.sectionModulus = sectionModulus;
+        this.increment = increment;
+        this.counters = new RainflowCounter[influenceLines.getStationCount()];
+        for (int s = 0; s < counters.length; s++) {
+            counters[s] = new RainflowCounter(binWidth);
+        }
+    }
+
+    /**
+     * Add passes of the train at every station
+     *
+     * @param count Number of passes
+     */
+    public void addPasses(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Pass count cannot be negative: " + count);
+        }
+        double stressPerMoment = 12.0 / sectionModulus;
+        for (int s = 0; s < counters.length; s++) {
+            int station = s;
+            counters[s].acceptRepeated(sink -> influenceLines.streamMoments(station, train, increment,
+                moment -> sink.accept(moment * stressPerMoment)), count);
+        }
+        passes += count;
+    }
+
+    /**
+     * Get Miner's-rule damage at a station
+     *
+     * @param station Station index
+     * @param curve S-N curve of the detail at the station
+     * @return Cumulative damage; failure is predicted at 1.0
+     */
+    public double getDamage(int station, SnCurve curve) {
+        return counters[station].damage(curve);
+    }
+
+    /**
+     * Get the stress range histogram at a station
+     *
+     * @param station Station index
+     * @return Rainflow counter holding the histogram and residue
+     */
+    public RainflowCounter getCounter(int station) {
+        return counters[station];
+    }
+
+    public long getPasses() {
+        return passes;
+    }
+}
@@ -0,0 +1,147 @@
+package com.quickcalc.analysis.fatigue;
+
+import com.quickcalc.analysis.AnalysisResult;
+import com.quickcalc.analysis.FeaBeamSolver;
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Moment influence lines at a set of stations, sampled at a uniform grid of
+ * load positions plus the stations themselves, where the lines have their kinks.
+ * Every unit-load case is solved on one shared mesh that holds all sample
+ * positions as nodes, so the ordinates are exact there and linear between them.
+ */
+public class InfluenceLines {
+
+    private final double[] stations;
+    private final double step;
+    private final double length;
+    private final double[] positions; // Sorted sample positions in feet
+    private final int[] gridIndex; // Index in positions of each uniform grid point
+    private final double[][] ordinates; // [station][position], kip-ft per kip of downward load
+
+    private InfluenceLines(double[] stations, double step, double length, double[] positions, int[] gridIndex,
+                           double[][] ordinates) {
+        this.stations = stations;
+        this.step = step;
+        this.length = length;
+        this.positions = positions;
+        this.gridIndex = gridIndex;
+        this.ordinates = ordinates;
+    }
+
+    /**
+     * Compute moment influence lines for a beam. The beam's own loads are ignored.
+     *
+     * @param solver Solver used for the unit-load cases
+     * @param beamModel The beam
+     * @param stations Positions in feet where moments are wanted
+     * @param step Spacing of unit-load positions in feet
+     * @return Influence lines
+     */
+    public static InfluenceLines compute(FeaBeamSolver solver, BeamModel beamModel, double[] stations, double step) {
+        double length = beamModel.getLength();
+        if (!(step > 0.0) || step > length) {
+            throw new IllegalArgumentException("Load step must be positive and no longer than the beam: " + step);
+        }
+        int gridCount = (int) Math.ceil(length / step - 1e-9) + 1;
+        double gridStep = length / (gridCount - 1);
+
+        // Zero-magnitude point loads make every grid position and station a required node
+        BeamModel mesh = beamModel.copy();
+        mesh.getLoads().clear();
+        for (int p = 0; p < gridCount; p++) {
+            mesh.addLoad(new Load(p * gridStep, 0.0, Load.Type.POINT));
+        }
+        for (double station : stations) {
+            mesh.addLoad(new Load(station, 0.0, Load.Type.POINT));
+        }
+        double[] positions = FeaBeamSolver.requiredNodePositions(mesh);
+        double[] nodes = FeaBeamSolver.generateNodePositions(mesh, FeaBeamSolver.DEFAULT_MIN_ELEMENTS);
+
+        int[] gridIndex = new int[gridCount];
+        for (int p = 0, i = 0; p < gridCount; p++) {
+            while (i + 1 < positions.length && positions[i + 1] <= p * gridStep + 1e-9) {
+                i++;
+            }
+            gridIndex[p] = i;
+        }
+
+        double[][] ordinates = new double[stations.length][positions.length];
+        BeamModel unit = beamModel.copy();
+        unit.getLoads().clear();
+        Load unitLoad = new Load(0.0, -1.0, Load.Type.POINT);
+        unit.addLoad(unitLoad);
+        for (int p = 0; p < positions.length; p++) {
+            unitLoad.setPosition(positions[p]);
+            AnalysisResult result = solver.solveOnMesh(unit, nodes);
+            for (int s = 0; s < stations.length; s++) {
+                ordinates[s][p] = result.getMomentAt(stations[s]);
+            }
+        }
+        return new InfluenceLines(stations.clone(), gridStep, length, positions, gridIndex, ordinates);
+    }
+
+    /**
+     * Get the moment at a station per kip of downward load at a position
+     *
+     * @param station Station index
+     * @param position Load position in feet; off the beam the ordinate is zero
+     * @return Moment in kip-ft per kip
+     */
+    public double getOrdinate(int station, double position) {
+        if (position < 0.0 || position > length) {
+            return 0.0;
+        }
+        // The uniform grid finds the interval in O(1); only stations can lie in between
+        int index = gridIndex[Math.min((int) (position / step), gridIndex.length - 1)];
+        while (index + 2 < positions.length && positions[index + 1] <= position) {
+            index++;
+        }
+        index = Math.min(index, positions.length - 2);
+        double start = positions[index];
+        double fraction = (position - start) / (positions[index + 1] - start);
+        double[] line = ordinates[station];
+        return line[index] + fraction * (line[index + 1] - line[index]);
+    }
+
+    /**
+     * Stream the moment history at a station as a wheel train crosses the beam,
+     * from the lead wheel entering until the last wheel leaves. Nothing is stored.
+     *
+     * @param station Station index
+     * @param train Wheel train
+     * @param increment Advance of the train between samples in feet
+     * @param sink Receives moments in kip-ft
+     */
+    public void streamMoments(int station, MovingLoad train, double increment, DoubleConsumer sink) {
+        if (!(increment > 0.0)) {
+            throw new IllegalArgumentException("Train increment must be positive: " + increment);
+        }
+        double travel = length + train.getLength();
+        long samples = (long) Math.ceil(travel / increment - 1e-9) + 1;
+        int wheels = train.getWheelCount();
+        for (long i = 0; i < samples; i++) {
+            double lead = Math.min(i * increment, travel);
+            double moment = 0.0;
+            for (int w = 0; w < wheels; w++) {
+                moment += train.getLoad(w) * getOrdinate(station, lead - train.getOffset(w));
+            }
+            sink.accept(moment);
+        }
+    }
+
+    public int getStationCount() {
+        return stations.length;
+    }
+
+    public double getStation(int station) {
+        return stations[station];
+    }
+
+    public double getStep() {
+        return step;
+    }
+}
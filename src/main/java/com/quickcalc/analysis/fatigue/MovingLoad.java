@@ -0,0 +1,62 @@
+package com.quickcalc.analysis.fatigue;
+
+import java.util.Arrays;
+
+/**
+ * A train of wheel loads at fixed spacing, such as the wheels of a crane end truck
+ */
+public class MovingLoad {
+
+    private final double[] loads;
+    private final double[] offsets;
+
+    /**
+     * Constructor
+     *
+     * @param loads Wheel loads in kips, positive downward
+     * @param offsets Distance of each wheel behind the lead wheel in feet, zero for the lead wheel
+     */
+    public MovingLoad(double[] loads, double[] offsets) {
+        if (loads.length == 0 || loads.length != offsets.length) {
+            throw new IllegalArgumentException("Each wheel needs a load and an offset");
+        }
+        for (double offset : offsets) {
+            if (offset < 0.0) {
+                throw new IllegalArgumentException("Wheel offsets are measured behind the lead wheel: " + offset);
+            }
+        }
+        this.loads = loads.clone();
+        this.offsets = offsets.clone();
+    }
+
+    /**
+     * Two equal wheels, e.g. one side of a crane bridge
+     *
+     * @param wheelLoad Load per wheel in kips
+     * @param wheelBase Wheel spacing in feet
+     */
+    public static MovingLoad twoWheels(double wheelLoad, double wheelBase) {
+        return new MovingLoad(new double[] {wheelLoad, wheelLoad}, new double[] {0.0, wheelBase});
+    }
+
+    public int getWheelCount() {
+        return loads.length;
+    }
+
+    public double getLoad(int wheel) {
+        return loads[wheel];
+    }
+
+    public double getOffset(int wheel) {
+        return offsets[wheel];
+    }
+
+    /**
+     * Get the distance from the lead wheel to the last wheel
+     *
+     * @return Length in feet
+     */
+    public double getLength() {
+        return Arrays.stream(offsets).max().orElse(0.0);
+    }
+}
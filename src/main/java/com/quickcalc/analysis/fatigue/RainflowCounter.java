@@ -0,0 +1,197 @@
+package com.quickcalc.analysis.fatigue;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Online rainflow cycle counter for a stress history of any length.
+ *
+ * Samples are quantized to multiples of the bin width, so cycle ranges fall
+ * into integer bins and equal consecutive samples collapse. Reversals are kept
+ * on a stack and full cycles are extracted with the four-point rule as soon as
+ * they close: each reversal is pushed and popped at most once, so the work per
+ * sample is O(1) amortized. What remains on the stack is the residue, a
+ * diverging-then-converging sequence of distinct levels, so its size is bounded
+ * by twice the number of levels the history spans regardless of its length.
+ * The residue is counted as half cycles when damage is evaluated.
+ */
+public class RainflowCounter implements DoubleConsumer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final double binWidth;
+    private long[] cycles = new long[INITIAL_CAPACITY]; // Full cycles by range in bins
+    private long[] residue = new long[INITIAL_CAPACITY]; // Reversal levels; the last entry may still be moving
+    private int residueSize;
+    private int direction; // Sign of the last segment of the residue, 0 before the second level
+    private long sampleCount;
+
+    /**
+     * Constructor
+     *
+     * @param binWidth Stress quantum and histogram bin width in ksi
+     */
+    public RainflowCounter(double binWidth) {
+        if (!(binWidth > 0.0)) {
+            throw new IllegalArgumentException("Bin width must be positive: " + binWidth);
+        }
+        this.binWidth = binWidth;
+    }
+
+    /**
+     * Add the next stress sample
+     *
+     * @param stress Stress in ksi
+     */
+    @Override
+    public void accept(double stress) {
+        sampleCount++;
+        long level = Math.round(stress / binWidth);
+        if (residueSize == 0) {
+            push(level);
+            return;
+        }
+        long top = residue[residueSize - 1];
+        if (level == top) {
+            return;
+        }
+        int step = level > top ? 1 : -1;
+        if (step == direction) {
+            residue[residueSize - 1] = level; // Same excursion, still moving
+        } else {
+            push(level);
+            direction = step;
+        }
+        extractCycles();
+    }
+
+    /**
+     * Add a block of samples repeated many times, such as identical load passes.
+     * From the second repetition on every pass closes the same cycles and leaves
+     * the same residue, so only two passes are streamed and the cycles of the
+     * second are scaled by the remaining count.
+     *
+     * @param block Streams one repetition of the samples into the given sink
+     * @param count Number of repetitions
+     */
+    public void acceptRepeated(Consumer<DoubleConsumer> block, long count) {
+        if (count <= 2) {
+            for (long i = 0; i < count; i++) {
+                block.accept(this);
+            }
+            return;
+        }
+        block.accept(this);
+        long[] before = Arrays.copyOf(cycles, cycles.length);
+        long samplesBefore = sampleCount;
+        block.accept(this);
+        long remaining = count - 2;
+        for (int bin = 0; bin < cycles.length; bin++) {
+            long added = cycles[bin] - (bin < before.length ? before[bin] : 0L);
+            cycles[bin] += added * remaining;
+        }
+        sampleCount += (sampleCount - samplesBefore) * remaining;
+    }
+
+    /**
+     * Close cycles at the top of the stack: with points a, b, c, d the range b-c is
+     * a full cycle when it is no larger than either neighbouring range
+     */
+    private void extractCycles() {
+        while (residueSize >= 4) {
+            long a = residue[residueSize - 4];
+            long b = residue[residueSize - 3];
+            long c = residue[residueSize - 2];
+            long d = residue[residueSize - 1];
+            long range = Math.abs(b - c);
+            if (range > Math.abs(a - b) || range > Math.abs(c - d)) {
+                return;
+            }
+            record(range);
+            residue[residueSize - 3] = d;
+            residueSize -= 2;
+        }
+    }
+
+    private void push(long level) {
+        if (residueSize == residue.length) {
+            residue = Arrays.copyOf(residue, residueSize * 2);
+        }
+        residue[residueSize++] = level;
+    }
+
+    private void record(long range) {
+        if (range >= cycles.length) {
+            cycles = Arrays.copyOf(cycles, (int) Math.max(range + 1, cycles.length * 2L));
+        }
+        cycles[(int) range]++;
+    }
+
+    /**
+     * Get Miner's-rule damage, counting the residue as half cycles
+     *
+     * @param curve S-N curve of the detail
+     * @return Cumulative damage; failure is predicted at 1.0
+     */
+    public double damage(SnCurve curve) {
+        double damage = 0.0;
+        for (int bin = 1; bin < cycles.length; bin++) {
+            if (cycles[bin] != 0) {
+                damage += cycles[bin] / curve.cyclesToFailure(bin * binWidth);
+            }
+        }
+        for (int i = 1; i < residueSize; i++) {
+            double range = Math.abs(residue[i] - residue[i - 1]) * binWidth;
+            damage += 0.5 / curve.cyclesToFailure(range);
+        }
+        return damage;
+    }
+
+    /**
+     * Get the number of full cycles counted in a bin
+     *
+     * @param bin Range in multiples of the bin width
+     * @return Full cycles, excluding the residue
+     */
+    public long getCycleCount(int bin) {
+        return bin >= 0 && bin < cycles.length ? cycles[bin] : 0L;
+    }
+
+    /**
+     * Get the number of bins up to and including the largest range counted
+     */
+    public int getBinCount() {
+        int count = cycles.length;
+        while (count > 0 && cycles[count - 1] == 0) {
+            count--;
+        }
+        return count;
+    }
+
+    /**
+     * Get the total number of full cycles counted
+     */
+    public long getTotalCycles() {
+        long total = 0;
+        for (long count : cycles) {
+            total += count;
+        }
+        return total;
+    }
+
+    public double getBinWidth() {
+        return binWidth;
+    }
+
+    /**
+     * Get the number of reversals held in the residue
+     */
+    public int getResidueSize() {
+        return residueSize;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+}
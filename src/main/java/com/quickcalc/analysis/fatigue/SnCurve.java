@@ -0,0 +1,90 @@
+package com.quickcalc.analysis.fatigue;
+
+/**
+ * Fatigue resistance of a detail as an S-N curve, N = A / S^m, with an
+ * optional cutoff below which stress ranges cause no damage
+ */
+public class SnCurve {
+
+    private final double constant;
+    private final double exponent;
+    private final double cutoff;
+
+    /**
+     * Constructor
+     *
+     * @param constant Detail constant A in ksi^m
+     * @param exponent Slope m of the curve
+     * @param cutoff Stress range in ksi below which cycles are ignored; zero for none
+     */
+    public SnCurve(double constant, double exponent, double cutoff) {
+        if (!(constant > 0.0) || !(exponent > 0.0) || cutoff < 0.0) {
+            throw new IllegalArgumentException("Invalid S-N curve parameters");
+        }
+        this.constant = constant;
+        this.exponent = exponent;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Get the AASHTO LRFD curve for a detail category, with no cutoff
+     *
+     * @param category Detail category: A, B, B', C, C', D, E or E'
+     * @return S-N curve with m = 3
+     */
+    public static SnCurve aashto(String category) {
+        double constant;
+        switch (category.trim().toUpperCase()) {
+            case "A":
+                constant = 250.0e8;
+                break;
+            case "B":
+                constant = 120.0e8;
+                break;
+            case "B'":
+                constant = 61.0e8;
+                break;
+            case "C":
+            case "C'":
+                constant = 44.0e8;
+                break;
+            case "D":
+                constant = 22.0e8;
+                break;
+            case "E":
+                constant = 11.0e8;
+                break;
+            case "E'":
+                constant = 3.9e8;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown detail category: " + category);
+        }
+        return new SnCurve(constant, 3.0, 0.0);
+    }
+
+    /**
+     * Get the number of cycles to failure at a stress range
+     *
+     * @param range Stress range in ksi
+     * @return Cycles to failure, infinite below the cutoff
+     */
+    public double cyclesToFailure(double range) {
+        if (range <= cutoff || range <= 0.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return constant / Math.pow(range, exponent);
+    }
+
+    public double getConstant() {
+        return constant;
+    }
+
+    public double getExponent() {
+        return exponent;
+    }
+
+    public double getCutoff() {
+        return cutoff;
+    }
+}
@@ -22,6 +22,9 @@ public class UIConstants {
     public static final double GRID_LINE_WIDTH = 0.5;
     public static final Color GRID_COLOR = Color.LIGHTGRAY;
     public static final double GRID_SPACING = 1.0; // 1 foot grid
+    public static final double GRID_MIN_SPACING_PX = 8.0; // Finer grid levels are skipped
+    public static final double GRID_MAJOR_LINE_WIDTH = 0.75;
+    public static final Color GRID_MAJOR_COLOR = Color.DARKGRAY;
     public static final int GRID_STYLE_NONE = 0;
     public static final int GRID_STYLE_LINES = 1;
     
@@ -47,6 +50,13 @@ public class UIConstants {
     public static final Color MOMENT_COLOR = Color.GREEN;
     public static final double MOMENT_LINE_WIDTH = 2.0;
     
+    // Load level-of-detail thresholds (in pixels)
+    public static final double LOAD_COLLAPSE_WIDTH_PX = 4.0; // Narrower distributed loads draw as one arrow
+    public static final double LOAD_LABEL_MIN_SPAN_PX = 12.0; // Narrower distributed loads draw no label
+    
+    // Symbols and labels within this many pixels of the canvas edge are still drawn
+    public static final double VIEWPORT_CULL_MARGIN_PX = 150.0;
+    
     // Text properties
     public static final double TEXT_SIZE = 12.0;
     public static final Color TEXT_COLOR = Color.BLACK;
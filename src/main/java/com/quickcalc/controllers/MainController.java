@@ -9,9 +9,14 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import java.io.IOException;
 
+import com.quickcalc.analysis.AnalysisCallback;
+import com.quickcalc.analysis.AnalysisResult;
+import com.quickcalc.analysis.EngineBenchmark;
+import com.quickcalc.analysis.EngineSelector;
 import com.quickcalc.models.BeamModel;
 import com.quickcalc.models.Load;
 import com.quickcalc.models.Support;
+import com.quickcalc.services.AnalysisService;
 import com.quickcalc.services.BeamDataService;
 import com.quickcalc.services.CanvasManager;
 import com.quickcalc.services.FileService;
@@ -22,10 +27,6 @@ import com.quickcalc.views.panels.PropertiesPanelController;
 import com.quickcalc.views.panels.ResultsPanelController;
 import com.quickcalc.views.panels.ToolbarController;
 
-import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
-
 /**
  * Main controller - coordinates between panel controllers and services
  * Reduced responsibility: only handles coordination, not specific UI logic
@@ -34,7 +35,11 @@ public class MainController implements
     MenuActionHandler.ModelUpdateCallback,
     PropertiesPanelController.PanelUpdateCallback,
     ResultsPanelController.ResultsUpdateCallback,
-    ToolbarController.ToolbarUpdateCallback {
+    ToolbarController.ToolbarUpdateCallback,
+    AnalysisCallback {
+
+    // Re-analysis after an edit while results are shown answers within this budget
+    private static final long PREVIEW_BUDGET_NANOS = 20_000_000L;
 
     @FXML
     private Pane beamCanvasContainer;
@@ -53,12 +58,14 @@ public class MainController implements
     
     private Stage primaryStage;
     private BeamModel beamModel;
+    private boolean resultsShown; // Results panel shows a result of the current model or an earlier state
     
     // Services
     private BeamDataService beamDataService;
     private FileService fileService;
     private MenuActionHandler menuActionHandler;
     private CanvasManager canvasManager;
+    private AnalysisService analysisService;
     
     // Panel controllers
     private PropertiesPanelController propertiesPanelController;
@@ -79,6 +86,11 @@ public class MainController implements
     private void initializeServices() {
         beamDataService = new BeamDataService();
         canvasManager = new CanvasManager();
+        analysisService = new AnalysisService();
+        analysisService.setCallback(this);
+        analysisService.setProgressive(true);
+        analysisService.setEngineSelector(new EngineSelector());
+        analysisService.calibrateEngines(EngineBenchmark.defaultFile());
     }
     
     private void initializeBeamModel() {
@@ -154,6 +166,7 @@ public class MainController implements
     public void onModelUpdated(BeamModel newModel) {
         this.beamModel = newModel;
         canvasManager.setBeamModel(newModel);
+        notifyModelChanged(newModel);
         if (propertiesPanelController != null) {
             propertiesPanelController.updateModel(newModel);
         }
@@ -164,12 +177,14 @@ public class MainController implements
     public void onBeamPropertiesChanged(BeamModel updatedModel) {
         this.beamModel = updatedModel;
         canvasManager.setBeamModel(updatedModel);
+        notifyModelChanged(updatedModel);
     }
     
     @Override
     public void onSupportAdded(Support support) {
         beamModel.addSupport(support);
         canvasManager.setBeamModel(beamModel);
+        notifyModelChanged(beamModel);
         if (propertiesPanelController != null) {
             propertiesPanelController.updateModel(beamModel);
         }
@@ -179,6 +194,7 @@ public class MainController implements
     public void onSupportRemoved(Support support) {
         beamModel.removeSupport(support);
         canvasManager.setBeamModel(beamModel);
+        notifyModelChanged(beamModel);
         if (propertiesPanelController != null) {
             propertiesPanelController.updateModel(beamModel);
         }
@@ -188,6 +204,7 @@ public class MainController implements
     public void onLoadAdded(Load load) {
         beamModel.addLoad(load);
         canvasManager.setBeamModel(beamModel);
+        notifyModelChanged(beamModel);
         if (propertiesPanelController != null) {
             propertiesPanelController.updateModel(beamModel);
         }
@@ -197,6 +214,7 @@ public class MainController implements
     public void onLoadRemoved(Load load) {
         beamModel.removeLoad(load);
         canvasManager.setBeamModel(beamModel);
+        notifyModelChanged(beamModel);
         if (propertiesPanelController != null) {
             propertiesPanelController.updateModel(beamModel);
         }
@@ -207,6 +225,17 @@ public class MainController implements
         runAnalysis();
     }
     
+    /**
+     * Let the analysis follow an edit: an analysis in flight restarts on the new
+     * state, and shown results are refreshed by a time-budgeted preview
+     */
+    private void notifyModelChanged(BeamModel model) {
+        analysisService.modelChanged(model);
+        if (resultsShown && !analysisService.isAnalysisInProgress()) {
+            analysisService.submit(model, PREVIEW_BUDGET_NANOS);
+        }
+    }
+    
     // ResultsPanelController.ResultsUpdateCallback implementation
     @Override
     public void onExportRequested(ResultsPanelController.ExportType exportType) {
@@ -219,6 +248,7 @@ public class MainController implements
         if (resultsPanelController != null) {
             resultsPanelController.clearAllResults();
         }
+        resultsShown = false;
         if (toolbarController != null) {
             toolbarController.setClearResultsEnabled(false);
         }
@@ -323,44 +353,64 @@ public class MainController implements
     }
     
     private void runAnalysis() {
-        if (menuActionHandler != null) {
-            if (toolbarController != null) {
-                toolbarController.setAnalysisInProgress(true);
-            }
-            
-            // TODO: Replace with actual analysis
-            // For now, create dummy results
-            List<ResultsPanelController.ResultRow> dummyResults = createDummyResults();
-            Map<String, Double> dummySummary = createDummySummary();
-            
-            if (resultsPanelController != null) {
-                resultsPanelController.updateResults(dummyResults, dummySummary);
-            }
-            if (toolbarController != null) {
-                toolbarController.setClearResultsEnabled(true);
-                toolbarController.setAnalysisInProgress(false);
-            }
+        if (toolbarController != null) {
+            toolbarController.setAnalysisInProgress(true);
         }
+        // Solve runs on the analysis worker; results arrive via the AnalysisCallback methods
+        analysisService.submit(beamModel);
     }
     
-    private List<ResultsPanelController.ResultRow> createDummyResults() {
-        // TODO: Replace with actual analysis results
-        return List.of(
-            new ResultsPanelController.ResultRow("0.0'", 0.0, 0.0, 0.0),
-            new ResultsPanelController.ResultRow("5.0'", 500.0, 1250.0, -0.025),
-            new ResultsPanelController.ResultRow("10.0'", 0.0, 0.0, -0.050),
-            new ResultsPanelController.ResultRow("15.0'", -500.0, -1250.0, -0.025),
-            new ResultsPanelController.ResultRow("20.0'", 0.0, 0.0, 0.0)
-        );
+    // AnalysisCallback implementation (called on the FX thread)
+    @Override
+    public void onAnalysisRefined(AnalysisResult result, int refinementLevel) {
+        resultsShown = true;
+        if (resultsPanelController != null) {
+            resultsPanelController.showAnalysisResult(result);
+            resultsPanelController.setAnalysisStatus(String.format(
+                "Refining analysis: level %d (%d elements)...", refinementLevel, result.getElementCount()));
+        }
     }
     
-    private Map<String, Double> createDummySummary() {
-        // TODO: Replace with actual analysis summary
-        Map<String, Double> summary = new HashMap<>();
-        summary.put("maxMoment", 1250.0);
-        summary.put("maxShear", 500.0);
-        summary.put("maxDeflection", 0.050);
-        return summary;
+    @Override
+    public void onAnalysisCompleted(AnalysisResult result) {
+        resultsShown = true;
+        if (resultsPanelController != null) {
+            resultsPanelController.showAnalysisResult(result);
+            resultsPanelController.setAnalysisStatus(String.format(
+                "Analysis completed (%d elements)", result.getElementCount()));
+        }
+        if (toolbarController != null) {
+            toolbarController.setClearResultsEnabled(true);
+            toolbarController.setAnalysisInProgress(false);
+        }
+    }
+    
+    @Override
+    public void onBudgetedAnalysisCompleted(AnalysisResult result, double estimatedRelativeError) {
+        onAnalysisCompleted(result);
+        if (resultsPanelController != null && !Double.isNaN(estimatedRelativeError)) {
+            resultsPanelController.setAnalysisStatus(String.format(
+                "Analysis completed (%d elements, ~%.2g%% deflection error)",
+                result.getElementCount(), estimatedRelativeError * 100.0));
+        }
+    }
+    
+    @Override
+    public void onAnalysisFailed(String message) {
+        if (resultsPanelController != null) {
+            resultsPanelController.setAnalysisStatus(message);
+        }
+        if (toolbarController != null) {
+            toolbarController.setAnalysisInProgress(false);
+            toolbarController.setToolStatus(message);
+        }
+    }
+    
+    @Override
+    public void onAnalysisCancelled() {
+        if (toolbarController != null) {
+            toolbarController.setAnalysisInProgress(false);
+        }
     }
     
     public void setPrimaryStage(Stage primaryStage) {
@@ -395,6 +445,7 @@ public class MainController implements
     
     @FXML
     private void handleExit() {
+        analysisService.shutdown();
         if (menuActionHandler != null) {
             menuActionHandler.handleExit();
         }
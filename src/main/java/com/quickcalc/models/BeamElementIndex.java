@@ -0,0 +1,198 @@
+package com.quickcalc.models;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Supports and loads of a beam sorted by position, so the elements in a range
+ * of the beam are found by binary search instead of a scan over the model.
+ *
+ * Loads are sorted by start (the smaller end for distributed loads) and the
+ * sorted array doubles as an implicit balanced tree whose nodes carry the
+ * largest end below them, so a range query visits O(log n + k) loads even when
+ * long distributed loads span the range. An index is a snapshot of one revision
+ * of the beam; get it from {@link BeamModel#getElementIndex()}.
+ */
+public class BeamElementIndex {
+
+    private final long revision;
+    private final Support[] supports;
+    private final double[] supportPositions; // Sorted
+    private final Load[] loads; // Sorted by start
+    private final double[] loadStarts;
+    private final double[] loadEnds;
+    private final double[] maxEnds; // Largest end in the implicit subtree rooted at each index
+
+    /**
+     * Build the index for the current state of a beam
+     *
+     * @param beamModel The beam
+     */
+    BeamElementIndex(BeamModel beamModel) {
+        this.revision = beamModel.getRevision();
+
+        supports = beamModel.getSupports().toArray(new Support[0]);
+        Arrays.sort(supports, Comparator.comparingDouble(Support::getPosition));
+        supportPositions = new double[supports.length];
+        for (int i = 0; i < supports.length; i++) {
+            supportPositions[i] = supports[i].getPosition();
+        }
+
+        loads = beamModel.getLoads().toArray(new Load[0]);
+        Arrays.sort(loads, Comparator.comparingDouble(BeamElementIndex::startOf));
+        loadStarts = new double[loads.length];
+        loadEnds = new double[loads.length];
+        for (int i = 0; i < loads.length; i++) {
+            loadStarts[i] = startOf(loads[i]);
+            loadEnds[i] = endOf(loads[i]);
+        }
+        maxEnds = new double[loads.length];
+        buildMaxEnds(0, loads.length);
+    }
+
+    private static double startOf(Load load) {
+        return load.getType() == Load.Type.DISTRIBUTED
+            ? Math.min(load.getPosition(), load.getEndPosition()) : load.getPosition();
+    }
+
+    private static double endOf(Load load) {
+        return load.getType() == Load.Type.DISTRIBUTED
+            ? Math.max(load.getPosition(), load.getEndPosition()) : load.getPosition();
+    }
+
+    private double buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int mid = (lo + hi) >>> 1;
+        double max = Math.max(loadEnds[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    /**
+     * Whether the index still describes a beam: same revision and the same
+     * number of supports and loads
+     */
+    boolean isCurrent(BeamModel beamModel) {
+        return revision == beamModel.getRevision()
+            && supports.length == beamModel.getSupports().size()
+            && loads.length == beamModel.getLoads().size();
+    }
+
+    /**
+     * Add the supports within a range, in position order
+     *
+     * @param min Start of the range in feet
+     * @param max End of the range in feet
+     * @param out Receives the supports
+     * @return Number of supports added
+     */
+    public int findSupports(double min, double max, List<Support> out) {
+        int end = upperBound(supportPositions, max);
+        int count = 0;
+        for (int i = lowerBound(supportPositions, min); i < end; i++) {
+            out.add(supports[i]);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Add the loads that touch a range, in order of their start
+     *
+     * @param min Start of the range in feet
+     * @param max End of the range in feet
+     * @param out Receives the loads
+     * @return Number of loads added
+     */
+    public int findLoads(double min, double max, List<Load> out) {
+        int before = out.size();
+        collectLoads(0, loads.length, min, max, out);
+        return out.size() - before;
+    }
+
+    private void collectLoads(int lo, int hi, double min, double max, List<Load> out) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] < min) {
+                return; // Nothing below this node reaches the range
+            }
+            collectLoads(lo, mid, min, max, out);
+            if (loadStarts[mid] > max) {
+                return; // This node and its right subtree start past the range
+            }
+            if (loadEnds[mid] >= min) {
+                out.add(loads[mid]);
+            }
+            lo = mid + 1;
+        }
+    }
+
+    /**
+     * Get the position of the nearest support strictly before a position
+     *
+     * @return Support position in feet, or negative infinity if there is none
+     */
+    public double supportBefore(double position) {
+        int i = lowerBound(supportPositions, position) - 1;
+        return i >= 0 ? supportPositions[i] : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Get the position of the nearest support strictly after a position
+     *
+     * @return Support position in feet, or positive infinity if there is none
+     */
+    public double supportAfter(double position) {
+        int i = upperBound(supportPositions, position);
+        return i < supportPositions.length ? supportPositions[i] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Index of the first value not less than a key
+     */
+    private static int lowerBound(double[] sorted, double key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Index of the first value greater than a key
+     */
+    private static int upperBound(double[] sorted, double key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public int getSupportCount() {
+        return supports.length;
+    }
+
+    public int getLoadCount() {
+        return loads.length;
+    }
+}
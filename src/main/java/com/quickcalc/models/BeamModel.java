@@ -11,9 +11,15 @@ public class BeamModel {
     private double length; // Length of the beam in feet
     private String material; // Material type (e.g., "Steel", "Wood")
     private String section; // Section type (e.g., "W10x12", "2x8")
+    private double axialLoad; // Axial force in kips, compression positive
+    private double foundationModulus; // Winkler foundation stiffness in kip/in per inch of length
     
     private List<Support> supports = new ArrayList<>();
     private List<Load> loads = new ArrayList<>();
+    private List<StiffnessSegment> stiffnessSegments = new ArrayList<>();
+    
+    private long revision; // Bumped by every change made through this class
+    private BeamElementIndex elementIndex; // Built on demand for the current revision
     
     /**
      * Default constructor with a 20-foot beam
@@ -45,6 +51,65 @@ public class BeamModel {
         }
     }
     
+    /**
+     * Copy constructor used by {@link #copy()}; does not add default supports
+     */
+    private BeamModel(BeamModel source) {
+        this.length = source.length;
+        this.material = source.material;
+        this.section = source.section;
+        this.axialLoad = source.axialLoad;
+        this.foundationModulus = source.foundationModulus;
+        for (Support support : source.supports) {
+            supports.add(support.copy());
+        }
+        for (Load load : source.loads) {
+            loads.add(load.copy());
+        }
+        // Segments are immutable and can be shared
+        stiffnessSegments.addAll(source.stiffnessSegments);
+    }
+    
+    /**
+     * Create an independent snapshot of this beam, e.g. for analysis on a background thread
+     * 
+     * @return Deep copy of the beam
+     */
+    public BeamModel copy() {
+        return new BeamModel(this);
+    }
+    
+    /**
+     * Get the revision of the beam. Every mutator of this class bumps it; code
+     * that edits the support or load lists directly, or moves a support or load
+     * in place, must call {@link #markModified()}.
+     * 
+     * @return Revision number
+     */
+    public long getRevision() {
+        return revision;
+    }
+    
+    /**
+     * Record a change made outside the mutators of this class
+     */
+    public void markModified() {
+        revision++;
+    }
+    
+    /**
+     * Get the position-sorted index of the supports and loads, rebuilt when the
+     * revision or the number of supports or loads has changed
+     * 
+     * @return Index of the current supports and loads
+     */
+    public BeamElementIndex getElementIndex() {
+        if (elementIndex == null || !elementIndex.isCurrent(this)) {
+            elementIndex = new BeamElementIndex(this);
+        }
+        return elementIndex;
+    }
+    
     /**
      * Get the length of the beam
      * 
@@ -61,6 +126,7 @@ public class BeamModel {
      */
     public void setLength(double length) {
         this.length = length;
+        revision++;
     }
     
     /**
@@ -79,6 +145,7 @@ public class BeamModel {
      */
     public void setMaterial(String material) {
         this.material = material;
+        revision++;
     }
     
     /**
@@ -97,6 +164,51 @@ public class BeamModel {
      */
     public void setSection(String section) {
         this.section = section;
+        revision++;
+    }
+    
+    /**
+     * Get the axial force carried through the full length of the beam
+     * 
+     * @return Axial force in kips, compression positive; zero for pure bending
+     */
+    public double getAxialLoad() {
+        return axialLoad;
+    }
+    
+    /**
+     * Set the axial force carried through the full length of the beam.
+     * A nonzero value calls for a second-order (P-delta) analysis.
+     * 
+     * @param axialLoad Axial force in kips, compression positive
+     */
+    public void setAxialLoad(double axialLoad) {
+        this.axialLoad = axialLoad;
+        revision++;
+    }
+    
+    /**
+     * Get the stiffness of the continuous elastic (Winkler) foundation under the beam
+     * 
+     * @return Foundation modulus in kip/in per inch of beam length (ksi); zero for no foundation
+     */
+    public double getFoundationModulus() {
+        return foundationModulus;
+    }
+    
+    /**
+     * Set the stiffness of the continuous elastic (Winkler) foundation under the beam:
+     * the modulus of subgrade reaction times the bearing width
+     * 
+     * @param foundationModulus Foundation modulus in kip/in per inch of beam length (ksi)
+     * @throws IllegalArgumentException if the modulus is negative or not a number
+     */
+    public void setFoundationModulus(double foundationModulus) {
+        if (!(foundationModulus >= 0.0)) {
+            throw new IllegalArgumentException("Foundation modulus must not be negative: " + foundationModulus);
+        }
+        this.foundationModulus = foundationModulus;
+        revision++;
     }
     
     /**
@@ -115,6 +227,7 @@ public class BeamModel {
      */
     public void addSupport(Support support) {
         supports.add(support);
+        revision++;
     }
     
     /**
@@ -124,6 +237,7 @@ public class BeamModel {
      * @return true if removed, false if not found
      */
     public boolean removeSupport(Support support) {
+        revision++;
         return supports.remove(support);
     }
     
@@ -143,6 +257,7 @@ public class BeamModel {
      */
     public void addLoad(Load load) {
         loads.add(load);
+        revision++;
     }
     
     /**
@@ -152,6 +267,7 @@ public class BeamModel {
      * @return true if removed, false if not found
      */
     public boolean removeLoad(Load load) {
+        revision++;
         return loads.remove(load);
     }
     
@@ -160,6 +276,38 @@ public class BeamModel {
      */
     public void clearLoads() {
         loads.clear();
+        revision++;
+    }
+    
+    /**
+     * Get the list of stiffness segments. Positions not covered by a segment
+     * use the EI of the beam's material and section.
+     * 
+     * @return List of stiffness segments
+     */
+    public List<StiffnessSegment> getStiffnessSegments() {
+        return stiffnessSegments;
+    }
+    
+    /**
+     * Add a stiffness segment to the beam
+     * 
+     * @param segment Segment to add
+     */
+    public void addStiffnessSegment(StiffnessSegment segment) {
+        stiffnessSegments.add(segment);
+        revision++;
+    }
+    
+    /**
+     * Remove a stiffness segment from the beam
+     * 
+     * @param segment Segment to remove
+     * @return true if removed, false if not found
+     */
+    public boolean removeStiffnessSegment(StiffnessSegment segment) {
+        revision++;
+        return stiffnessSegments.remove(segment);
     }
     
     /**
@@ -169,11 +317,15 @@ public class BeamModel {
      */
     public void reset(double newLength) {
         this.length = newLength;
+        revision++;
         this.material = "Steel";
         this.section = "W10x12";
+        this.axialLoad = 0.0;
+        this.foundationModulus = 0.0;
         
         supports.clear();
         loads.clear();
+        stiffnessSegments.clear();
         
         // Add default supports at the ends
         supports.add(new Support(0.0, Support.Type.PINNED));
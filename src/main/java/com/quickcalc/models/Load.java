@@ -195,6 +195,18 @@ public class Load {
         }
     }
     
+    /**
+     * Create a copy of this load
+     * 
+     * @return New load with the same type, positions and magnitudes
+     */
+    public Load copy() {
+        if (type == Type.DISTRIBUTED) {
+            return new Load(position, endPosition, magnitude, magnitudeEnd);
+        }
+        return new Load(position, magnitude, type);
+    }
+    
     @Override
     public String toString() {
         if (type == Type.POINT) {
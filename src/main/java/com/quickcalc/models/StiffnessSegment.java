@@ -0,0 +1,139 @@
+package com.quickcalc.models;
+
+/**
+ * Model class representing a length of beam with its own flexural rigidity (EI).
+ * Used for cover plates, haunches and notches. A segment whose start and end
+ * EI differ is tapered, with EI varying linearly between the two ends.
+ */
+public class StiffnessSegment {
+
+    private double startPosition; // Start position along the beam in feet
+    private double endPosition;   // End position along the beam in feet
+    private double startEI;       // Flexural rigidity at start in kip-in²
+    private double endEI;         // Flexural rigidity at end in kip-in²
+
+    /**
+     * Constructor for a prismatic segment
+     *
+     * @param startPosition Start position along the beam in feet
+     * @param endPosition End position along the beam in feet
+     * @param flexuralRigidity Flexural rigidity in kip-in²
+     */
+    public StiffnessSegment(double startPosition, double endPosition, double flexuralRigidity) {
+        this(startPosition, endPosition, flexuralRigidity, flexuralRigidity);
+    }
+
+    /**
+     * Constructor for a tapered segment
+     *
+     * @param startPosition Start position along the beam in feet
+     * @param endPosition End position along the beam in feet
+     * @param startEI Flexural rigidity at the start in kip-in²
+     * @param endEI Flexural rigidity at the end in kip-in²
+     */
+    public StiffnessSegment(double startPosition, double endPosition, double startEI, double endEI) {
+        if (startPosition == endPosition) {
+            throw new IllegalArgumentException("Start and end positions cannot be the same for a stiffness segment.");
+        }
+        if (startEI <= 0 || endEI <= 0) {
+            throw new IllegalArgumentException("Flexural rigidity must be positive.");
+        }
+        // Store in ascending order so consumers never need to check direction
+        if (startPosition < endPosition) {
+            this.startPosition = startPosition;
+            this.endPosition = endPosition;
+            this.startEI = startEI;
+            this.endEI = endEI;
+        } else {
+            this.startPosition = endPosition;
+            this.endPosition = startPosition;
+            this.startEI = endEI;
+            this.endEI = startEI;
+        }
+    }
+
+    /**
+     * Get the start position of the segment
+     *
+     * @return Start position in feet
+     */
+    public double getStartPosition() {
+        return startPosition;
+    }
+
+    /**
+     * Get the end position of the segment
+     *
+     * @return End position in feet
+     */
+    public double getEndPosition() {
+        return endPosition;
+    }
+
+    /**
+     * Get the flexural rigidity at the start of the segment
+     *
+     * @return EI in kip-in²
+     */
+    public double getStartEI() {
+        return startEI;
+    }
+
+    /**
+     * Get the flexural rigidity at the end of the segment
+     *
+     * @return EI in kip-in²
+     */
+    public double getEndEI() {
+        return endEI;
+    }
+
+    /**
+     * Check whether EI varies along the segment
+     *
+     * @return true if the segment is tapered
+     */
+    public boolean isTapered() {
+        return startEI != endEI;
+    }
+
+    /**
+     * Check whether a position lies within the segment
+     *
+     * @param position Position in feet
+     * @return true if the position is inside the segment
+     */
+    public boolean contains(double position) {
+        return position >= startPosition && position <= endPosition;
+    }
+
+    /**
+     * Get the flexural rigidity at a position inside the segment
+     *
+     * @param position Position in feet
+     * @return Linearly interpolated EI in kip-in²
+     */
+    public double getEIAt(double position) {
+        double ratio = (position - startPosition) / (endPosition - startPosition);
+        ratio = Math.max(0.0, Math.min(1.0, ratio));
+        return startEI + ratio * (endEI - startEI);
+    }
+
+    /**
+     * Get the length of the segment
+     *
+     * @return Length in feet
+     */
+    public double getLength() {
+        return endPosition - startPosition;
+    }
+
+    @Override
+    public String toString() {
+        if (isTapered()) {
+            return String.format("Tapered EI %.0f to %.0f kip-in² from %.2f ft to %.2f ft",
+                                 startEI, endEI, startPosition, endPosition);
+        }
+        return String.format("EI %.0f kip-in² from %.2f ft to %.2f ft", startEI, startPosition, endPosition);
+    }
+}
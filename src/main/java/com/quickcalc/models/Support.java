@@ -64,6 +64,15 @@ public class Support {
         this.type = type;
     }
     
+    /**
+     * Create a copy of this support
+     * 
+     * @return New support with the same position and type
+     */
+    public Support copy() {
+        return new Support(position, type);
+    }
+    
     @Override
     public String toString() {
         return type + " support at " + position + " ft";
@@ -0,0 +1,379 @@
+package com.quickcalc.services;
+
+import com.quickcalc.analysis.AnalysisCallback;
+import com.quickcalc.analysis.AnalysisEngine;
+import com.quickcalc.analysis.AnalysisResult;
+import com.quickcalc.analysis.AnalysisResultCache;
+import com.quickcalc.analysis.BudgetedResult;
+import com.quickcalc.analysis.BudgetedSolver;
+import com.quickcalc.analysis.DiskResultCache;
+import com.quickcalc.analysis.EngineBenchmark;
+import com.quickcalc.analysis.EngineSelector;
+import com.quickcalc.analysis.FeaBeamSolver;
+import com.quickcalc.analysis.ModelFingerprint;
+import com.quickcalc.analysis.PDeltaSolver;
+import com.quickcalc.analysis.ProgressiveSolver;
+import com.quickcalc.analysis.SolveCostModel;
+import com.quickcalc.analysis.StabilityChecker;
+import com.quickcalc.analysis.StabilityReport;
+import com.quickcalc.analysis.UnstableStructureException;
+import com.quickcalc.models.BeamModel;
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs beam analyses off the JavaFX application thread.
+ *
+ * Each request snapshots the model and is tagged with a version number. A newer
+ * request or model edit cancels the job in flight, and results are delivered on
+ * the FX thread only if their version is still current, so stale results from
+ * superseded edits never reach the UI.
+ *
+ * In progressive mode the first result comes from the minimal mesh of required
+ * nodes and is followed by refined results until the solution converges.
+ * A request with a time budget gets a single result from the densest mesh that
+ * fits the budget, so interactive previews and full runs share one solver with
+ * different latency targets. Beams with an axial load, and requests with
+ * neither refinement nor a budget, get a single result; with an engine selector
+ * that comes from the fastest capable installed engine, e.g. P-delta for axial
+ * loads or a closed-form solution for a beam on an elastic foundation. In
+ * progressive mode the selector is consulted too, and refinement is used only
+ * when the selected engine solves on the FEA mesh.
+ *
+ * Final results are kept in a content-addressed cache, so re-analyzing a model
+ * state that was seen before (for example after an undo) completes immediately.
+ * Behind it sits a persistent disk cache shared across sessions, which is read
+ * on the worker thread before solving. Only final results are written to disk:
+ * exact or full-mesh solutions, not progressive or budgeted approximations.
+ */
+public class AnalysisService {
+
+    private final FeaBeamSolver solver;
+    private final ProgressiveSolver progressiveSolver;
+    private final PDeltaSolver pDeltaSolver;
+    private final BudgetedSolver budgetedSolver;
+    private final AnalysisResultCache resultCache;
+    private final DiskResultCache diskCache; // May be null
+    private final ExecutorService executor;
+    private final Executor deliveryExecutor; // Runs deliveries on the FX thread
+    private final AtomicLong currentVersion = new AtomicLong();
+
+    private AnalysisCallback callback;
+    private volatile boolean progressive;
+    private volatile EngineSelector engineSelector; // Null for the built-in FEA and P-delta solvers
+    private Future<?> inFlight; // Accessed on the FX thread only
+    private long inFlightBudgetNanos; // Budget of the request in flight, accessed on the FX thread only
+
+    public AnalysisService() {
+        this(new FeaBeamSolver());
+    }
+
+    public AnalysisService(FeaBeamSolver solver) {
+        this(solver, AnalysisResultCache.shared(),
+            new DiskResultCache(DiskResultCache.defaultDirectory(), DiskResultCache.DEFAULT_MAX_BYTES));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param solver Solver for cache misses
+     * @param resultCache In-memory result cache
+     * @param diskCache Persistent result cache, or null to disable it
+     */
+    public AnalysisService(FeaBeamSolver solver, AnalysisResultCache resultCache, DiskResultCache diskCache) {
+        this(solver, resultCache, diskCache, Platform::runLater);
+    }
+
+    /**
+     * Constructor with the executor that delivers outcomes; tests substitute
+     * one that does not need the FX toolkit
+     *
+     * @param solver Solver for cache misses
+     * @param resultCache In-memory result cache
+     * @param diskCache Persistent result cache, or null to disable it
+     * @param deliveryExecutor Runs callbacks on the thread that calls submit
+     */
+    AnalysisService(FeaBeamSolver solver, AnalysisResultCache resultCache, DiskResultCache diskCache,
+                    Executor deliveryExecutor) {
+        this.solver = solver;
+        this.deliveryExecutor = deliveryExecutor;
+        this.resultCache = resultCache;
+        this.diskCache = diskCache;
+        this.progressiveSolver = new ProgressiveSolver(solver);
+        this.pDeltaSolver = new PDeltaSolver(solver);
+        this.budgetedSolver = new BudgetedSolver(solver, SolveCostModel.shared());
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quickcalc-analysis");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void setCallback(AnalysisCallback callback) {
+        this.callback = callback;
+    }
+    
+    /**
+     * Enable or disable progressive mode (coarse result first, then refinement)
+     */
+    public void setProgressive(boolean progressive) {
+        this.progressive = progressive;
+    }
+    
+    public boolean isProgressive() {
+        return progressive;
+    }
+    
+    /**
+     * Send single-result analyses to the fastest capable installed engine
+     * 
+     * @param engineSelector Selector over the installed engines, or null for the built-in solvers
+     */
+    public void setEngineSelector(EngineSelector engineSelector) {
+        this.engineSelector = engineSelector;
+    }
+    
+    /**
+     * Calibrate the engine selector from saved benchmark measurements. If none
+     * are saved for some installed engine, the engines are benchmarked once on
+     * the analysis worker and the measurements are saved for later sessions.
+     * 
+     * @param benchmarkFile Saved measurements, e.g. {@link EngineBenchmark#defaultFile()}
+     */
+    public void calibrateEngines(Path benchmarkFile) {
+        EngineSelector selector = engineSelector;
+        if (selector == null) {
+            return;
+        }
+        try {
+            Map<String, EngineBenchmark.Measurement> saved = EngineBenchmark.load(benchmarkFile);
+            selector.applyBenchmark(saved);
+            if (hasMeasurementsFor(selector, saved)) {
+                return;
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read engine benchmark " + benchmarkFile + ": " + e.getMessage());
+        }
+        // The worker runs one task at a time, so the benchmark never competes with a solve
+        executor.submit(() -> {
+            try {
+                EngineBenchmark.save(new EngineBenchmark().run(selector), benchmarkFile);
+            } catch (IOException e) {
+                System.err.println("Failed to save engine benchmark " + benchmarkFile + ": " + e.getMessage());
+            } catch (RuntimeException e) {
+                System.err.println("Engine benchmark failed: " + e.getMessage());
+            }
+        });
+    }
+    
+    private static boolean hasMeasurementsFor(EngineSelector selector, Map<String, EngineBenchmark.Measurement> saved) {
+        for (AnalysisEngine engine : selector.getEngines()) {
+            if (!saved.containsKey(engine.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Start an analysis of the current model state, superseding any analysis in flight.
+     * Must be called on the FX thread.
+     *
+     * @param beamModel The live model; it is copied before this method returns
+     * @return Version number assigned to this request
+     */
+    public long submit(BeamModel beamModel) {
+        return submit(beamModel, 0L);
+    }
+
+    /**
+     * Start an analysis that must answer within a time budget, superseding any
+     * analysis in flight. First-order beams are solved once on the densest mesh
+     * the running cost calibration expects to fit; a cached full result is still
+     * returned when there is one. Must be called on the FX thread.
+     *
+     * @param beamModel The live model; it is copied before this method returns
+     * @param budgetNanos Time budget in nanoseconds, or 0 for no deadline
+     * @return Version number assigned to this request
+     */
+    public long submit(BeamModel beamModel, long budgetNanos) {
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("Time budget must not be negative: " + budgetNanos);
+        }
+        long version = currentVersion.incrementAndGet();
+        cancelInFlight();
+
+        // The stability screen is cheap enough to run inline and report immediately
+        StabilityReport report = StabilityChecker.check(beamModel);
+        if (!report.isStable()) {
+            if (callback != null) {
+                callback.onAnalysisFailed(report.getMessage());
+            }
+            return version;
+        }
+
+        ModelFingerprint fingerprint = ModelFingerprint.of(beamModel);
+        AnalysisResult cached = resultCache.get(fingerprint);
+        if (cached != null) {
+            if (callback != null) {
+                callback.onAnalysisCompleted(cached.withSupportOrder(beamModel.getSupports()));
+            }
+            return version;
+        }
+
+        BeamModel snapshot = beamModel.copy();
+        inFlight = executor.submit(() -> runAnalysis(snapshot, fingerprint, version, budgetNanos));
+        inFlightBudgetNanos = budgetNanos;
+        return version;
+    }
+
+    /**
+     * Notify the service that the model was edited. An analysis in flight is
+     * cancelled and restarted on the new state with the same time budget;
+     * otherwise pending results are discarded.
+     * Must be called on the FX thread.
+     *
+     * @param beamModel The edited model
+     */
+    public void modelChanged(BeamModel beamModel) {
+        if (isAnalysisInProgress()) {
+            submit(beamModel, inFlightBudgetNanos);
+        } else {
+            currentVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Cancel any analysis in flight without starting a new one
+     */
+    public void cancel() {
+        currentVersion.incrementAndGet();
+        if (cancelInFlight() && callback != null) {
+            callback.onAnalysisCancelled();
+        }
+    }
+
+    public boolean isAnalysisInProgress() {
+        return inFlight != null && !inFlight.isDone();
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion.get();
+    }
+
+    public AnalysisResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Stop the worker thread
+     */
+    public void shutdown() {
+        cancelInFlight();
+        executor.shutdownNow();
+    }
+
+    private boolean cancelInFlight() {
+        if (inFlight != null && !inFlight.isDone()) {
+            inFlight.cancel(true);
+            inFlight = null;
+            return true;
+        }
+        inFlight = null;
+        return false;
+    }
+
+    private void runAnalysis(BeamModel snapshot, ModelFingerprint fingerprint, long version, long budgetNanos) {
+        if (version != currentVersion.get()) {
+            return;
+        }
+        try {
+            AnalysisResult stored = diskCache == null ? null : diskCache.get(fingerprint);
+            if (stored != null) {
+                resultCache.put(fingerprint, stored);
+                AnalysisResult result = stored.withSupportOrder(snapshot.getSupports());
+                publish(version, () -> callback.onAnalysisCompleted(result));
+                return;
+            }
+
+            // Mesh refinement is first-order only; axial loads always take a single second-order solve
+            boolean axial = snapshot.getAxialLoad() != 0.0;
+            if (budgetNanos > 0 && !axial) {
+                // The mesh depends on the budget and this machine's speed, so the result is not cached
+                BudgetedResult budgeted = budgetedSolver.solve(snapshot, budgetNanos);
+                publish(version, () -> callback.onBudgetedAnalysisCompleted(budgeted.getResult(),
+                                                                           budgeted.getEstimatedRelativeError()));
+            } else {
+                EngineSelector selector = engineSelector;
+                AnalysisEngine engine = selector == null ? null : selector.select(snapshot);
+                if (progressive && !axial && (engine == null || engine.supportsRefinement())) {
+                    solveProgressively(snapshot, fingerprint, version);
+                    return;
+                }
+                AnalysisResult result;
+                boolean cacheable = true;
+                if (engine != null) {
+                    result = engine.analyze(snapshot);
+                    cacheable = engine.isCacheable();
+                } else if (axial) {
+                    result = pDeltaSolver.solve(snapshot).getResult();
+                } else {
+                    result = solver.solve(snapshot);
+                }
+                resultCache.put(fingerprint, result);
+                publish(version, () -> callback.onAnalysisCompleted(result));
+                if (cacheable) {
+                    storeOnDisk(fingerprint, result);
+                }
+            }
+        } catch (CancellationException e) {
+            // Superseded by a newer request; nothing to report
+        } catch (UnstableStructureException e) {
+            publish(version, () -> callback.onAnalysisFailed(e.getMessage()));
+        } catch (RuntimeException e) {
+            System.err.println("Analysis failed: " + e.getMessage());
+            publish(version, () -> callback.onAnalysisFailed("Analysis failed: " + e.getMessage()));
+        }
+    }
+
+    private void solveProgressively(BeamModel snapshot, ModelFingerprint fingerprint, long version) {
+        progressiveSolver.solve(snapshot, (result, level, converged) -> {
+            if (converged) {
+                // Converged only to the refinement tolerance, so kept for this session only
+                resultCache.put(fingerprint, result);
+                publish(version, () -> callback.onAnalysisCompleted(result));
+            } else {
+                publish(version, () -> callback.onAnalysisRefined(result, level));
+            }
+        });
+    }
+
+    private void storeOnDisk(ModelFingerprint fingerprint, AnalysisResult result) {
+        if (diskCache != null) {
+            diskCache.put(fingerprint, result);
+        }
+    }
+
+    /**
+     * Hand a result to the FX thread, dropping it if a newer version has been requested since
+     */
+    private void publish(long version, Runnable delivery) {
+        if (version != currentVersion.get()) {
+            return;
+        }
+        deliveryExecutor.execute(() -> {
+            if (version == currentVersion.get() && callback != null) {
+                delivery.run();
+            }
+        });
+    }
+}
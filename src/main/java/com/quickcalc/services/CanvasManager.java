@@ -19,7 +19,8 @@ public class CanvasManager {
         
         beamCanvas = new BeamCanvas(canvasContainer.getWidth(), canvasContainer.getHeight());
         beamCanvas.setBeamModel(beamModel);
-        canvasContainer.getChildren().add(beamCanvas);
+        // The overlay layer sits directly above the static beam canvas
+        canvasContainer.getChildren().addAll(beamCanvas, beamCanvas.getOverlayCanvas());
         
         setupCanvasBindings();
         setupKeyEventHandling();
@@ -43,7 +44,7 @@ public class CanvasManager {
     private void handleKeyPressed(KeyEvent event) {
         if (event.getCode() == KeyCode.F) {
             beamCanvas.fitViewToBeam();
-            beamCanvas.draw();
+            beamCanvas.requestRedraw();
             event.consume();
         }
     }
@@ -61,14 +62,14 @@ public class CanvasManager {
     
     public void refreshCanvas() {
         if (beamCanvas != null) {
-            beamCanvas.draw();
+            beamCanvas.requestRedraw();
         }
     }
     
     public void fitViewToBeam() {
         if (beamCanvas != null) {
             beamCanvas.fitViewToBeam();
-            beamCanvas.draw();
+            beamCanvas.requestRedraw();
         }
     }
     
@@ -44,7 +44,7 @@ public class MenuActionHandler {
         beamModel.addLoad(new Load(10.0, 5.0, Load.Type.POINT));
         
         if (beamCanvas != null) {
-            beamCanvas.draw();
+            beamCanvas.requestRedraw();
         }
         
         fileService.clearCurrentFile();
@@ -62,7 +62,7 @@ public class MenuActionHandler {
             this.beamModel = loadedModel.get();
             if (beamCanvas != null) {
                 beamCanvas.setBeamModel(beamModel);
-                beamCanvas.draw();
+                beamCanvas.requestRedraw();
             }
             if (modelUpdateCallback != null) {
                 modelUpdateCallback.onModelUpdated(beamModel);
@@ -129,7 +129,7 @@ public class MenuActionHandler {
         System.out.println("Fit to Window requested");
         if (beamCanvas != null) {
             beamCanvas.fitViewToBeam();
-            beamCanvas.draw();
+            beamCanvas.requestRedraw();
         }
     }
     
@@ -0,0 +1,168 @@
+package com.quickcalc.services;
+
+import com.quickcalc.analysis.ElementStiffnessCache;
+import com.quickcalc.analysis.FeaBeamSolver;
+import com.quickcalc.analysis.ProgressiveSolver;
+import com.quickcalc.constants.UIConstants;
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+import com.quickcalc.utils.DimensionFormatter;
+import com.quickcalc.utils.ViewTransform;
+import com.quickcalc.views.components.DimensionLineDrawer;
+import com.quickcalc.views.components.InteractiveElement;
+import com.quickcalc.views.components.renderers.DrawingContext;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exercises the analysis, formatting and rendering hot paths on synthetic beams
+ * right after startup, so the JIT has compiled them before the user's first
+ * analysis and the first canvas frames.
+ *
+ * Runs once on a low-priority daemon thread. It works only on its own models,
+ * solver cache and offscreen canvas, never on the live model or the shared
+ * caches. Disable with -Dquickcalc.warmup=false.
+ */
+public class WarmupService {
+
+    public static final String ENABLED_PROPERTY = "quickcalc.warmup";
+
+    private static final int ANALYSIS_ROUNDS = 200;
+    private static final int FORMAT_ROUNDS = 5000;
+    private static final int RENDER_ROUNDS = 60;
+    private static final double CANVAS_WIDTH = 1000.0;
+    private static final double CANVAS_HEIGHT = 600.0;
+
+    private WarmupService() {
+    }
+
+    /**
+     * Whether warm-up is enabled (it is unless the system property is "false")
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY));
+    }
+
+    /**
+     * Start the warm-up thread unless disabled. Call after the primary stage is shown.
+     *
+     * @return The started thread, or null if disabled
+     */
+    public static Thread startIfEnabled() {
+        if (!isEnabled()) {
+            System.out.println("Warm-up disabled");
+            return null;
+        }
+        Thread thread = new Thread(WarmupService::run, "quickcalc-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Run every warm-up phase on the calling thread and log timings
+     */
+    public static void run() {
+        List<BeamModel> models = syntheticModels();
+        long start = System.nanoTime();
+        runPhase("analysis", () -> warmAnalysis(models));
+        runPhase("formatting", WarmupService::warmFormatting);
+        runPhase("rendering", () -> warmRendering(models));
+        System.out.printf("Warm-up finished in %.0f ms%n", (System.nanoTime() - start) / 1e6);
+    }
+
+    private static void runPhase(String name, Runnable phase) {
+        long start = System.nanoTime();
+        try {
+            phase.run();
+            System.out.printf("Warm-up %s: %.0f ms%n", name, (System.nanoTime() - start) / 1e6);
+        } catch (RuntimeException e) {
+            // Warm-up is an optimization only; never let it affect the application
+            System.err.println("Warm-up " + name + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Simple span, overhang with mixed loads, propped cantilever, and a
+     * three-span continuous beam: covers every support type and load type
+     */
+    private static List<BeamModel> syntheticModels() {
+        BeamModel simple = new BeamModel(20.0);
+        simple.addLoad(new Load(8.0, -10.0, Load.Type.POINT));
+        simple.addLoad(new Load(0.0, 20.0, -1.0));
+
+        BeamModel overhang = simple.copy();
+        overhang.setLength(26.0);
+        overhang.getSupports().get(1).setPosition(20.0);
+        overhang.addLoad(new Load(26.0, -4.0, Load.Type.POINT));
+        overhang.addLoad(new Load(4.0, 16.0, -0.5, -2.0));
+        overhang.addLoad(new Load(10.0, 15.0, Load.Type.MOMENT));
+
+        BeamModel propped = simple.copy();
+        propped.getSupports().get(0).setType(Support.Type.FIXED);
+
+        BeamModel continuous = simple.copy();
+        continuous.setLength(60.0);
+        continuous.getSupports().get(1).setPosition(60.0);
+        continuous.addSupport(new Support(20.0, Support.Type.ROLLER));
+        continuous.addSupport(new Support(40.0, Support.Type.ROLLER));
+        continuous.addLoad(new Load(20.0, 60.0, -1.5));
+
+        List<BeamModel> models = new ArrayList<>();
+        Collections.addAll(models, simple, overhang, propped, continuous);
+        return models;
+    }
+
+    private static void warmAnalysis(List<BeamModel> models) {
+        // Private stiffness cache so synthetic elements do not displace real ones
+        FeaBeamSolver solver = new FeaBeamSolver(new ElementStiffnessCache(ElementStiffnessCache.DEFAULT_CAPACITY));
+        ProgressiveSolver progressiveSolver = new ProgressiveSolver(solver);
+        for (int round = 0; round < ANALYSIS_ROUNDS; round++) {
+            BeamModel model = models.get(round % models.size());
+            if (round % 4 == 0) {
+                progressiveSolver.solve(model, (result, level, converged) -> { });
+            } else {
+                solver.solve(model, FeaBeamSolver.DEFAULT_MIN_ELEMENTS + round % 40);
+            }
+        }
+    }
+
+    private static void warmFormatting() {
+        int length = 0;
+        for (int round = 0; round < FORMAT_ROUNDS; round++) {
+            double value = round * 0.0137;
+            length += DimensionFormatter.formatDimension(value).length();
+            length += DimensionFormatter.formatCoordinates(value, -value).length();
+        }
+        if (length == 0) {
+            System.err.println("Warm-up: unexpected empty formatting output");
+        }
+    }
+
+    /**
+     * Draw the synthetic beams on an offscreen canvas that is never attached to a scene
+     */
+    private static void warmRendering(List<BeamModel> models) {
+        Canvas canvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        ViewTransform viewTransform = new ViewTransform();
+        List<InteractiveElement> noElements = Collections.emptyList();
+
+        for (int round = 0; round < RENDER_ROUNDS; round++) {
+            BeamModel model = models.get(round % models.size());
+            viewTransform.fitBeam(model.getLength(), CANVAS_WIDTH, CANVAS_HEIGHT,
+                UIConstants.CANVAS_PADDING_X, UIConstants.CANVAS_PADDING_Y);
+            DimensionLineDrawer dimensionLineDrawer = new DimensionLineDrawer(viewTransform, model);
+            DrawingContext drawingContext = new DrawingContext(viewTransform, model);
+            int gridStyle = round % 2 == 0 ? UIConstants.GRID_STYLE_LINES : UIConstants.GRID_STYLE_NONE;
+            drawingContext.drawBeam(gc, model, viewTransform, gridStyle, CANVAS_WIDTH, CANVAS_HEIGHT,
+                null, null, noElements, dimensionLineDrawer);
+        }
+    }
+}
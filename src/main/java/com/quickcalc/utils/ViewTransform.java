@@ -100,6 +100,73 @@ public class ViewTransform {
         return screenToEngineering(screenPoint.getX(), screenPoint.getY());
     }
     
+    /**
+     * Convert an engineering X-coordinate to a screen X-coordinate without allocating
+     * 
+     * @param engineeringX X-coordinate in engineering units (feet)
+     * @return X-coordinate in screen units (pixels)
+     */
+    public double toScreenX(double engineeringX) {
+        return engineeringX * scaleX + translateX;
+    }
+    
+    /**
+     * Convert an engineering Y-coordinate to a screen Y-coordinate without allocating
+     * 
+     * @param engineeringY Y-coordinate in engineering units (feet)
+     * @return Y-coordinate in screen units (pixels)
+     */
+    public double toScreenY(double engineeringY) {
+        return flipY ? translateY - engineeringY * scaleY : engineeringY * scaleY + translateY;
+    }
+    
+    /**
+     * Convert a screen X-coordinate to an engineering X-coordinate without allocating
+     * 
+     * @param screenX X-coordinate in screen units (pixels)
+     * @return X-coordinate in engineering units (feet)
+     */
+    public double toEngineeringX(double screenX) {
+        return (screenX - translateX) / scaleX;
+    }
+    
+    /**
+     * Convert a screen Y-coordinate to an engineering Y-coordinate without allocating
+     * 
+     * @param screenY Y-coordinate in screen units (pixels)
+     * @return Y-coordinate in engineering units (feet)
+     */
+    public double toEngineeringY(double screenY) {
+        return flipY ? (translateY - screenY) / scaleY : (screenY - translateY) / scaleY;
+    }
+    
+    /**
+     * Convert a run of engineering X-coordinates to screen X-coordinates
+     * 
+     * @param engineeringX Source X-coordinates in feet
+     * @param screenX Destination for X-coordinates in pixels; may be the source array
+     * @param count Number of coordinates to convert
+     */
+    public void toScreenX(double[] engineeringX, double[] screenX, int count) {
+        for (int i = 0; i < count; i++) {
+            screenX[i] = engineeringX[i] * scaleX + translateX;
+        }
+    }
+    
+    /**
+     * Convert a run of engineering Y-coordinates to screen Y-coordinates
+     * 
+     * @param engineeringY Source Y-coordinates in feet
+     * @param screenY Destination for Y-coordinates in pixels; may be the source array
+     * @param count Number of coordinates to convert
+     */
+    public void toScreenY(double[] engineeringY, double[] screenY, int count) {
+        double sign = flipY ? -scaleY : scaleY;
+        for (int i = 0; i < count; i++) {
+            screenY[i] = translateY + engineeringY[i] * sign;
+        }
+    }
+    
     /**
      * Zoom the view centered on a specific point
      * 
@@ -109,16 +176,16 @@ public class ViewTransform {
      */
     public void zoom(double centerX, double centerY, double zoomFactor) {
         // Convert center point to engineering coordinates before zoom
-        Point2D centerEngineering = screenToEngineering(centerX, centerY);
+        double centerEngineeringX = toEngineeringX(centerX);
+        double centerEngineeringY = toEngineeringY(centerY);
         
         // Apply zoom factor to scales
         scaleX *= zoomFactor;
         scaleY *= zoomFactor;
         
         // Adjust translation to keep the center point fixed
-        Point2D newCenterScreen = engineeringToScreen(centerEngineering);
-        translateX += (centerX - newCenterScreen.getX());
-        translateY += (centerY - newCenterScreen.getY());
+        translateX += (centerX - toScreenX(centerEngineeringX));
+        translateY += (centerY - toScreenY(centerEngineeringY));
     }
     
     /**
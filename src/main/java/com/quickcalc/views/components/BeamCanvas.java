@@ -35,7 +35,18 @@ import java.util.Collections;
 import java.util.Comparator;
 
 /**
- * Canvas component for drawing the beam with its supports and loads
+ * Canvas component for drawing the beam with its supports and loads.
+ * 
+ * Rendering is split over two stacked canvases. This canvas is the static layer
+ * (grid, beam, supports, loads and permanent dimensions) and is only redrawn when
+ * the model or the view changes. A transparent overlay canvas of the same size
+ * carries hover and selection highlights and temporary dimensions, so hover and
+ * selection changes repaint the overlay alone. The overlay ignores the mouse and
+ * must be added to the same unmanaged Pane directly above this canvas.
+ * 
+ * Interaction and resize events do not draw directly: they mark a layer dirty
+ * through {@link #requestRedraw()} or {@link #requestOverlayRedraw()}, and a
+ * RedrawScheduler renders at most once per pulse.
  */
 public class BeamCanvas extends Canvas {
     
@@ -49,10 +60,15 @@ public class BeamCanvas extends Canvas {
     
     // Interactive elements
     private List<InteractiveElement> interactiveElements = new ArrayList<>();
-    private List<ClickableDimensionText> clickableDimensionTexts = new ArrayList<>();
     private DimensionLineDrawer dimensionLineDrawer;
     private DrawingContext drawingContext;
     
+    // Overlay layer for highlights and temporary dimensions
+    private final Canvas overlayCanvas;
+    
+    // Coalesces redraw requests to one render per pulse
+    private final RedrawScheduler redrawScheduler;
+    
     // Interaction managers
     private SelectionManager selectionManager;
     private MouseEventHandler mouseEventHandler;
@@ -78,24 +94,32 @@ public class BeamCanvas extends Canvas {
         this.viewTransform = new ViewTransform();
 
         // Initialize the dimension line drawer and drawing context
-        this.dimensionLineDrawer = new DimensionLineDrawer(this.viewTransform, this.beamModel, this.clickableDimensionTexts);
-        this.drawingContext = new DrawingContext(this.viewTransform, this.beamModel, this.clickableDimensionTexts);
+        this.dimensionLineDrawer = new DimensionLineDrawer(this.viewTransform, this.beamModel);
+        this.drawingContext = new DrawingContext(this.viewTransform, this.beamModel);
+        
+        // Create the overlay layer, tracking this canvas' size
+        this.overlayCanvas = new Canvas(width, height);
+        overlayCanvas.setMouseTransparent(true);
+        overlayCanvas.widthProperty().bind(widthProperty());
+        overlayCanvas.heightProperty().bind(heightProperty());
+        
+        this.redrawScheduler = new RedrawScheduler(this::draw, this::drawOverlay);
         
         // Initialize interaction managers
         this.commandManager = new CommandManager();
-        this.selectionManager = new SelectionManager(this, this::draw);
+        this.selectionManager = new SelectionManager(this, this::requestOverlayRedraw);
         this.mouseEventHandler = new MouseEventHandler(this, this.viewTransform, this.selectionManager, 
-                                                      this::draw, this::fitViewToBeam);
-        this.keyboardEventHandler = new KeyboardEventHandler(this, this.selectionManager, this::draw);
+                                                      this::requestRedraw, this::requestOverlayRedraw, this::fitViewToBeam);
+        this.keyboardEventHandler = new KeyboardEventHandler(this, this.selectionManager, this::requestOverlayRedraw);
         
         // Make the canvas resizable
         widthProperty().addListener((obs, oldVal, newVal) -> {
             fitViewToBeam();
-            draw();
+            requestRedraw();
         });
         heightProperty().addListener((obs, oldVal, newVal) -> {
             fitViewToBeam();
-            draw();
+            requestRedraw();
         });
         
         // Make canvas focusable and request focus
@@ -127,7 +151,7 @@ public class BeamCanvas extends Canvas {
             }
         });
         
-        draw();
+        requestRedraw();
     }
     
     /**
@@ -138,15 +162,15 @@ public class BeamCanvas extends Canvas {
     public void setBeamModel(BeamModel beamModel) {
         this.beamModel = beamModel;
         // Update the beam model in the dimension line drawer and drawing context
-        this.dimensionLineDrawer = new DimensionLineDrawer(this.viewTransform, this.beamModel, this.clickableDimensionTexts);
-        this.drawingContext = new DrawingContext(this.viewTransform, this.beamModel, this.clickableDimensionTexts);
+        this.dimensionLineDrawer = new DimensionLineDrawer(this.viewTransform, this.beamModel);
+        this.drawingContext = new DrawingContext(this.viewTransform, this.beamModel);
         
         // Update interaction managers with new model
         this.mouseEventHandler = new MouseEventHandler(this, this.viewTransform, this.selectionManager, 
-                                                      this::draw, this::fitViewToBeam);
+                                                      this::requestRedraw, this::requestOverlayRedraw, this::fitViewToBeam);
         populateInteractiveElements(); // Repopulate for new model
         fitViewToBeam(); // Ensure view is appropriate for the new model
-        draw();
+        requestRedraw();
     }
     
     /**
@@ -158,6 +182,26 @@ public class BeamCanvas extends Canvas {
         return beamModel;
     }
     
+    /**
+     * Get the overlay canvas that must be stacked directly above this canvas
+     * 
+     * @return Overlay canvas for highlights and temporary dimensions
+     */
+    public Canvas getOverlayCanvas() {
+        return overlayCanvas;
+    }
+    
+    /**
+     * Find the dimension text drawn at a screen point
+     * 
+     * @param screenX X-coordinate in pixels
+     * @param screenY Y-coordinate in pixels
+     * @return The dimension text with its current screen bounds, or null
+     */
+    public ClickableDimensionText getDimensionTextAt(double screenX, double screenY) {
+        return dimensionLineDrawer.findDimensionTextAt(screenX, screenY);
+    }
+    
     /**
      * Get the selection manager
      */
@@ -177,12 +221,12 @@ public class BeamCanvas extends Canvas {
      */
     public void populateInteractiveElements() {
         System.out.println("[BeamCanvas] populateInteractiveElements: Starting");
-        this.clickableDimensionTexts.clear(); // Clear dimension texts for the new draw cycle
     interactiveElements.clear();
         System.out.println("[BeamCanvas] populateInteractiveElements: Cleared existing elements. Size: " + interactiveElements.size());
         if (beamModel == null) {
             return;
         }
+        beamModel.markModified(); // Supports or loads may have been edited in place
 
         for (Support support : beamModel.getSupports()) {
             interactiveElements.add(new SupportMarker(support, beamModel));
@@ -196,7 +240,7 @@ public class BeamCanvas extends Canvas {
         Collections.sort(interactiveElements, Comparator.comparingInt(this::getElementPriority));
 
         // Request a redraw as the model (and thus interactive elements) have changed
-        draw();
+        requestRedraw();
         System.out.println("BeamCanvas: Populated " + interactiveElements.size() + " interactive elements. Sorted by priority.");
     }
 
@@ -234,7 +278,7 @@ public class BeamCanvas extends Canvas {
      */
     public void setGridStyle(int gridStyle) {
         this.gridStyle = gridStyle;
-        draw();
+        requestRedraw();
     }
     
     /**
@@ -254,7 +298,7 @@ public class BeamCanvas extends Canvas {
         double centerX = getWidth() / 2;
         double centerY = getHeight() / 2;
         viewTransform.zoom(centerX, centerY, 1.1);
-        draw();
+        requestRedraw();
     }
     
     /**
@@ -264,7 +308,7 @@ public class BeamCanvas extends Canvas {
         double centerX = getWidth() / 2;
         double centerY = getHeight() / 2;
         viewTransform.zoom(centerX, centerY, 0.9);
-        draw();
+        requestRedraw();
     }
     
     /**
@@ -326,17 +370,44 @@ public class BeamCanvas extends Canvas {
     
     
     /**
-     * Draw the beam with its supports and loads
+     * Schedule a redraw of every layer on the next pulse
+     */
+    public void requestRedraw() {
+        redrawScheduler.requestFull();
+    }
+    
+    /**
+     * Schedule a redraw of the overlay on the next pulse
+     */
+    public void requestOverlayRedraw() {
+        redrawScheduler.requestOverlay();
+    }
+    
+    /**
+     * Draw the beam with its supports and loads immediately: the static layer, then the overlay.
+     * Prefer {@link #requestRedraw()}, which coalesces redraws within a pulse.
      */
     public void draw() {
+        redrawScheduler.clearPending();
         // System.out.println("[BeamCanvas] draw: Starting draw cycle. Interactive elements count: " + interactiveElements.size());
-        clickableDimensionTexts.clear();
         GraphicsContext gc = getGraphicsContext2D();
         
-        // Use the drawing context to render everything
-        drawingContext.drawBeam(gc, beamModel, viewTransform, gridStyle, 
-                              getWidth(), getHeight(), selectionManager.getSelectedElement(), 
-                              selectionManager.getHoveredElement(), interactiveElements, dimensionLineDrawer);
+        // Use the drawing context to render the static layer
+        drawingContext.drawStaticLayer(gc, beamModel, viewTransform, gridStyle, 
+                                       getWidth(), getHeight(), dimensionLineDrawer);
+        drawOverlay();
+    }
+    
+    /**
+     * Redraw only the overlay, for hover and selection changes
+     */
+    public void drawOverlay() {
+        redrawScheduler.clearOverlayPending();
+        // Drop the temporary dimension texts of the previous overlay
+        dimensionLineDrawer.clearTemporaryTextRegions();
+        drawingContext.drawOverlay(overlayCanvas.getGraphicsContext2D(), viewTransform, 
+                                   getWidth(), getHeight(), selectionManager.getSelectedElement(), 
+                                   selectionManager.getHoveredElement(), dimensionLineDrawer);
     }
 
     
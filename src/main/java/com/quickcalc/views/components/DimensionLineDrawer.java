@@ -1,24 +1,25 @@
 package com.quickcalc.views.components;
 
+import com.quickcalc.models.BeamElementIndex;
 import com.quickcalc.models.BeamModel;
 import com.quickcalc.models.Load;
 import com.quickcalc.models.Support;
 import com.quickcalc.utils.DimensionFormatter;
-import com.quickcalc.utils.Point2D;
 import com.quickcalc.utils.ViewTransform;
 import com.quickcalc.constants.UIConstants;
-import javafx.geometry.BoundingBox;
-
+import com.quickcalc.views.components.renderers.TextMetrics;
 import javafx.geometry.VPos;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.TreeSet;
-import javafx.util.Pair;
+import java.util.function.IntPredicate;
 
 public class DimensionLineDrawer {
 
@@ -49,14 +50,63 @@ public class DimensionLineDrawer {
     private static final double TEMP_DIM_TEXT_OFFSET_Y_SCREEN = -4.0; // Y offset for text from the dimension line (negative for above)
     private static final double TEMP_DIM_TEXT_BG_PADDING_SCREEN = 1.0;
 
+    // A detailed segment ending this close to an element's key point measures to that element
+    private static final double KEY_POINT_TOLERANCE = 1e-3;
+
     private final ViewTransform viewTransform;
     private final BeamModel beamModel;
-    private final List<ClickableDimensionText> clickableDimensionTexts;
-
-    public DimensionLineDrawer(ViewTransform viewTransform, BeamModel beamModel, List<ClickableDimensionText> clickableDimensionTexts) {
+    private final TextMetrics textMetrics = TextMetrics.shared();
+
+    // Bottom dimension ticks and labels, rebuilt when the beam's element index changes
+    private BeamElementIndex cachedIndex;
+    private double[] permanentTicksEng = new double[0];
+    private String[] permanentLabels = new String[0]; // Null for segments too short to label
+    private double[] detailedTicksEng = new double[0];
+    private String[] detailedLabels = new String[0]; // Null for segments that are not drawn
+    private Object[] detailedElements = new Object[0];
+    private String[] detailedTypes = new String[0];
+    private double[] ticksScreenX = new double[0];
+
+    // Label hit regions in engineering coordinates, transformed only when a click is tested
+    private final DimensionTextRegions permanentTextRegions = new DimensionTextRegions(
+        PERMANENT_DIM_LINE_OFFSET_Y_SCREEN, PERMANENT_DIM_TEXT_OFFSET_Y_SCREEN, PERMANENT_DIM_TEXT_BG_PADDING_SCREEN);
+    private final DimensionTextRegions detailedTextRegions = new DimensionTextRegions(
+        DETAILED_DIM_LINE_OFFSET_Y_SCREEN, DETAILED_DIM_TEXT_OFFSET_Y_SCREEN, DETAILED_DIM_TEXT_BG_PADDING_SCREEN);
+    private final DimensionTextRegions temporaryTextRegions = new DimensionTextRegions(
+        TEMP_DIM_LINE_OFFSET_Y_SCREEN, TEMP_DIM_TEXT_OFFSET_Y_SCREEN, TEMP_DIM_TEXT_BG_PADDING_SCREEN);
+    private Font textRegionsFont; // Font the bottom label widths were measured in
+
+    public DimensionLineDrawer(ViewTransform viewTransform, BeamModel beamModel) {
         this.viewTransform = viewTransform;
         this.beamModel = beamModel;
-        this.clickableDimensionTexts = clickableDimensionTexts;
+    }
+
+    /**
+     * Find the dimension text drawn at a screen point
+     *
+     * @param screenX X-coordinate in pixels
+     * @param screenY Y-coordinate in pixels
+     * @return The dimension text with its current screen bounds, or null
+     */
+    public ClickableDimensionText findDimensionTextAt(double screenX, double screenY) {
+        if (this.viewTransform == null) {
+            return null;
+        }
+        ClickableDimensionText text = temporaryTextRegions.find(this.viewTransform, screenX, screenY);
+        if (text == null) {
+            text = permanentTextRegions.find(this.viewTransform, screenX, screenY);
+        }
+        if (text == null) {
+            text = detailedTextRegions.find(this.viewTransform, screenX, screenY);
+        }
+        return text;
+    }
+
+    /**
+     * Forget the temporary dimension texts before the overlay is redrawn
+     */
+    public void clearTemporaryTextRegions() {
+        temporaryTextRegions.clear();
     }
 
     // Dimension drawing methods moved from BeamCanvas.java
@@ -87,16 +137,19 @@ public class DimensionLineDrawer {
         double elementEngX1 = elementKeyEngXs.get(0);
         double elementEngX2 = (elementKeyEngXs.size() > 1) ? elementKeyEngXs.get(1) : elementEngX1;
 
-        TreeSet<Double> boundaryPointsEng = new TreeSet<>();
-        boundaryPointsEng.add(0.0);
-        this.beamModel.getSupports().forEach(s -> boundaryPointsEng.add(s.getPosition()));
-        boundaryPointsEng.add(this.beamModel.getLength());
+        // Anchors are the nearest support or beam end on either side of the element
+        double beamLength = this.beamModel.getLength();
+        BeamElementIndex index = this.beamModel.getElementIndex();
 
-        Double foundLeftAnchor = boundaryPointsEng.lower(elementEngX1);
-        double leftAnchorEngX = (foundLeftAnchor != null) ? foundLeftAnchor : 0.0;
+        double leftAnchorEngX = index.supportBefore(elementEngX1);
+        if (0.0 < elementEngX1) leftAnchorEngX = Math.max(leftAnchorEngX, 0.0);
+        if (beamLength < elementEngX1) leftAnchorEngX = Math.max(leftAnchorEngX, beamLength);
+        if (leftAnchorEngX == Double.NEGATIVE_INFINITY) leftAnchorEngX = 0.0;
 
-        Double foundRightAnchor = boundaryPointsEng.higher(elementEngX2);
-        double rightAnchorEngX = (foundRightAnchor != null) ? foundRightAnchor : this.beamModel.getLength();
+        double rightAnchorEngX = index.supportAfter(elementEngX2);
+        if (0.0 > elementEngX2) rightAnchorEngX = Math.min(rightAnchorEngX, 0.0);
+        if (beamLength > elementEngX2) rightAnchorEngX = Math.min(rightAnchorEngX, beamLength);
+        if (rightAnchorEngX == Double.POSITIVE_INFINITY) rightAnchorEngX = beamLength;
         
         gc.setStroke(TEMP_DIM_LINE_COLOR);
         gc.setLineWidth(TEMP_DIM_LINE_WIDTH);
@@ -104,7 +157,7 @@ public class DimensionLineDrawer {
         gc.setTextAlign(TextAlignment.CENTER);
         gc.setLineDashes(UIConstants.DASHED_LINE_PATTERN);
 
-        double beamScreenCenterY = this.viewTransform.engineeringToScreen(0, 0).getY();
+        double beamScreenCenterY = this.viewTransform.toScreenY(0);
         double dimLineScreenY = beamScreenCenterY + TEMP_DIM_LINE_OFFSET_Y_SCREEN;
 
         if (elementEngX1 > leftAnchorEngX + 1e-3) { 
@@ -126,31 +179,31 @@ public class DimensionLineDrawer {
     private void drawSingleDimensionSegment(GraphicsContext gc, Object modelElement, String dimensionType, double engXStart, double engXEnd, 
                                             double dimLineScreenY, double beamScreenCenterY) {
         
-        Point2D segStartScreen = this.viewTransform.engineeringToScreen(engXStart, 0);
-        Point2D segEndScreen = this.viewTransform.engineeringToScreen(engXEnd, 0);
+        double segStartScreenX = this.viewTransform.toScreenX(engXStart);
+        double segEndScreenX = this.viewTransform.toScreenX(engXEnd);
         double segmentLengthEng = engXEnd - engXStart;
 
-        if (segmentLengthEng < 1e-3 || Math.abs(segEndScreen.getX() - segStartScreen.getX()) < 1.0) {
+        if (segmentLengthEng < 1e-3 || Math.abs(segEndScreenX - segStartScreenX) < 1.0) {
             return;
         }
 
-        gc.strokeLine(segStartScreen.getX(), dimLineScreenY, segEndScreen.getX(), dimLineScreenY);
+        gc.strokeLine(segStartScreenX, dimLineScreenY, segEndScreenX, dimLineScreenY);
 
-        gc.strokeLine(segStartScreen.getX(), beamScreenCenterY, segStartScreen.getX(), dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
-        gc.strokeLine(segStartScreen.getX(), dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2, segStartScreen.getX(), dimLineScreenY + TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
+        gc.strokeLine(segStartScreenX, beamScreenCenterY, segStartScreenX, dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
+        gc.strokeLine(segStartScreenX, dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2, segStartScreenX, dimLineScreenY + TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
 
-        gc.strokeLine(segEndScreen.getX(), beamScreenCenterY, segEndScreen.getX(), dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
-        gc.strokeLine(segEndScreen.getX(), dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2, segEndScreen.getX(), dimLineScreenY + TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
+        gc.strokeLine(segEndScreenX, beamScreenCenterY, segEndScreenX, dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
+        gc.strokeLine(segEndScreenX, dimLineScreenY - TEMP_DIM_TICK_HEIGHT_SCREEN / 2, segEndScreenX, dimLineScreenY + TEMP_DIM_TICK_HEIGHT_SCREEN / 2);
 
-        this.drawDimensionText(gc, segStartScreen.getX(), segEndScreen.getX(), dimLineScreenY, segmentLengthEng, TEMP_DIM_TEXT_OFFSET_Y_SCREEN, TEMP_DIM_TEXT_BG_PADDING_SCREEN, TEMP_DIM_TEXT_COLOR, modelElement, dimensionType, engXStart, engXEnd);
+        String text = DimensionFormatter.formatDimension(segmentLengthEng);
+        this.drawDimensionText(gc, text, segStartScreenX, segEndScreenX, dimLineScreenY, TEMP_DIM_TEXT_OFFSET_Y_SCREEN, TEMP_DIM_TEXT_BG_PADDING_SCREEN, TEMP_DIM_TEXT_COLOR);
+        temporaryTextRegions.setTextHeight(textMetrics.height(gc.getFont()));
+        temporaryTextRegions.add(engXStart, engXEnd, text, textMetrics.width(gc.getFont(), text), modelElement, dimensionType);
     }
 
-    private void drawDimensionText(GraphicsContext gc, double segmentStartScreenX, double segmentEndScreenX, double dimLineScreenY, double segmentLengthEng, double textOffsetY, double bgPadding, Color textColor, Object modelElement, String dimensionType, double anchor1EngX, double anchor2EngX) {
-        String text = DimensionFormatter.formatDimension(segmentLengthEng);
-        javafx.scene.text.Text tempTextNode = new javafx.scene.text.Text(text);
-        tempTextNode.setFont(gc.getFont());
-        double textWidth = tempTextNode.getLayoutBounds().getWidth();
-        double textHeight = tempTextNode.getLayoutBounds().getHeight(); 
+    private void drawDimensionText(GraphicsContext gc, String text, double segmentStartScreenX, double segmentEndScreenX, double dimLineScreenY, double textOffsetY, double bgPadding, Color textColor) {
+        double textWidth = textMetrics.width(gc.getFont(), text);
+        double textHeight = textMetrics.height(gc.getFont());
 
         double segmentMidScreenX = (segmentStartScreenX + segmentEndScreenX) / 2;
         double textBaselineScreenY = dimLineScreenY + textOffsetY; 
@@ -163,29 +216,11 @@ public class DimensionLineDrawer {
         gc.fillRect(segmentMidScreenX - textWidth / 2 - bgPadding,
                     textBaselineScreenY - textHeight - bgPadding, 
                     textWidth + 2 * bgPadding,
-                    tempTextNode.getLayoutBounds().getHeight() + 2 * bgPadding);
+                    textHeight + 2 * bgPadding);
         
         gc.setFill(textColor);
         gc.setTextBaseline(VPos.BOTTOM); 
         gc.fillText(text, segmentMidScreenX, textBaselineScreenY);
-
-        // Create and store ClickableDimensionText for interactivity
-        double boundsMinX = segmentMidScreenX - textWidth / 2 - bgPadding;
-        double boundsMinY = textBaselineScreenY - textHeight - bgPadding;
-        double boundsWidth = textWidth + 2 * bgPadding;
-        double boundsHeight = textHeight + 2 * bgPadding; // textHeight is LayoutBounds().getHeight(), which is what we used for drawing the bg rect
-        BoundingBox screenBounds = new BoundingBox(boundsMinX, boundsMinY, boundsWidth, boundsHeight);
-
-        ClickableDimensionText cdt = new ClickableDimensionText(
-            screenBounds,
-            modelElement,
-            dimensionType,
-            segmentLengthEng,
-            text,
-            anchor1EngX,
-            anchor2EngX
-        );
-        this.clickableDimensionTexts.add(cdt);
     }
 
     public void drawPermanentBottomDimensionLine(GraphicsContext gc) {
@@ -199,44 +234,30 @@ public class DimensionLineDrawer {
         gc.setTextAlign(TextAlignment.CENTER);
         gc.setLineDashes(null); // Solid line
 
-        double beamScreenCenterY = this.viewTransform.engineeringToScreen(0, 0).getY();
+        double beamScreenCenterY = this.viewTransform.toScreenY(0);
         double dimLineScreenY = beamScreenCenterY + PERMANENT_DIM_LINE_OFFSET_Y_SCREEN;
 
-        TreeSet<Double> tickLocationsEng = new TreeSet<>();
-        tickLocationsEng.add(0.0); // Always include beam start
-        this.beamModel.getSupports().forEach(s -> tickLocationsEng.add(s.getPosition()));
-        tickLocationsEng.add(this.beamModel.getLength()); // Always include beam end
-
-        List<Double> sortedTickLocationsEng = new ArrayList<>(tickLocationsEng);
-        if (sortedTickLocationsEng.size() < 2) return;
-
-        double overallStartEngX = sortedTickLocationsEng.get(0);
-        double overallEndEngX = sortedTickLocationsEng.get(sortedTickLocationsEng.size() - 1);
-
-        Point2D overallStartScreen = this.viewTransform.engineeringToScreen(overallStartEngX, 0);
-        Point2D overallEndScreen = this.viewTransform.engineeringToScreen(overallEndEngX, 0);
+        updateTickCache(gc.getFont());
+        int tickCount = permanentTicksEng.length;
+        if (tickCount < 2) return;
+        this.viewTransform.toScreenX(permanentTicksEng, ticksScreenX, tickCount);
 
         // Draw the main continuous dimension line if there's any length
-        if (Math.abs(overallEndScreen.getX() - overallStartScreen.getX()) > 1.0) {
-             gc.strokeLine(overallStartScreen.getX(), dimLineScreenY, overallEndScreen.getX(), dimLineScreenY);
+        if (Math.abs(ticksScreenX[tickCount - 1] - ticksScreenX[0]) > 1.0) {
+             gc.strokeLine(ticksScreenX[0], dimLineScreenY, ticksScreenX[tickCount - 1], dimLineScreenY);
         }
 
-        for (int i = 0; i < sortedTickLocationsEng.size(); i++) {
-            double engX = sortedTickLocationsEng.get(i);
-            Point2D tickScreenPos = this.viewTransform.engineeringToScreen(engX, 0);
+        int firstTick = firstVisibleTick(gc, permanentTicksEng);
+        int lastTick = lastVisibleTick(gc, permanentTicksEng);
+        for (int i = firstTick; i <= lastTick; i++) {
+            double tickScreenX = ticksScreenX[i];
 
             // Draw tick on the dimension line (now short, like detailed ticks)
-            gc.strokeLine(tickScreenPos.getX(), dimLineScreenY - PERMANENT_DIM_TICK_HEIGHT_SCREEN / 2, tickScreenPos.getX(), dimLineScreenY + PERMANENT_DIM_TICK_HEIGHT_SCREEN / 2);
+            gc.strokeLine(tickScreenX, dimLineScreenY - PERMANENT_DIM_TICK_HEIGHT_SCREEN / 2, tickScreenX, dimLineScreenY + PERMANENT_DIM_TICK_HEIGHT_SCREEN / 2);
 
             // Draw dimension text between ticks
-            if (i < sortedTickLocationsEng.size() - 1) {
-                double nextEngX = sortedTickLocationsEng.get(i + 1);
-                double segmentLengthEng = nextEngX - engX;
-                Point2D nextTickScreenPos = this.viewTransform.engineeringToScreen(nextEngX, 0);
-                if (segmentLengthEng > 1e-3 && Math.abs(nextTickScreenPos.getX() - tickScreenPos.getX()) > 1.0) {
-                    // Use the existing drawDimensionText helper
-                    this.drawDimensionText(gc, tickScreenPos.getX(), nextTickScreenPos.getX(), dimLineScreenY, segmentLengthEng, PERMANENT_DIM_TEXT_OFFSET_Y_SCREEN, PERMANENT_DIM_TEXT_BG_PADDING_SCREEN, PERMANENT_DIM_TEXT_COLOR, this.beamModel, "permanent_spacing", engX, nextEngX);
-                }
+            if (i < lastTick && permanentLabels[i] != null && Math.abs(ticksScreenX[i + 1] - tickScreenX) > 1.0) {
+                this.drawDimensionText(gc, permanentLabels[i], tickScreenX, ticksScreenX[i + 1], dimLineScreenY, PERMANENT_DIM_TEXT_OFFSET_Y_SCREEN, PERMANENT_DIM_TEXT_BG_PADDING_SCREEN, PERMANENT_DIM_TEXT_COLOR);
             }
         }
     }
@@ -246,121 +267,291 @@ public class DimensionLineDrawer {
             return;
         }
 
-        List<Pair<Double, Double>> permanentDimensionSegments = new ArrayList<>();
-        if (!this.beamModel.getSupports().isEmpty()) {
-            TreeSet<Double> permTickLocationsEngSet = new TreeSet<>();
-            permTickLocationsEngSet.add(0.0);
-            this.beamModel.getSupports().forEach(s -> permTickLocationsEngSet.add(s.getPosition()));
-            permTickLocationsEngSet.add(this.beamModel.getLength());
-            
-            List<Double> sortedPermTickLocationsEng = new ArrayList<>(permTickLocationsEngSet);
-            if (sortedPermTickLocationsEng.size() >= 2) {
-                for (int k = 0; k < sortedPermTickLocationsEng.size() - 1; k++) {
-                    double segStart = sortedPermTickLocationsEng.get(k);
-                    double segEnd = sortedPermTickLocationsEng.get(k + 1);
-                    if (segEnd - segStart > 1e-2) { 
-                         permanentDimensionSegments.add(new Pair<>(segStart, segEnd));
-                    }
-                }
+        updateTickCache(gc.getFont());
+        int tickCount = detailedTicksEng.length;
+        if (tickCount < 2) return;
+
+        gc.setStroke(DETAILED_DIM_LINE_COLOR);
+        gc.setLineWidth(DETAILED_DIM_LINE_WIDTH);
+        gc.setFill(DETAILED_DIM_TEXT_COLOR);
+        gc.setLineDashes(null); // Solid line
+
+        double beamScreenCenterY = this.viewTransform.toScreenY(0);
+        double dimLineScreenY = beamScreenCenterY + DETAILED_DIM_LINE_OFFSET_Y_SCREEN;
+        this.viewTransform.toScreenX(detailedTicksEng, ticksScreenX, tickCount);
+
+        int lastTick = lastVisibleTick(gc, detailedTicksEng);
+        for (int i = firstVisibleTick(gc, detailedTicksEng); i < lastTick; i++) {
+            String text = detailedLabels[i];
+            double currentTickScreenX = ticksScreenX[i];
+            double nextTickScreenX = ticksScreenX[i + 1];
+
+            if (text != null && Math.abs(nextTickScreenX - currentTickScreenX) > 10) {
+                gc.strokeLine(currentTickScreenX, dimLineScreenY, nextTickScreenX, dimLineScreenY);
+                gc.strokeLine(currentTickScreenX, dimLineScreenY - DETAILED_DIM_TICK_HEIGHT_SCREEN / 2,
+                              currentTickScreenX, dimLineScreenY + DETAILED_DIM_TICK_HEIGHT_SCREEN / 2);
+                gc.strokeLine(nextTickScreenX, dimLineScreenY - DETAILED_DIM_TICK_HEIGHT_SCREEN / 2,
+                              nextTickScreenX, dimLineScreenY + DETAILED_DIM_TICK_HEIGHT_SCREEN / 2);
+                this.drawDimensionText(gc, text, currentTickScreenX, nextTickScreenX, dimLineScreenY, DETAILED_DIM_TEXT_OFFSET_Y_SCREEN, DETAILED_DIM_TEXT_BG_PADDING_SCREEN, DETAILED_DIM_TEXT_COLOR);
             }
         }
+    }
+
+    /**
+     * Index of the first tick of the first segment that reaches the canvas
+     */
+    private int firstVisibleTick(GraphicsContext gc, double[] ticksEng) {
+        double minEngX = Math.min(this.viewTransform.toEngineeringX(0), this.viewTransform.toEngineeringX(gc.getCanvas().getWidth()));
+        int index = Arrays.binarySearch(ticksEng, minEngX);
+        int lowerBound = index >= 0 ? index : -index - 1;
+        return Math.max(0, lowerBound - 1);
+    }
+
+    /**
+     * Index of the last tick of the last segment that reaches the canvas
+     */
+    private int lastVisibleTick(GraphicsContext gc, double[] ticksEng) {
+        double maxEngX = Math.max(this.viewTransform.toEngineeringX(0), this.viewTransform.toEngineeringX(gc.getCanvas().getWidth()));
+        int index = Arrays.binarySearch(ticksEng, maxEngX);
+        int upperBound = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(ticksEng.length - 1, upperBound);
+    }
 
-        TreeSet<Double> tickLocationsEng = new TreeSet<>();
-        tickLocationsEng.add(0.0);
-        tickLocationsEng.add(this.beamModel.getLength());
-        this.beamModel.getSupports().forEach(s -> tickLocationsEng.add(s.getPosition()));
-        for (Load load : this.beamModel.getLoads()) {
-            tickLocationsEng.add(load.getPosition());
+    /**
+     * Rebuild the sorted tick positions, segment labels and the elements the
+     * segments belong to when the beam has changed since the last draw, and
+     * the label hit regions when the beam or the label font has changed
+     */
+    private void updateTickCache(Font font) {
+        BeamElementIndex index = this.beamModel.getElementIndex();
+        if (index != cachedIndex) {
+            cachedIndex = index;
+            rebuildTicks();
+            textRegionsFont = null;
+        }
+        if (!font.equals(textRegionsFont)) {
+            textRegionsFont = font;
+            rebuildTextRegions(font);
+        }
+    }
+
+    private void rebuildTicks() {
+        List<Support> supports = this.beamModel.getSupports();
+        List<Load> loads = this.beamModel.getLoads();
+        double beamLength = this.beamModel.getLength();
+
+        // Permanent ticks: beam ends and supports
+        double[] positions = new double[supports.size() + 2 * loads.size() + 2];
+        int count = 0;
+        positions[count++] = 0.0; // Always include beam start
+        for (Support support : supports) {
+            positions[count++] = support.getPosition();
+        }
+        positions[count++] = beamLength; // Always include beam end
+        permanentTicksEng = sortedUnique(positions, count);
+        permanentLabels = new String[Math.max(0, permanentTicksEng.length - 1)];
+        for (int i = 0; i < permanentLabels.length; i++) {
+            double segmentLengthEng = permanentTicksEng[i + 1] - permanentTicksEng[i];
+            if (segmentLengthEng > 1e-3) {
+                permanentLabels[i] = DimensionFormatter.formatDimension(segmentLengthEng);
+            }
+        }
+
+        // Detailed ticks: every point of interest
+        count = 0;
+        positions[count++] = 0.0;
+        positions[count++] = beamLength;
+        for (Support support : supports) {
+            positions[count++] = support.getPosition();
+        }
+        for (Load load : loads) {
+            positions[count++] = load.getPosition();
             if (load.getType() == Load.Type.DISTRIBUTED) {
-                tickLocationsEng.add(load.getEndPosition());
+                positions[count++] = load.getEndPosition();
             }
         }
+        detailedTicksEng = sortedUnique(positions, count);
+
+        // Key points of every load and support, so each segment finds its element by binary search
+        int[] codes = new int[positions.length];
+        count = 0;
+        for (int i = 0; i < loads.size(); i++) {
+            Load load = loads.get(i);
+            positions[count] = load.getPosition();
+            codes[count++] = 2 * i;
+            if (load.getType() == Load.Type.DISTRIBUTED) {
+                positions[count] = load.getEndPosition();
+                codes[count++] = 2 * i + 1;
+            }
+        }
+        KeyPoints loadKeys = new KeyPoints(positions, codes, count);
+        count = 0;
+        for (int i = 0; i < supports.size(); i++) {
+            positions[count] = supports.get(i).getPosition();
+            codes[count++] = 2 * i;
+        }
+        KeyPoints supportKeys = new KeyPoints(positions, codes, count);
+
+        int segmentCount = Math.max(0, detailedTicksEng.length - 1);
+        detailedLabels = new String[segmentCount];
+        detailedElements = new Object[segmentCount];
+        detailedTypes = new String[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            double currentTickEngX = detailedTicksEng[i];
+            double nextTickEngX = detailedTicksEng[i + 1];
+            double segmentLengthEng = nextTickEngX - currentTickEngX;
+            // Segments repeated by the permanent line are not labelled twice
+            if (segmentLengthEng <= 1e-2 || !supports.isEmpty() && isPermanentSegment(currentTickEngX, nextTickEngX)) {
+                continue;
+            }
+            detailedLabels[i] = DimensionFormatter.formatDimension(segmentLengthEng);
+            findSegmentElement(loads, supports, loadKeys, supportKeys, i, currentTickEngX, nextTickEngX);
+        }
 
-        List<Double> sortedTickLocationsEng = new ArrayList<>(tickLocationsEng);
-        if (sortedTickLocationsEng.size() < 2) return;
+        ticksScreenX = new double[Math.max(permanentTicksEng.length, detailedTicksEng.length)];
+    }
 
-        gc.setStroke(DETAILED_DIM_LINE_COLOR);
-        gc.setLineWidth(DETAILED_DIM_LINE_WIDTH);
-        gc.setFill(DETAILED_DIM_TEXT_COLOR);
-        gc.setLineDashes(null); // Solid line
+    private void rebuildTextRegions(Font font) {
+        double textHeight = textMetrics.height(font);
+        permanentTextRegions.clear();
+        permanentTextRegions.setTextHeight(textHeight);
+        for (int i = 0; i < permanentLabels.length; i++) {
+            if (permanentLabels[i] != null) {
+                permanentTextRegions.add(permanentTicksEng[i], permanentTicksEng[i + 1], permanentLabels[i],
+                    textMetrics.width(font, permanentLabels[i]), this.beamModel, "permanent_spacing");
+            }
+        }
+        detailedTextRegions.clear();
+        detailedTextRegions.setTextHeight(textHeight);
+        for (int i = 0; i < detailedLabels.length; i++) {
+            if (detailedLabels[i] != null) {
+                detailedTextRegions.add(detailedTicksEng[i], detailedTicksEng[i + 1], detailedLabels[i],
+                    textMetrics.width(font, detailedLabels[i]), detailedElements[i], detailedTypes[i]);
+            }
+        }
+    }
 
-        double beamScreenCenterY = this.viewTransform.engineeringToScreen(0, 0).getY();
-        double dimLineScreenY = beamScreenCenterY + DETAILED_DIM_LINE_OFFSET_Y_SCREEN;
+    private boolean isPermanentSegment(double startEngX, double endEngX) {
+        // Only permanent ticks within the tolerance of the start can begin a match
+        int index = Arrays.binarySearch(permanentTicksEng, startEngX - 0.01);
+        for (int k = index >= 0 ? index : -index - 1;
+             k < permanentTicksEng.length - 1 && permanentTicksEng[k] - startEngX < 0.01; k++) {
+            double segStart = permanentTicksEng[k];
+            double segEnd = permanentTicksEng[k + 1];
+            if (segEnd - segStart > 1e-2 && Math.abs(segStart - startEngX) < 0.01 && Math.abs(segEnd - endEngX) < 0.01) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        for (int i = 0; i < sortedTickLocationsEng.size() - 1; i++) {
-            double currentTickEngX = sortedTickLocationsEng.get(i);
-            double nextTickEngX = sortedTickLocationsEng.get(i + 1);
-            double segmentLengthEng = nextTickEngX - currentTickEngX;
+    /**
+     * Determine the model element and dimension type of a detailed segment for ClickableDimensionText
+     */
+    private void findSegmentElement(List<Load> loads, List<Support> supports, KeyPoints loadKeys, KeyPoints supportKeys,
+                                    int segment, double currentTickEngX, double nextTickEngX) {
+        Object relevantElement = null;
+        String dimType = "detailed_spacing"; // Default
+
+        // Check if it's a distributed load's length
+        int code = loadKeys.firstNear(currentTickEngX, c -> {
+            Load load = loads.get(c / 2);
+            return c % 2 == 0 && load.getType() == Load.Type.DISTRIBUTED &&
+                Math.abs(load.getEndPosition() - nextTickEngX) < KEY_POINT_TOLERANCE;
+        });
+        if (code >= 0) {
+            relevantElement = loads.get(code / 2);
+            dimType = "detailed_load_length";
+        }
 
-            Point2D currentTickScreen = this.viewTransform.engineeringToScreen(currentTickEngX, 0);
-            Point2D nextTickScreen = this.viewTransform.engineeringToScreen(nextTickEngX, 0);
-            double segmentScreenWidth = Math.abs(nextTickScreen.getX() - currentTickScreen.getX());
-
-            if (segmentLengthEng > 1e-2 && segmentScreenWidth > 10) {
-                boolean isDuplicate = false;
-                for (Pair<Double, Double> permSegmentPair : permanentDimensionSegments) {
-                    if (Math.abs(permSegmentPair.getKey() - currentTickEngX) < 0.01 &&
-                        Math.abs(permSegmentPair.getValue() - nextTickEngX) < 0.01) {
-                        isDuplicate = true;
-                        break;
-                    }
+        if (relevantElement == null) {
+            // Check if nextTickEngX is a primary point of an element
+            code = loadKeys.firstNear(nextTickEngX, c -> true);
+            if (code >= 0) {
+                relevantElement = loads.get(code / 2);
+                dimType = code % 2 == 0
+                    ? "detailed_load_position" // Segment measures to this load's start
+                    : "detailed_load_end_position"; // Segment measures to this load's end
+            } else {
+                code = supportKeys.firstNear(nextTickEngX, c -> true);
+                if (code >= 0) {
+                    relevantElement = supports.get(code / 2);
+                    dimType = "detailed_support_position"; // Segment measures to this support
                 }
-                
-                if (!isDuplicate) {
-                    gc.strokeLine(currentTickScreen.getX(), dimLineScreenY, nextTickScreen.getX(), dimLineScreenY);
-                    gc.strokeLine(currentTickScreen.getX(), dimLineScreenY - DETAILED_DIM_TICK_HEIGHT_SCREEN / 2,
-                                  currentTickScreen.getX(), dimLineScreenY + DETAILED_DIM_TICK_HEIGHT_SCREEN / 2);
-                    gc.strokeLine(nextTickScreen.getX(), dimLineScreenY - DETAILED_DIM_TICK_HEIGHT_SCREEN / 2,
-                                  nextTickScreen.getX(), dimLineScreenY + DETAILED_DIM_TICK_HEIGHT_SCREEN / 2);
-                    // Determine modelElement and dimensionType for ClickableDimensionText
-                    Object relevantElement = null;
-                    String dimType = "detailed_spacing"; // Default
-
-                    // Check if it's a distributed load's length
-                    for (Load load : this.beamModel.getLoads()) {
-                        if (load.getType() == Load.Type.DISTRIBUTED &&
-                            Math.abs(load.getPosition() - currentTickEngX) < 1e-3 &&
-                            Math.abs(load.getEndPosition() - nextTickEngX) < 1e-3) {
-                            relevantElement = load;
-                            dimType = "detailed_load_length";
-                            break;
-                        }
-                    }
-
-                    if (relevantElement == null) {
-                        // Check if nextTickEngX is a primary point of an element
-                        for (Load load : this.beamModel.getLoads()) {
-                            if (Math.abs(load.getPosition() - nextTickEngX) < 1e-3) {
-                                relevantElement = load;
-                                dimType = "detailed_load_position"; // Segment measures to this load's start
-                                break;
-                            }
-                            if (load.getType() == Load.Type.DISTRIBUTED && Math.abs(load.getEndPosition() - nextTickEngX) < 1e-3) {
-                                relevantElement = load;
-                                dimType = "detailed_load_end_position"; // Segment measures to this load's end
-                                break;
-                            }
-                        }
-                        if (relevantElement == null) {
-                            for (Support support : this.beamModel.getSupports()) {
-                                if (Math.abs(support.getPosition() - nextTickEngX) < 1e-3) {
-                                    relevantElement = support;
-                                    dimType = "detailed_support_position"; // Segment measures to this support
-                                    break;
-                                }
-                            }
-                        }
-                    }
-
-                    // If no specific element association found by looking at nextTickEngX or full span,
-                    // assign the beam model itself. This covers gaps, segments from beam start, etc.
-                    if (relevantElement == null) {
-                        relevantElement = this.beamModel;
-                    }
-
-                    this.drawDimensionText(gc, currentTickScreen.getX(), nextTickScreen.getX(), dimLineScreenY, segmentLengthEng, DETAILED_DIM_TEXT_OFFSET_Y_SCREEN, DETAILED_DIM_TEXT_BG_PADDING_SCREEN, DETAILED_DIM_TEXT_COLOR, relevantElement, dimType, currentTickEngX, nextTickEngX);
+            }
+        }
+
+        // If no specific element association found by looking at nextTickEngX or full span,
+        // assign the beam model itself. This covers gaps, segments from beam start, etc.
+        if (relevantElement == null) {
+            relevantElement = this.beamModel;
+        }
+        detailedElements[segment] = relevantElement;
+        detailedTypes[segment] = dimType;
+    }
+
+    /**
+     * Key points of model elements sorted by position. Each point carries a code:
+     * twice the element's list index, plus one for the end of a distributed load.
+     * The lowest code near a position is the element a scan of the list would
+     * have found first.
+     */
+    private static final class KeyPoints {
+        private final double[] positions;
+        private final int[] codes;
+
+        KeyPoints(double[] positions, int[] codes, int count) {
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingDouble(i -> positions[i]));
+            this.positions = new double[count];
+            this.codes = new int[count];
+            for (int i = 0; i < count; i++) {
+                this.positions[i] = positions[order[i]];
+                this.codes[i] = codes[order[i]];
+            }
+        }
+
+        /**
+         * Get the lowest accepted code of the points within KEY_POINT_TOLERANCE of a position
+         *
+         * @return The code, or -1 if no point qualifies
+         */
+        int firstNear(double position, IntPredicate accept) {
+            int lo = 0;
+            int hi = positions.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (positions[mid] <= position - KEY_POINT_TOLERANCE) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            int best = -1;
+            for (int k = lo; k < positions.length && positions[k] - position < KEY_POINT_TOLERANCE; k++) {
+                if ((best < 0 || codes[k] < best) && accept.test(codes[k])) {
+                    best = codes[k];
                 }
             }
+            return best;
+        }
+    }
+
+    /**
+     * Sort positions and drop exact duplicates, as a TreeSet of the values would
+     */
+    private static double[] sortedUnique(double[] values, int count) {
+        double[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || Double.compare(sorted[i], sorted[unique - 1]) != 0) {
+                sorted[unique++] = sorted[i];
+            }
         }
+        return Arrays.copyOf(sorted, unique);
     }
 }
@@ -0,0 +1,129 @@
+package com.quickcalc.views.components;
+
+import com.quickcalc.utils.ViewTransform;
+import javafx.geometry.BoundingBox;
+
+import java.util.Arrays;
+
+/**
+ * Hit regions of the labels on one dimension line, kept in engineering
+ * coordinates so they survive pans and zooms without being rebuilt.
+ *
+ * Labels are centered on their segment and only drawn when they fit inside it,
+ * so a click can only hit the label of the segment under it. Segments are added
+ * in position order and found by binary search; the screen bounds of that one
+ * label are computed when a click is tested.
+ */
+class DimensionTextRegions {
+
+    private final double lineOffsetY; // Dimension line offset from the beam centerline in pixels
+    private final double textOffsetY; // Text baseline offset from the dimension line in pixels
+    private final double padding;
+
+    private int count;
+    private double[] startEngX = new double[16];
+    private double[] endEngX = new double[16];
+    private double[] textWidth = new double[16];
+    private String[] texts = new String[16];
+    private Object[] elements = new Object[16];
+    private String[] types = new String[16];
+    private double textHeight;
+
+    /**
+     * Constructor
+     *
+     * @param lineOffsetY Dimension line offset from the beam centerline in pixels
+     * @param textOffsetY Text baseline offset from the dimension line in pixels
+     * @param padding Background padding around the text in pixels
+     */
+    DimensionTextRegions(double lineOffsetY, double textOffsetY, double padding) {
+        this.lineOffsetY = lineOffsetY;
+        this.textOffsetY = textOffsetY;
+        this.padding = padding;
+    }
+
+    void clear() {
+        Arrays.fill(texts, 0, count, null);
+        Arrays.fill(elements, 0, count, null);
+        Arrays.fill(types, 0, count, null);
+        count = 0;
+    }
+
+    void setTextHeight(double textHeight) {
+        this.textHeight = textHeight;
+    }
+
+    /**
+     * Add the label of a segment; segments must be added left to right without overlapping
+     */
+    void add(double segmentStartEngX, double segmentEndEngX, String text, double width,
+             Object modelElement, String dimensionType) {
+        if (count == startEngX.length) {
+            int capacity = 2 * count;
+            startEngX = Arrays.copyOf(startEngX, capacity);
+            endEngX = Arrays.copyOf(endEngX, capacity);
+            textWidth = Arrays.copyOf(textWidth, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+        startEngX[count] = segmentStartEngX;
+        endEngX[count] = segmentEndEngX;
+        textWidth[count] = width;
+        texts[count] = text;
+        elements[count] = modelElement;
+        types[count] = dimensionType;
+        count++;
+    }
+
+    /**
+     * Find the label drawn at a screen point
+     *
+     * @param viewTransform Current view transformation
+     * @param screenX X-coordinate in pixels
+     * @param screenY Y-coordinate in pixels
+     * @return The label with its current screen bounds, or null
+     */
+    ClickableDimensionText find(ViewTransform viewTransform, double screenX, double screenY) {
+        double baselineY = viewTransform.toScreenY(0) + lineOffsetY + textOffsetY;
+        double top = baselineY - textHeight - padding;
+        double height = textHeight + 2 * padding;
+        if (count == 0 || screenY < top || screenY > top + height) {
+            return null;
+        }
+
+        // Last segment starting at or before the point
+        double engX = viewTransform.toEngineeringX(screenX);
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (startEngX[mid] <= engX) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int i = lo - 1;
+        if (i < 0 || engX > endEngX[i]) {
+            return null;
+        }
+
+        double startX = viewTransform.toScreenX(startEngX[i]);
+        double endX = viewTransform.toScreenX(endEngX[i]);
+        double width = textWidth[i] + 2 * padding;
+        if (Math.abs(endX - startX) < width) {
+            return null; // Too narrow for its label at this zoom
+        }
+        double left = (startX + endX) / 2 - width / 2;
+        if (screenX < left || screenX > left + width) {
+            return null;
+        }
+        return new ClickableDimensionText(new BoundingBox(left, top, width, height), elements[i], types[i],
+            endEngX[i] - startEngX[i], texts[i], startEngX[i], endEngX[i]);
+    }
+
+    int size() {
+        return count;
+    }
+}
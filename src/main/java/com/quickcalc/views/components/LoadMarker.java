@@ -25,9 +25,8 @@ public class LoadMarker extends InteractiveElement {
             return new BoundingBox(0, 0, 0, 0); 
         }
         
-        com.quickcalc.utils.Point2D loadScreenPos = viewTransform.engineeringToScreen(load.getPosition(), 0);
-        double screenX = loadScreenPos.getX();
-        double screenYBase = loadScreenPos.getY();
+        double screenX = viewTransform.toScreenX(load.getPosition());
+        double screenYBase = viewTransform.toScreenY(0);
 
         double defaultWidth = 20; 
         double defaultHeight = 20;
@@ -43,8 +42,7 @@ public class LoadMarker extends InteractiveElement {
             }
             return new BoundingBox(screenX - markerWidth / 2, minYValue, markerWidth, visualHeight);
         } else if (load.getType() == Load.Type.DISTRIBUTED) {
-            com.quickcalc.utils.Point2D loadEndScreenPos = viewTransform.engineeringToScreen(load.getEndPosition(), 0);
-            double endX = loadEndScreenPos.getX();
+            double endX = viewTransform.toScreenX(load.getEndPosition());
             double distVisualHeight = UIConstants.DISTRIBUTED_LOAD_ARROW_LENGTH;
             double distMinY;
             if (load.getMagnitude() < 0) { // Assuming negative magnitude means visually UPWARD
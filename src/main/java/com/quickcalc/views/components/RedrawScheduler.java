@@ -0,0 +1,113 @@
+package com.quickcalc.views.components;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Coalesces redraw requests so a canvas renders at most once per pulse.
+ *
+ * Callers mark the canvas dirty instead of drawing; an AnimationTimer runs the
+ * pending draw on the next pulse, so a burst of scroll, drag or resize events
+ * within one frame costs a single render. A full redraw covers a pending
+ * overlay redraw. The timer stops itself after an idle pulse, so an idle canvas
+ * costs nothing. All methods must be called on the FX application thread.
+ */
+public class RedrawScheduler {
+
+    private final Runnable fullRedraw;
+    private final Runnable overlayRedraw;
+    private final AnimationTimer timer;
+
+    private boolean fullDirty;
+    private boolean overlayDirty;
+    private boolean running;
+    private long frameCount;
+
+    /**
+     * Constructor
+     *
+     * @param fullRedraw Redraws every layer
+     * @param overlayRedraw Redraws only the overlay layer
+     */
+    public RedrawScheduler(Runnable fullRedraw, Runnable overlayRedraw) {
+        this.fullRedraw = fullRedraw;
+        this.overlayRedraw = overlayRedraw;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (!flush()) {
+                    stop();
+                    running = false;
+                }
+            }
+        };
+    }
+
+    /**
+     * Mark every layer dirty
+     */
+    public void requestFull() {
+        fullDirty = true;
+        ensureRunning();
+    }
+
+    /**
+     * Mark the overlay dirty
+     */
+    public void requestOverlay() {
+        overlayDirty = true;
+        ensureRunning();
+    }
+
+    private void ensureRunning() {
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Run the pending redraw now, if any
+     *
+     * @return True if something was drawn
+     */
+    public boolean flush() {
+        if (fullDirty) {
+            fullDirty = false;
+            overlayDirty = false;
+            fullRedraw.run();
+        } else if (overlayDirty) {
+            overlayDirty = false;
+            overlayRedraw.run();
+        } else {
+            return false;
+        }
+        frameCount++;
+        return true;
+    }
+
+    /**
+     * Forget pending requests after the caller has drawn every layer directly
+     */
+    public void clearPending() {
+        fullDirty = false;
+        overlayDirty = false;
+    }
+
+    /**
+     * Forget a pending overlay request after the caller has drawn the overlay directly
+     */
+    public void clearOverlayPending() {
+        overlayDirty = false;
+    }
+
+    public boolean isPending() {
+        return fullDirty || overlayDirty;
+    }
+
+    /**
+     * Get the number of redraws run by the scheduler
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+}
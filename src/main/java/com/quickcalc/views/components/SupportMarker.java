@@ -4,7 +4,6 @@ import com.quickcalc.models.BeamModel;
 import com.quickcalc.models.Support;
 import com.quickcalc.utils.ViewTransform;
 import com.quickcalc.constants.UIConstants;
-import com.quickcalc.utils.Point2D; // Import Point2D
 
 import javafx.geometry.BoundingBox;
 import javafx.scene.canvas.GraphicsContext;
@@ -20,9 +19,8 @@ public class SupportMarker extends InteractiveElement {
 
     @Override
     public BoundingBox getScreenBounds(ViewTransform viewTransform) {
-        Point2D supportScreenPos = viewTransform.engineeringToScreen(support.getPosition(), 0);
-        double screenX = supportScreenPos.getX();
-        double screenYBase = supportScreenPos.getY();
+        double screenX = viewTransform.toScreenX(support.getPosition());
+        double screenYBase = viewTransform.toScreenY(0);
 
         double markerWidth = UIConstants.SUPPORT_MARKER_WIDTH_PX;
         double markerHeight = UIConstants.SUPPORT_MARKER_HEIGHT_PX;
@@ -26,6 +26,7 @@ public class MouseEventHandler {
     private final ViewTransform viewTransform;
     private final SelectionManager selectionManager;
     private final Runnable redrawCallback;
+    private final Runnable overlayRedrawCallback;
     private final Runnable fitViewCallback;
     private CoordinateUpdateCallback coordinateUpdateCallback;
     
@@ -41,10 +42,23 @@ public class MouseEventHandler {
     public MouseEventHandler(Canvas canvas, ViewTransform viewTransform, 
                            SelectionManager selectionManager, Runnable redrawCallback,
                            Runnable fitViewCallback) {
+        this(canvas, viewTransform, selectionManager, redrawCallback, redrawCallback, fitViewCallback);
+    }
+    
+    /**
+     * Constructor for a layered canvas
+     * 
+     * @param redrawCallback Full redraw, for view changes such as pan and zoom
+     * @param overlayRedrawCallback Overlay-only redraw, for hover and selection changes
+     */
+    public MouseEventHandler(Canvas canvas, ViewTransform viewTransform, 
+                           SelectionManager selectionManager, Runnable redrawCallback,
+                           Runnable overlayRedrawCallback, Runnable fitViewCallback) {
         this.canvas = canvas;
         this.viewTransform = viewTransform;
         this.selectionManager = selectionManager;
         this.redrawCallback = redrawCallback;
+        this.overlayRedrawCallback = overlayRedrawCallback;
         this.fitViewCallback = fitViewCallback;
     }
     
@@ -55,7 +69,7 @@ public class MouseEventHandler {
         boolean hoverChanged = selectionManager.updateHover(event.getX(), event.getY(), 
                                                            interactiveElements, viewTransform);
         if (hoverChanged) {
-            redrawCallback.run(); // Redraw to show/hide highlight
+            overlayRedrawCallback.run(); // Redraw to show/hide highlight
         }
         
         // Update coordinates display
@@ -81,7 +95,7 @@ public class MouseEventHandler {
         } else if (event.isPrimaryButtonDown()) {
             boolean selectionChanged = selectionManager.selectHoveredElement();
             if (selectionChanged) {
-                redrawCallback.run(); // Redraw to show selection changes
+                overlayRedrawCallback.run(); // Redraw to show selection changes
             }
             event.consume();
         }
@@ -1,13 +1,16 @@
 package com.quickcalc.views.components.renderers;
 
 import com.quickcalc.constants.UIConstants;
+import com.quickcalc.models.BeamElementIndex;
 import com.quickcalc.models.BeamModel;
-import com.quickcalc.utils.Point2D;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
 import com.quickcalc.utils.ViewTransform;
 import com.quickcalc.views.components.DimensionLineDrawer;
 import com.quickcalc.views.components.ClickableDimensionText;
 import javafx.scene.canvas.GraphicsContext;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -21,13 +24,16 @@ public class DrawingContext {
     private final MeasurementRenderer measurementRenderer;
     private final DimensionLineDrawer dimensionLineDrawer;
     
-    public DrawingContext(ViewTransform viewTransform, BeamModel beamModel, 
-                         List<ClickableDimensionText> clickableDimensionTexts) {
+    // Supports and loads near the viewport, refilled every frame
+    private final List<Support> visibleSupports = new ArrayList<>();
+    private final List<Load> visibleLoads = new ArrayList<>();
+    
+    public DrawingContext(ViewTransform viewTransform, BeamModel beamModel) {
         this.supportRenderer = new SupportRenderer();
         this.loadRenderer = new LoadRenderer();
         this.gridRenderer = new GridRenderer();
         this.measurementRenderer = new MeasurementRenderer();
-        this.dimensionLineDrawer = new DimensionLineDrawer(viewTransform, beamModel, clickableDimensionTexts);
+        this.dimensionLineDrawer = new DimensionLineDrawer(viewTransform, beamModel);
     }
     
     /**
@@ -40,7 +46,7 @@ public class DrawingContext {
     }
     
     /**
-     * Draw the complete beam visualization
+     * Draw the complete beam visualization onto a single canvas
      */
     public void drawBeam(GraphicsContext gc, BeamModel beamModel, ViewTransform viewTransform,
                         int gridStyle, double canvasWidth, double canvasHeight,
@@ -48,6 +54,17 @@ public class DrawingContext {
                         com.quickcalc.views.components.InteractiveElement hoveredElement,
                         List<com.quickcalc.views.components.InteractiveElement> interactiveElements,
                         DimensionLineDrawer currentDimensionLineDrawer) {
+        drawStaticLayer(gc, beamModel, viewTransform, gridStyle, canvasWidth, canvasHeight, currentDimensionLineDrawer);
+        drawInteractionElements(gc, viewTransform, selectedElement, hoveredElement, currentDimensionLineDrawer);
+    }
+    
+    /**
+     * Draw the layer that only changes with the model or the view: grid, beam,
+     * supports, loads and the permanent dimension lines
+     */
+    public void drawStaticLayer(GraphicsContext gc, BeamModel beamModel, ViewTransform viewTransform,
+                               int gridStyle, double canvasWidth, double canvasHeight,
+                               DimensionLineDrawer currentDimensionLineDrawer) {
         
         // Clear the canvas
         gc.clearRect(0, 0, canvasWidth, canvasHeight);
@@ -55,41 +72,72 @@ public class DrawingContext {
         // Draw grid first (background)
         gridRenderer.drawGrid(gc, gridStyle, viewTransform, canvasWidth, canvasHeight);
         
-        // Draw temporary dimensions for selected or hovered element (before beam and other elements)
-        com.quickcalc.views.components.InteractiveElement elementToDimension = null;
-        if (selectedElement != null) {
-            elementToDimension = selectedElement;
-        } else if (hoveredElement != null) {
-            elementToDimension = hoveredElement;
-        }
-
-        if (elementToDimension != null && currentDimensionLineDrawer != null) {
-            currentDimensionLineDrawer.drawTemporaryElementDimensions(gc, elementToDimension);
-        }
-        
         // Draw the beam centerline
-        Point2D start = viewTransform.engineeringToScreen(0, 0);
-        Point2D end = viewTransform.engineeringToScreen(beamModel.getLength(), 0);
-        
+        double beamY = viewTransform.toScreenY(0);
         gc.setStroke(UIConstants.BEAM_COLOR);
         gc.setLineWidth(UIConstants.BEAM_LINE_WIDTH);
-        gc.strokeLine(start.getX(), start.getY(), end.getX(), end.getY());
+        gc.strokeLine(viewTransform.toScreenX(0), beamY, viewTransform.toScreenX(beamModel.getLength()), beamY);
+        
+        // Only supports and loads near the visible part of the beam are drawn
+        double margin = UIConstants.VIEWPORT_CULL_MARGIN_PX / Math.abs(viewTransform.getScaleX());
+        double left = viewTransform.toEngineeringX(0);
+        double right = viewTransform.toEngineeringX(canvasWidth);
+        double minX = Math.min(left, right) - margin;
+        double maxX = Math.max(left, right) + margin;
+        BeamElementIndex index = beamModel.getElementIndex();
+        visibleSupports.clear();
+        visibleLoads.clear();
+        index.findSupports(minX, maxX, visibleSupports);
+        index.findLoads(minX, maxX, visibleLoads);
         
         // Draw supports
-        supportRenderer.drawSupports(gc, beamModel.getSupports(), viewTransform);
+        supportRenderer.drawSupports(gc, visibleSupports, viewTransform);
         
         // Draw loads
-        loadRenderer.drawLoads(gc, beamModel.getLoads(), viewTransform);
+        loadRenderer.drawLoads(gc, visibleLoads, viewTransform);
         
         // Draw dimension lines below the beam
         if (currentDimensionLineDrawer != null) {
             currentDimensionLineDrawer.drawDetailedBottomDimensionLine(gc);
             currentDimensionLineDrawer.drawPermanentBottomDimensionLine(gc);
         }
+    }
+    
+    /**
+     * Draw the transparent overlay above the static layer: temporary dimensions
+     * and highlights for the selected and hovered elements
+     */
+    public void drawOverlay(GraphicsContext gc, ViewTransform viewTransform,
+                           double canvasWidth, double canvasHeight,
+                           com.quickcalc.views.components.InteractiveElement selectedElement,
+                           com.quickcalc.views.components.InteractiveElement hoveredElement,
+                           DimensionLineDrawer currentDimensionLineDrawer) {
+        gc.clearRect(0, 0, canvasWidth, canvasHeight);
+        drawInteractionElements(gc, viewTransform, selectedElement, hoveredElement, currentDimensionLineDrawer);
+    }
+    
+    private void drawInteractionElements(GraphicsContext gc, ViewTransform viewTransform,
+                                         com.quickcalc.views.components.InteractiveElement selectedElement,
+                                         com.quickcalc.views.components.InteractiveElement hoveredElement,
+                                         DimensionLineDrawer currentDimensionLineDrawer) {
+        // Draw temporary dimensions for selected or hovered element
+        com.quickcalc.views.components.InteractiveElement elementToDimension = null;
+        if (selectedElement != null) {
+            elementToDimension = selectedElement;
+        } else if (hoveredElement != null) {
+            elementToDimension = hoveredElement;
+        }
 
-        // Draw highlights for interactive elements (on top of everything except UI elements)
-        for (com.quickcalc.views.components.InteractiveElement element : interactiveElements) {
-            element.drawHighlight(gc, viewTransform);
+        if (elementToDimension != null && currentDimensionLineDrawer != null) {
+            currentDimensionLineDrawer.drawTemporaryElementDimensions(gc, elementToDimension);
+        }
+
+        // Only the selected and hovered elements carry a highlight
+        if (selectedElement != null) {
+            selectedElement.drawHighlight(gc, viewTransform);
+        }
+        if (hoveredElement != null && hoveredElement != selectedElement) {
+            hoveredElement.drawHighlight(gc, viewTransform);
         }
     }
     
@@ -1,12 +1,16 @@
 package com.quickcalc.views.components.renderers;
 
 import com.quickcalc.constants.UIConstants;
-import com.quickcalc.utils.Point2D;
 import com.quickcalc.utils.ViewTransform;
 import javafx.scene.canvas.GraphicsContext;
 
 /**
  * Renderer for drawing grid on the canvas
+ * 
+ * Grid spacing follows the zoom level through 1, 5, 10, 50, 100... ft steps:
+ * the finest step at least GRID_MIN_SPACING_PX apart on screen is drawn as
+ * minor lines and the next step up as major lines, so the number of lines per
+ * frame stays bounded by the canvas size at any zoom.
  */
 public class GridRenderer {
     
@@ -22,38 +26,86 @@ public class GridRenderer {
     public void drawGrid(GraphicsContext gc, int gridStyle, ViewTransform viewTransform, 
                         double canvasWidth, double canvasHeight) {
         // If grid style is set to none, don't draw anything
-        if (gridStyle == UIConstants.GRID_STYLE_NONE) {
+        if (gridStyle != UIConstants.GRID_STYLE_LINES) {
             return;
         }
         
-        // Set grid properties
-        gc.setStroke(UIConstants.GRID_COLOR);
-        gc.setLineWidth(UIConstants.GRID_LINE_WIDTH);
+        double scale = Math.min(Math.abs(viewTransform.getScaleX()), Math.abs(viewTransform.getScaleY()));
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            return;
+        }
+        double minorSpacing = getGridSpacing(scale);
+        double majorSpacing = nextGridSpacing(minorSpacing);
+        int minorPerMajor = (int) Math.round(majorSpacing / minorSpacing);
         
-        // Get the visible area in engineering coordinates
-        Point2D topLeft = viewTransform.screenToEngineering(0, 0);
-        Point2D bottomRight = viewTransform.screenToEngineering(canvasWidth, canvasHeight);
+        // Visible area in engineering coordinates
+        double minX = Math.min(viewTransform.toEngineeringX(0), viewTransform.toEngineeringX(canvasWidth));
+        double maxX = Math.max(viewTransform.toEngineeringX(0), viewTransform.toEngineeringX(canvasWidth));
+        double minY = Math.min(viewTransform.toEngineeringY(0), viewTransform.toEngineeringY(canvasHeight));
+        double maxY = Math.max(viewTransform.toEngineeringY(0), viewTransform.toEngineeringY(canvasHeight));
         
-        // Round to nearest grid lines
-        double startX = Math.floor(topLeft.getX());
-        double endX = Math.ceil(bottomRight.getX());
-        double startY = Math.floor(bottomRight.getY()); // Y is flipped
-        double endY = Math.ceil(topLeft.getY());
+        // Minor lines, skipping those a major line covers
+        gc.setStroke(UIConstants.GRID_COLOR);
+        gc.setLineWidth(UIConstants.GRID_LINE_WIDTH);
+        gc.beginPath();
+        addLines(gc, viewTransform, minorSpacing, minorPerMajor, minX, maxX, minY, maxY, canvasWidth, canvasHeight);
+        gc.stroke();
         
-        if (gridStyle == UIConstants.GRID_STYLE_LINES) {
-            // Draw vertical grid lines (every 1 foot)
-            for (double x = startX; x <= endX; x += UIConstants.GRID_SPACING) {
-                Point2D top = viewTransform.engineeringToScreen(x, endY);
-                Point2D bottom = viewTransform.engineeringToScreen(x, startY);
-                gc.strokeLine(top.getX(), top.getY(), bottom.getX(), bottom.getY());
+        // Major lines
+        gc.setStroke(UIConstants.GRID_MAJOR_COLOR);
+        gc.setLineWidth(UIConstants.GRID_MAJOR_LINE_WIDTH);
+        gc.beginPath();
+        addLines(gc, viewTransform, majorSpacing, 0, minX, maxX, minY, maxY, canvasWidth, canvasHeight);
+        gc.stroke();
+    }
+    
+    /**
+     * Add the vertical and horizontal lines of one grid level to the current path
+     * 
+     * @param skipEvery Skip every line whose index is a multiple of this; 0 to keep all
+     */
+    private void addLines(GraphicsContext gc, ViewTransform viewTransform, double spacing, int skipEvery,
+                          double minX, double maxX, double minY, double maxY,
+                          double canvasWidth, double canvasHeight) {
+        // Integer indices keep the lines on exact multiples of the spacing
+        for (long i = (long) Math.ceil(minX / spacing), last = (long) Math.floor(maxX / spacing); i <= last; i++) {
+            if (skipEvery > 0 && i % skipEvery == 0) {
+                continue;
             }
-            
-            // Draw horizontal grid lines (every 1 foot)
-            for (double y = startY; y <= endY; y += UIConstants.GRID_SPACING) {
-                Point2D left = viewTransform.engineeringToScreen(startX, y);
-                Point2D right = viewTransform.engineeringToScreen(endX, y);
-                gc.strokeLine(left.getX(), left.getY(), right.getX(), right.getY());
+            double screenX = viewTransform.toScreenX(i * spacing);
+            gc.moveTo(screenX, 0);
+            gc.lineTo(screenX, canvasHeight);
+        }
+        for (long i = (long) Math.ceil(minY / spacing), last = (long) Math.floor(maxY / spacing); i <= last; i++) {
+            if (skipEvery > 0 && i % skipEvery == 0) {
+                continue;
             }
+            double screenY = viewTransform.toScreenY(i * spacing);
+            gc.moveTo(0, screenY);
+            gc.lineTo(canvasWidth, screenY);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Get the minor grid spacing for a zoom level
+     * 
+     * @param pixelsPerFoot Current scale in pixels per foot
+     * @return Smallest step of 1, 5, 10, 50, 100... ft at least GRID_MIN_SPACING_PX apart on screen
+     */
+    public static double getGridSpacing(double pixelsPerFoot) {
+        double spacing = UIConstants.GRID_SPACING;
+        while (spacing * pixelsPerFoot < UIConstants.GRID_MIN_SPACING_PX) {
+            spacing = nextGridSpacing(spacing);
+        }
+        return spacing;
+    }
+    
+    /**
+     * Get the grid step after a given one, alternating x5 and x2
+     */
+    private static double nextGridSpacing(double spacing) {
+        double decade = Math.pow(10, Math.floor(Math.log10(spacing / UIConstants.GRID_SPACING) + 1e-9));
+        boolean isDecade = Math.abs(spacing / UIConstants.GRID_SPACING - decade) < 1e-9 * decade;
+        return isDecade ? spacing * 5 : spacing * 2;
+    }
+}
@@ -2,252 +2,456 @@ package com.quickcalc.views.components.renderers;
 
 import com.quickcalc.constants.UIConstants;
 import com.quickcalc.models.Load;
-import com.quickcalc.utils.Point2D;
 import com.quickcalc.utils.ViewTransform;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
+import java.util.Arrays;
+
 /**
  * Renderer for drawing load symbols on the beam
+ *
+ * Loads are gathered into screen coordinates in one pass, then every symbol of
+ * one style is added to a single path and stroked once. Level-of-detail rules
+ * keep dense models cheap: distributed-load arrows are only drawn on screen,
+ * distributed loads narrower than LOAD_COLLAPSE_WIDTH_PX collapse to one arrow,
+ * labels are skipped for loads narrower than LOAD_LABEL_MIN_SPAN_PX or where they
+ * would overlap the previous label, and label strings are formatted only when a
+ * magnitude changes. An instance is not safe for concurrent use.
  */
 public class LoadRenderer {
-    
+
+    private static final double LABEL_PADDING = 2;
+    private static final double LABEL_OFFSET = 5; // Gap between a symbol and its label
+
+    // Moment symbol geometry
+    private static final double MOMENT_SYMBOL_RADIUS = UIConstants.MOMENT_RADIUS * 0.7; // 70% of the original radius
+    private static final double MOMENT_DOT_RADIUS = 3.0;
+    private static final double MOMENT_ARC_EXTENT = 240; // 2/3 of a circle (240°)
+    private static final double[] CLOCKWISE_MOMENT = momentSymbol(true);
+    private static final double[] COUNTERCLOCKWISE_MOMENT = momentSymbol(false);
+
+    private static final int POINT_LABEL = 1;
+    private static final int DISTRIBUTED_LABEL = 2;
+    private static final int MOMENT_LABEL = 3;
+
+    private final TextMetrics textMetrics = TextMetrics.shared();
+    private final LabelCache labelCache = new LabelCache();
+
+    // Loads in screen coordinates, reused between frames
+    private double[] pointX = new double[16];
+    private double[] pointMagnitude = new double[16];
+    private int pointCount;
+    private double[] distributedStartX = new double[16];
+    private double[] distributedEndX = new double[16];
+    private double[] distributedStartMagnitude = new double[16];
+    private double[] distributedEndMagnitude = new double[16];
+    private int distributedCount;
+    private double[] momentX = new double[16];
+    private double[] momentMagnitude = new double[16];
+    private int momentCount;
+
+    // Labels that passed the level-of-detail rules for the current kind
+    private String[] labelText = new String[16];
+    private double[] labelLeft = new double[16];
+    private double[] labelWidth = new double[16];
+    private double[] labelX = new double[16];
+    private int labelCount;
+
     /**
      * Draw all loads for the given beam model
-     * 
+     *
      * @param gc Graphics context
      * @param loads List of loads to draw
      * @param viewTransform View transformation
      */
     public void drawLoads(GraphicsContext gc, java.util.List<Load> loads, ViewTransform viewTransform) {
-        // First draw distributed loads and moments
-        for (Load load : loads) {
-            if (load.getType() != Load.Type.POINT) {
-                Point2D position = viewTransform.engineeringToScreen(load.getPosition(), 0);
-                
-                switch (load.getType()) {
-                    case DISTRIBUTED:
-                        Point2D endPosition = viewTransform.engineeringToScreen(load.getEndPosition(), 0);
-                        drawVaryingLoad(gc, position.getX(), endPosition.getX(), position.getY(), 
-                                      load.getMagnitude(), load.getMagnitudeEnd(), load.getType());
-                        break;
-                    case MOMENT:
-                        drawMoment(gc, position.getX(), position.getY(), load.getMagnitude());
-                        break;
-                    default:
-                        break;
-                }
-            }
-        }
-        
-        // Then draw point loads on top
+        collectLoads(loads, viewTransform);
+        double beamY = viewTransform.toScreenY(0);
+        double canvasWidth = gc.getCanvas().getWidth();
+
+        // Distributed loads and moments first, then point loads on top
+        drawDistributedLoads(gc, beamY, canvasWidth);
+        drawMoments(gc, beamY);
+        drawPointLoads(gc, beamY);
+
+        // Labels over all symbols
+        drawDistributedLabels(gc, beamY);
+        drawMomentLabels(gc, beamY);
+        drawPointLabels(gc, beamY);
+    }
+
+    /**
+     * Transform every load to screen coordinates, sorted into buffers by type
+     */
+    private void collectLoads(java.util.List<Load> loads, ViewTransform viewTransform) {
+        pointCount = 0;
+        distributedCount = 0;
+        momentCount = 0;
         for (Load load : loads) {
-            if (load.getType() == Load.Type.POINT) {
-                Point2D position = viewTransform.engineeringToScreen(load.getPosition(), 0);
-                drawPointLoad(gc, position.getX(), position.getY(), load.getMagnitude());
+            double x = viewTransform.toScreenX(load.getPosition());
+            switch (load.getType()) {
+                case POINT:
+                    if (pointCount == pointX.length) {
+                        pointX = grow(pointX);
+                        pointMagnitude = grow(pointMagnitude);
+                    }
+                    pointX[pointCount] = x;
+                    pointMagnitude[pointCount++] = load.getMagnitude();
+                    break;
+                case DISTRIBUTED:
+                    if (distributedCount == distributedStartX.length) {
+                        distributedStartX = grow(distributedStartX);
+                        distributedEndX = grow(distributedEndX);
+                        distributedStartMagnitude = grow(distributedStartMagnitude);
+                        distributedEndMagnitude = grow(distributedEndMagnitude);
+                    }
+                    distributedStartX[distributedCount] = x;
+                    distributedEndX[distributedCount] = viewTransform.toScreenX(load.getEndPosition());
+                    distributedStartMagnitude[distributedCount] = load.getMagnitude();
+                    distributedEndMagnitude[distributedCount++] = load.getMagnitudeEnd();
+                    break;
+                case MOMENT:
+                    if (momentCount == momentX.length) {
+                        momentX = grow(momentX);
+                        momentMagnitude = grow(momentMagnitude);
+                    }
+                    momentX[momentCount] = x;
+                    momentMagnitude[momentCount++] = load.getMagnitude();
+                    break;
+                default:
+                    break;
             }
         }
     }
-    
+
+    private static double[] grow(double[] array) {
+        return Arrays.copyOf(array, 2 * array.length);
+    }
+
     /**
-     * Draw a point load (downward arrow)
-     * 
-     * @param gc Graphics context
+     * Add a downward arrow to the current path
+     *
      * @param x X-coordinate
+     * @param top Y-coordinate of the tail
+     * @param y Y-coordinate of the tip (beam centerline)
+     * @param headSize Arrow head size
+     */
+    private static void addArrow(GraphicsContext gc, double x, double top, double y, double headSize) {
+        gc.moveTo(x, top);
+        gc.lineTo(x, y);
+        gc.moveTo(x, y);
+        gc.lineTo(x - headSize, y - headSize);
+        gc.moveTo(x, y);
+        gc.lineTo(x + headSize, y - headSize);
+    }
+
+    /**
+     * Draw all point loads (downward arrows) as one path
+     *
+     * @param gc Graphics context
      * @param y Y-coordinate (beam centerline)
-     * @param magnitude Load magnitude
      */
-    private void drawPointLoad(GraphicsContext gc, double x, double y, double magnitude) {
+    private void drawPointLoads(GraphicsContext gc, double y) {
+        if (pointCount == 0) {
+            return;
+        }
         double arrowLength = UIConstants.POINT_LOAD_ARROW_LENGTH;
         double arrowHeadSize = UIConstants.POINT_LOAD_ARROW_HEAD_SIZE;
-        
+
         gc.setStroke(UIConstants.POINT_LOAD_COLOR);
         gc.setLineWidth(UIConstants.POINT_LOAD_LINE_WIDTH);
-        
-        // Draw arrow shaft
-        gc.strokeLine(x, y - arrowLength, x, y);
-        
-        // Draw arrow head
-        gc.strokeLine(x, y, x - arrowHeadSize, y - arrowHeadSize);
-        gc.strokeLine(x, y, x + arrowHeadSize, y - arrowHeadSize);
-        
-        // Draw magnitude text with white background above the arrow
-        String text = String.format("%.1f kip", magnitude);
-        gc.setTextAlign(TextAlignment.CENTER);
-        
-        // Calculate text bounds
-        javafx.scene.text.Text tempText = new javafx.scene.text.Text(text);
-        tempText.setFont(gc.getFont());
-        double textWidth = tempText.getLayoutBounds().getWidth();
-        double textHeight = tempText.getLayoutBounds().getHeight();
-        
-        // Position text above the arrow with some padding
-        double textY = y - arrowLength - 5; // Position above the arrow with 5px padding
-        
-        // Draw white background rectangle
-        double padding = 2;
-        gc.setFill(Color.WHITE);
-        gc.fillRect(x - textWidth/2 - padding, textY - textHeight - padding, 
-                   textWidth + 2*padding, textHeight + 2*padding);
-        
-        // Draw text
-        gc.setFill(UIConstants.POINT_LOAD_COLOR);
-        gc.fillText(text, x, textY);
+        gc.beginPath();
+        for (int i = 0; i < pointCount; i++) {
+            addArrow(gc, pointX[i], y - arrowLength, y, arrowHeadSize);
+        }
+        gc.stroke();
     }
-    
+
     /**
-     * Draw a distributed load (multiple arrows)
-     * 
+     * Draw all distributed loads (outline and arrows) as one path
+     *
      * @param gc Graphics context
-     * @param x1 Start X-coordinate
-     * @param x2 End X-coordinate
      * @param y Y-coordinate (beam centerline)
-     * @param startMagnitude Start magnitude
-     * @param endMagnitude End magnitude
-     * @param loadType Load type
+     * @param canvasWidth Canvas width; arrows beyond it are skipped
      */
-    private void drawVaryingLoad(GraphicsContext gc, double x1, double x2, double y, 
-                               double startMagnitude, double endMagnitude, Load.Type loadType) {
+    private void drawDistributedLoads(GraphicsContext gc, double y, double canvasWidth) {
+        if (distributedCount == 0) {
+            return;
+        }
         double arrowLength = UIConstants.DISTRIBUTED_LOAD_ARROW_LENGTH;
         double arrowHeadSize = UIConstants.DISTRIBUTED_LOAD_ARROW_HEAD_SIZE;
         double spacing = UIConstants.DISTRIBUTED_LOAD_ARROW_SPACING;
-        
+
         gc.setStroke(UIConstants.DISTRIBUTED_LOAD_COLOR);
         gc.setLineWidth(UIConstants.DISTRIBUTED_LOAD_LINE_WIDTH);
+        gc.beginPath();
+        for (int k = 0; k < distributedCount; k++) {
+            double x1 = Math.min(distributedStartX[k], distributedEndX[k]);
+            double x2 = Math.max(distributedStartX[k], distributedEndX[k]);
+            if (x2 < -arrowHeadSize || x1 > canvasWidth + arrowHeadSize) {
+                continue;
+            }
+            double startMagnitude = distributedStartMagnitude[k];
+            double endMagnitude = distributedEndMagnitude[k];
+            if (distributedEndX[k] < distributedStartX[k]) {
+                double tmp = startMagnitude; startMagnitude = endMagnitude; endMagnitude = tmp;
+            }
 
-        // Calculate maximum magnitude for scaling
-        double maxAbsMagnitude = Math.max(Math.abs(startMagnitude), Math.abs(endMagnitude));
-        if (maxAbsMagnitude == 0) maxAbsMagnitude = 1; // Avoid division by zero
-
-        double y1_top = y + (startMagnitude / maxAbsMagnitude) * arrowLength;
-        double y2_top = y + (endMagnitude / maxAbsMagnitude) * arrowLength;
-        
-        // Draw top line of the load shape
-        gc.strokeLine(x1, y1_top, x2, y2_top);
-        
-        // Draw arrows
-        int numArrows = (int) Math.max(2, Math.floor((x2 - x1) / spacing));
-        double step = (x2 - x1) / (numArrows - 1);
-        
-        for (int i = 0; i < numArrows; i++) {
-            double x = x1 + i * step;
-            
-            // Calculate current interpolated top Y for the arrow
-            double currentFraction = (i == numArrows - 1 && numArrows > 1) ? 1.0 : (double)i / (numArrows - 1);
-            if (numArrows == 1) currentFraction = 0.5; // Center if only one arrow
-            double current_y_top = y1_top + (y2_top - y1_top) * currentFraction;
-
-            // Draw arrow shaft
-            gc.strokeLine(x, current_y_top, x, y);
-            
-            // Draw arrow head
-            gc.strokeLine(x, y, x - arrowHeadSize, y - arrowHeadSize);
-            gc.strokeLine(x, y, x + arrowHeadSize, y - arrowHeadSize);
-        }
-        
-        // Draw magnitude text with white background
-        String text;
-        if (startMagnitude == endMagnitude) {
-            text = String.format("%.1f kip/ft", startMagnitude);
-        } else {
-            text = String.format("%.1f to %.1f kip/ft", startMagnitude, endMagnitude);
-        }
-        
-        gc.setTextAlign(TextAlignment.CENTER);
-        
-        // Calculate text bounds
-        javafx.scene.text.Text tempText = new javafx.scene.text.Text(text);
-        tempText.setFont(gc.getFont());
-        double textWidth = tempText.getLayoutBounds().getWidth();
-        double textHeight = tempText.getLayoutBounds().getHeight();
-        double textX = (x1 + x2) / 2;
-        double textY = y - arrowLength - 5;
-        
-        // Draw white background rectangle
-        double padding = 2;
-        gc.setFill(Color.WHITE);
-        gc.fillRect(textX - textWidth/2 - padding, textY - textHeight - padding, 
-                   textWidth + 2*padding, textHeight + 2*padding);
-        
-        // Draw text
-        gc.setFill(UIConstants.DISTRIBUTED_LOAD_COLOR);
-        gc.fillText(text, textX, textY);
+            // Scale arrow tails to the larger magnitude
+            double maxAbsMagnitude = Math.max(Math.abs(startMagnitude), Math.abs(endMagnitude));
+            if (maxAbsMagnitude == 0) maxAbsMagnitude = 1; // Avoid division by zero
+            double y1Top = y + (startMagnitude / maxAbsMagnitude) * arrowLength;
+            double y2Top = y + (endMagnitude / maxAbsMagnitude) * arrowLength;
+
+            if (x2 - x1 < UIConstants.LOAD_COLLAPSE_WIDTH_PX) {
+                // Too narrow to show its shape
+                addArrow(gc, (x1 + x2) / 2, (y1Top + y2Top) / 2, y, arrowHeadSize);
+                continue;
+            }
+
+            // Top line of the load shape
+            gc.moveTo(x1, y1Top);
+            gc.lineTo(x2, y2Top);
+
+            // Arrows at least `spacing` apart, only those on screen
+            double intervals = Math.max(1, Math.floor((x2 - x1) / spacing) - 1);
+            double step = (x2 - x1) / intervals;
+            long first = (long) Math.max(0, Math.ceil((-arrowHeadSize - x1) / step));
+            long last = (long) Math.min(intervals, Math.floor((canvasWidth + arrowHeadSize - x1) / step));
+            for (long i = first; i <= last; i++) {
+                double fraction = i / intervals;
+                addArrow(gc, x1 + i * step, y1Top + (y2Top - y1Top) * fraction, y, arrowHeadSize);
+            }
+        }
+        gc.stroke();
     }
-    
+
     /**
-     * Draw a moment (curved arrow)
-     * 
-     * @param gc Graphics context
-     * @param x X-coordinate
-     * @param y Y-coordinate (beam centerline)
-     * @param magnitude Moment magnitude
+     * Get the offsets of a moment symbol from its center: arc start, arrow tip and
+     * the ends of the two arrow head lines, as x/y pairs
+     *
+     * @param clockwise Direction of the moment
      */
-    private void drawMoment(GraphicsContext gc, double x, double y, double magnitude) {
-        double baseRadius = UIConstants.MOMENT_RADIUS * 0.7; // 70% of the original radius
+    private static double[] momentSymbol(boolean clockwise) {
+        double radius = MOMENT_SYMBOL_RADIUS;
         double arrowHeadSize = UIConstants.MOMENT_ARROW_HEAD_SIZE * 0.8; // Slightly smaller arrow head
-        
-        gc.setStroke(UIConstants.MOMENT_COLOR);
-        gc.setLineWidth(UIConstants.MOMENT_LINE_WIDTH);
-        
-        // Draw position indicator dot at the center of the moment symbol
-        double dotRadius = 3.0;
-        gc.setFill(UIConstants.MOMENT_COLOR);
-        gc.fillOval(x - dotRadius, y - dotRadius, dotRadius * 2, dotRadius * 2);
-        
-        // Determine direction based on sign of magnitude
-        boolean clockwise = magnitude < 0;
-        double arcStartAngle = clockwise ? 30 : 210; // Start at 30° or 210°
-        double arcExtent = 240; // 2/3 of a circle (240°)
-        
-        // Draw arc
-        gc.strokeArc(x - baseRadius, y - baseRadius, 
-                    baseRadius * 2, baseRadius * 2, 
-                    arcStartAngle, arcExtent, 
-                    javafx.scene.shape.ArcType.OPEN);
-
-        // Calculate arrow head position at the end of the arc
-        double endAngle = arcStartAngle + (clockwise ? arcExtent : 0);
-        double arrowAngle = Math.toRadians(endAngle);
-        double arrowX = x + baseRadius * Math.cos(arrowAngle);
-        double arrowY = y - baseRadius * Math.sin(arrowAngle);
-
-        // Calculate arrow head points (tangent to the arc)
+        double arcStartAngle = Math.toRadians(clockwise ? 30 : 210); // Start at 30° or 210°
+
+        // Arrow head at the end of the arc, tangent to it
+        double arrowAngle = arcStartAngle + (clockwise ? Math.toRadians(MOMENT_ARC_EXTENT) : 0);
+        double tipX = radius * Math.cos(arrowAngle);
+        double tipY = -radius * Math.sin(arrowAngle);
         double tangentAngle = arrowAngle + (clockwise ? -Math.PI/2 : Math.PI/2);
         double arrowLength = arrowHeadSize * 1.5;
 
-        // First arrow line (longer, at 30° from tangent)
+        // First arrow line (longer, at 30° from tangent), second (shorter, at 10° from tangent)
         double angle1 = tangentAngle + Math.toRadians(30) * (clockwise ? -1 : 1);
-        gc.strokeLine(arrowX, arrowY, 
-                     arrowX + arrowLength * Math.cos(angle1), 
-                     arrowY - arrowLength * Math.sin(angle1));
-
-        // Second arrow line (shorter, at 10° from tangent)
         double angle2 = tangentAngle + Math.toRadians(10) * (clockwise ? -1 : 1);
-        gc.strokeLine(arrowX, arrowY, 
-                     arrowX + arrowLength * 0.7 * Math.cos(angle2), 
-                     arrowY - arrowLength * 0.7 * Math.sin(angle2));
-        
-        // Draw magnitude text with white background
-        String text = String.format("%.1f kip-ft", Math.abs(magnitude));
+        return new double[] {
+            radius * Math.cos(arcStartAngle), -radius * Math.sin(arcStartAngle),
+            tipX, tipY,
+            tipX + arrowLength * Math.cos(angle1), tipY - arrowLength * Math.sin(angle1),
+            tipX + arrowLength * 0.7 * Math.cos(angle2), tipY - arrowLength * 0.7 * Math.sin(angle2)
+        };
+    }
+
+    /**
+     * Draw all moments (curved arrows), with their position dots as one filled path
+     * and their arcs and arrow heads as one stroked path
+     *
+     * @param gc Graphics context
+     * @param y Y-coordinate (beam centerline)
+     */
+    private void drawMoments(GraphicsContext gc, double y) {
+        if (momentCount == 0) {
+            return;
+        }
+        double radius = MOMENT_SYMBOL_RADIUS;
+
+        // Position indicator dots at the center of the moment symbols
+        gc.setFill(UIConstants.MOMENT_COLOR);
+        gc.beginPath();
+        for (int i = 0; i < momentCount; i++) {
+            gc.moveTo(momentX[i] + MOMENT_DOT_RADIUS, y);
+            gc.arc(momentX[i], y, MOMENT_DOT_RADIUS, MOMENT_DOT_RADIUS, 0, 360);
+            gc.closePath();
+        }
+        gc.fill();
+
+        gc.setStroke(UIConstants.MOMENT_COLOR);
+        gc.setLineWidth(UIConstants.MOMENT_LINE_WIDTH);
+        gc.beginPath();
+        for (int i = 0; i < momentCount; i++) {
+            double x = momentX[i];
+            boolean clockwise = momentMagnitude[i] < 0;
+            double[] symbol = clockwise ? CLOCKWISE_MOMENT : COUNTERCLOCKWISE_MOMENT;
+
+            gc.moveTo(x + symbol[0], y + symbol[1]);
+            gc.arc(x, y, radius, radius, clockwise ? 30 : 210, MOMENT_ARC_EXTENT);
+
+            gc.moveTo(x + symbol[2], y + symbol[3]);
+            gc.lineTo(x + symbol[4], y + symbol[5]);
+            gc.moveTo(x + symbol[2], y + symbol[3]);
+            gc.lineTo(x + symbol[6], y + symbol[7]);
+        }
+        gc.stroke();
+    }
+
+    /**
+     * Queue a label unless it overlaps the previously queued one
+     *
+     * @param text Label text
+     * @param left Left edge of the label background
+     * @param width Width of the label background
+     * @param x Text anchor X-coordinate
+     */
+    private void queueLabel(String text, double left, double width, double x) {
+        if (labelCount > 0) {
+            double previousLeft = labelLeft[labelCount - 1];
+            if (left < previousLeft + labelWidth[labelCount - 1] && left + width > previousLeft) {
+                return;
+            }
+        }
+        if (labelCount == labelText.length) {
+            labelText = Arrays.copyOf(labelText, 2 * labelCount);
+            labelLeft = grow(labelLeft);
+            labelWidth = grow(labelWidth);
+            labelX = grow(labelX);
+        }
+        labelText[labelCount] = text;
+        labelLeft[labelCount] = left;
+        labelWidth[labelCount] = width;
+        labelX[labelCount++] = x;
+    }
+
+    /**
+     * Draw the queued labels on one row: white backgrounds as one path, then the text
+     *
+     * @param gc Graphics context
+     * @param textY Text baseline Y-coordinate
+     * @param textHeight Line height of the current font
+     * @param color Text color
+     */
+    private void flushLabels(GraphicsContext gc, double textY, double textHeight, Color color) {
+        if (labelCount == 0) {
+            return;
+        }
+        double top = textY - textHeight - LABEL_PADDING;
+        double height = textHeight + 2 * LABEL_PADDING;
+        gc.setFill(Color.WHITE);
+        gc.beginPath();
+        for (int i = 0; i < labelCount; i++) {
+            gc.rect(labelLeft[i], top, labelWidth[i], height);
+        }
+        gc.fill();
+
+        gc.setFill(color);
+        for (int i = 0; i < labelCount; i++) {
+            gc.fillText(labelText[i], labelX[i], textY);
+            labelText[i] = null;
+        }
+        labelCount = 0;
+    }
+
+    /**
+     * Draw point load magnitudes above their arrows
+     */
+    private void drawPointLabels(GraphicsContext gc, double y) {
+        Font font = gc.getFont();
+        gc.setTextAlign(TextAlignment.CENTER);
+        for (int i = 0; i < pointCount; i++) {
+            String text = labelCache.get(POINT_LABEL, pointMagnitude[i], 0);
+            double textWidth = textMetrics.width(font, text);
+            queueLabel(text, pointX[i] - textWidth/2 - LABEL_PADDING, textWidth + 2*LABEL_PADDING, pointX[i]);
+        }
+        double textY = y - UIConstants.POINT_LOAD_ARROW_LENGTH - LABEL_OFFSET;
+        flushLabels(gc, textY, textMetrics.height(font), UIConstants.POINT_LOAD_COLOR);
+    }
+
+    /**
+     * Draw distributed load magnitudes above the middle of each load
+     */
+    private void drawDistributedLabels(GraphicsContext gc, double y) {
+        Font font = gc.getFont();
+        gc.setTextAlign(TextAlignment.CENTER);
+        for (int i = 0; i < distributedCount; i++) {
+            double x1 = distributedStartX[i];
+            double x2 = distributedEndX[i];
+            if (Math.abs(x2 - x1) < UIConstants.LOAD_LABEL_MIN_SPAN_PX) {
+                continue;
+            }
+            String text = labelCache.get(DISTRIBUTED_LABEL, distributedStartMagnitude[i], distributedEndMagnitude[i]);
+            double textWidth = textMetrics.width(font, text);
+            double textX = (x1 + x2) / 2;
+            queueLabel(text, textX - textWidth/2 - LABEL_PADDING, textWidth + 2*LABEL_PADDING, textX);
+        }
+        double textY = y - UIConstants.DISTRIBUTED_LOAD_ARROW_LENGTH - LABEL_OFFSET;
+        flushLabels(gc, textY, textMetrics.height(font), UIConstants.DISTRIBUTED_LOAD_COLOR);
+    }
+
+    /**
+     * Draw moment magnitudes to the right of each symbol
+     */
+    private void drawMomentLabels(GraphicsContext gc, double y) {
+        Font font = gc.getFont();
         gc.setTextAlign(TextAlignment.LEFT);
-        
-        // Calculate text bounds
-        javafx.scene.text.Text tempText = new javafx.scene.text.Text(text);
-        tempText.setFont(gc.getFont());
-        double textWidth = tempText.getLayoutBounds().getWidth();
-        double textHeight = tempText.getLayoutBounds().getHeight();
-        double textX = x + baseRadius + 5; // Add some padding from the moment symbol
+        double textHeight = textMetrics.height(font);
+        for (int i = 0; i < momentCount; i++) {
+            String text = labelCache.get(MOMENT_LABEL, momentMagnitude[i], 0);
+            double textWidth = textMetrics.width(font, text);
+            double textX = momentX[i] + MOMENT_SYMBOL_RADIUS + LABEL_OFFSET;
+            queueLabel(text, textX - LABEL_PADDING, textWidth + 2*LABEL_PADDING, textX);
+        }
         double textY = y + textHeight/2; // Vertically center with the moment symbol
-        
-        // Draw white background rectangle
-        double padding = 2;
-        gc.setFill(Color.WHITE);
-        gc.fillRect(textX - padding, textY - textHeight - padding, 
-                   textWidth + 2*padding, textHeight + 2*padding);
-        
-        // Draw text
-        gc.setFill(UIConstants.MOMENT_COLOR);
-        gc.fillText(text, textX, textY);
+        flushLabels(gc, textY, textHeight, UIConstants.MOMENT_COLOR);
+    }
+
+    /**
+     * Direct-mapped cache of formatted labels keyed by the exact magnitudes, so a
+     * label is only formatted when its value changes
+     */
+    private static final class LabelCache {
+
+        private static final int SIZE = 1024; // Power of two
+
+        private final int[] kinds = new int[SIZE]; // 0 marks an empty slot
+        private final long[] firstBits = new long[SIZE];
+        private final long[] secondBits = new long[SIZE];
+        private final String[] texts = new String[SIZE];
+
+        String get(int kind, double first, double second) {
+            long a = Double.doubleToLongBits(first);
+            long b = Double.doubleToLongBits(second);
+            long hash = (a * 0x9E3779B97F4A7C15L) ^ (b * 0xC2B2AE3D27D4EB4FL) ^ kind;
+            int slot = (int) (hash ^ (hash >>> 32)) & (SIZE - 1);
+            if (kinds[slot] == kind && firstBits[slot] == a && secondBits[slot] == b) {
+                return texts[slot];
+            }
+            String text = format(kind, first, second);
+            kinds[slot] = kind;
+            firstBits[slot] = a;
+            secondBits[slot] = b;
+            texts[slot] = text;
+            return text;
+        }
+
+        private static String format(int kind, double first, double second) {
+            switch (kind) {
+                case POINT_LABEL:
+                    return String.format("%.1f kip", first);
+                case DISTRIBUTED_LABEL:
+                    if (first == second) {
+                        return String.format("%.1f kip/ft", first);
+                    }
+                    return String.format("%.1f to %.1f kip/ft", first, second);
+                case MOMENT_LABEL:
+                    return String.format("%.1f kip-ft", Math.abs(first));
+                default:
+                    throw new IllegalArgumentException("Unknown label kind: " + kind);
+            }
+        }
     }
-}
\ No newline at end of file
+}
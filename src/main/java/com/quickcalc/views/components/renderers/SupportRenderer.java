@@ -2,16 +2,39 @@ package com.quickcalc.views.components.renderers;
 
 import com.quickcalc.constants.UIConstants;
 import com.quickcalc.models.Support;
-import com.quickcalc.utils.Point2D;
 import com.quickcalc.utils.ViewTransform;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Renderer for drawing support symbols on the beam
+ * 
+ * Support symbols have a fixed size in pixels, so each type is rasterized once
+ * into a sprite at the window's output scale and stamped with drawImage. The
+ * sprites are rebuilt when the output scale changes, e.g. when the window moves
+ * to a screen with a different DPI. Snapshots need the FX application thread,
+ * so drawing from any other thread falls back to vector drawing.
  */
 public class SupportRenderer {
     
+    // Sprite box around the connection point, large enough for every support type
+    private static final double SPRITE_MARGIN = UIConstants.SUPPORT_LINE_WIDTH + 1;
+    private static final double SPRITE_LEFT = -1.5 * UIConstants.SUPPORT_SIZE - SPRITE_MARGIN;
+    private static final double SPRITE_TOP = -3.0 - SPRITE_MARGIN; // Connection dot radius
+    private static final double SPRITE_WIDTH = -2 * SPRITE_LEFT;
+    private static final double SPRITE_HEIGHT = UIConstants.SUPPORT_SIZE * 0.866 - SPRITE_TOP + SPRITE_MARGIN;
+    
+    private final Map<Support.Type, WritableImage> sprites = new EnumMap<>(Support.Type.class);
+    private double spriteScale = Double.NaN;
+    
     /**
      * Draw all supports for the given beam model
      * 
@@ -20,23 +43,77 @@ public class SupportRenderer {
      * @param viewTransform View transformation
      */
     public void drawSupports(GraphicsContext gc, java.util.List<Support> supports, ViewTransform viewTransform) {
+        double beamY = viewTransform.toScreenY(0);
+        boolean useSprites = Platform.isFxApplicationThread();
+        if (useSprites) {
+            double scale = getOutputScale(gc.getCanvas());
+            if (scale != spriteScale) {
+                invalidateSprites();
+                spriteScale = scale;
+            }
+        }
+        
         for (Support support : supports) {
-            Point2D position = viewTransform.engineeringToScreen(support.getPosition(), 0);
-            
-            switch (support.getType()) {
-                case PINNED:
-                    drawPinnedSupport(gc, position.getX(), position.getY());
-                    break;
-                case ROLLER:
-                    drawRollerSupport(gc, position.getX(), position.getY());
-                    break;
-                case FIXED:
-                    drawFixedSupport(gc, position.getX(), position.getY());
-                    break;
+            double x = viewTransform.toScreenX(support.getPosition());
+            if (useSprites) {
+                drawSprite(gc, support.getType(), x, beamY);
+            } else {
+                drawSupport(gc, support.getType(), x, beamY);
             }
         }
     }
     
+    /**
+     * Discard the rasterized support symbols so they are rebuilt on the next draw
+     */
+    public void invalidateSprites() {
+        sprites.clear();
+    }
+    
+    private void drawSupport(GraphicsContext gc, Support.Type type, double x, double y) {
+        switch (type) {
+            case PINNED:
+                drawPinnedSupport(gc, x, y);
+                break;
+            case ROLLER:
+                drawRollerSupport(gc, x, y);
+                break;
+            case FIXED:
+                drawFixedSupport(gc, x, y);
+                break;
+        }
+    }
+    
+    /**
+     * Stamp the sprite of a support type with its connection point at (x, y)
+     */
+    private void drawSprite(GraphicsContext gc, Support.Type type, double x, double y) {
+        WritableImage sprite = sprites.computeIfAbsent(type, this::rasterize);
+        // Whole device pixels keep the sprite as sharp as it was rasterized
+        double left = Math.round((x + SPRITE_LEFT) * spriteScale) / spriteScale;
+        double top = Math.round((y + SPRITE_TOP) * spriteScale) / spriteScale;
+        gc.drawImage(sprite, left, top, sprite.getWidth() / spriteScale, sprite.getHeight() / spriteScale);
+    }
+    
+    private WritableImage rasterize(Support.Type type) {
+        Canvas canvas = new Canvas(Math.ceil(SPRITE_WIDTH * spriteScale), Math.ceil(SPRITE_HEIGHT * spriteScale));
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.scale(spriteScale, spriteScale);
+        drawSupport(gc, type, -SPRITE_LEFT, -SPRITE_TOP);
+        
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+    
+    private static double getOutputScale(Canvas canvas) {
+        Scene scene = canvas.getScene();
+        if (scene == null || scene.getWindow() == null) {
+            return 1.0;
+        }
+        return Math.max(scene.getWindow().getOutputScaleX(), scene.getWindow().getOutputScaleY());
+    }
+    
     /**
      * Draw a pinned support (triangle)
      * 
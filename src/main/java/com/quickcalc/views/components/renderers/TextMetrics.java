@@ -0,0 +1,135 @@
+package com.quickcalc.views.components.renderers;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Label measurement for canvas renderers without creating Text nodes per draw.
+ *
+ * Each font gets a table of glyph advance widths, filled lazily by measuring a
+ * character once, and its single-line height, measured once. A string's width
+ * is the sum of its advances, and the most recently used strings are kept in a
+ * small LRU cache per font. Text nodes are only created the first time a font
+ * or character is seen, so steady-state frames allocate nothing here.
+ * Methods are synchronized because the warm-up thread renders offscreen while
+ * the FX thread draws.
+ */
+public final class TextMetrics {
+
+    public static final int DEFAULT_CAPACITY = 512;
+
+    // Characters below this code point use the flat advance table
+    private static final int TABLE_SIZE = 256;
+
+    private static final TextMetrics SHARED = new TextMetrics(DEFAULT_CAPACITY);
+
+    /**
+     * Measurements for one font
+     */
+    private static final class FontMetrics {
+        final Font font;
+        final double height;
+        final double[] advances = new double[TABLE_SIZE];
+        final Map<Character, Double> otherAdvances = new HashMap<>();
+        final LinkedHashMap<String, Double> widths;
+
+        FontMetrics(Font font, int capacity) {
+            this.font = font;
+            this.height = measure(font, "Mg").getLayoutBounds().getHeight();
+            java.util.Arrays.fill(advances, Double.NaN);
+            this.widths = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        double advance(char c) {
+            if (c < TABLE_SIZE) {
+                double advance = advances[c];
+                if (Double.isNaN(advance)) {
+                    advance = measureAdvance(c);
+                    advances[c] = advance;
+                }
+                return advance;
+            }
+            return otherAdvances.computeIfAbsent(c, this::measureAdvance);
+        }
+
+        private double measureAdvance(char c) {
+            return measure(font, String.valueOf(c)).getLayoutBounds().getWidth();
+        }
+    }
+
+    private final int capacity;
+    private final Map<Font, FontMetrics> fonts = new HashMap<>();
+    private FontMetrics lastFont; // Renderers draw runs of labels in one font
+
+    /**
+     * Constructor
+     *
+     * @param capacity Number of measured strings kept per font
+     */
+    public TextMetrics(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get the instance shared by all renderers
+     */
+    public static TextMetrics shared() {
+        return SHARED;
+    }
+
+    /**
+     * Get the width of a single-line label
+     *
+     * @param font Font the label is drawn in
+     * @param text Label text
+     * @return Width in pixels
+     */
+    public synchronized double width(Font font, String text) {
+        FontMetrics metrics = metrics(font);
+        Double cached = metrics.widths.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        double width = 0.0;
+        for (int i = 0; i < text.length(); i++) {
+            width += metrics.advance(text.charAt(i));
+        }
+        metrics.widths.put(text, width);
+        return width;
+    }
+
+    /**
+     * Get the height of a single line of text
+     *
+     * @param font Font the text is drawn in
+     * @return Line height in pixels
+     */
+    public synchronized double height(Font font) {
+        return metrics(font).height;
+    }
+
+    private FontMetrics metrics(Font font) {
+        FontMetrics metrics = lastFont;
+        if (metrics != null && metrics.font.equals(font)) {
+            return metrics;
+        }
+        metrics = fonts.computeIfAbsent(font, f -> new FontMetrics(f, capacity));
+        lastFont = metrics;
+        return metrics;
+    }
+
+    private static Text measure(Font font, String text) {
+        Text node = new Text(text);
+        node.setFont(font);
+        return node;
+    }
+}
\ No newline at end of file
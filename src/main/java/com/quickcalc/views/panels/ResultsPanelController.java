@@ -9,6 +9,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
+import com.quickcalc.analysis.AnalysisResult;
+import com.quickcalc.utils.DimensionFormatter;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -321,18 +325,55 @@ public class ResultsPanelController {
         resultsTabPane.getSelectionModel().select(resultsTableTab);
     }
     
+    /**
+     * Show a completed analysis: table rows at mesh nodes, summary values and all three diagrams
+     */
+    public void showAnalysisResult(AnalysisResult result) {
+        List<ResultRow> rows = new ArrayList<>(result.getNodeCount());
+        List<Double> nodePositions = new ArrayList<>(result.getNodeCount());
+        List<Double> deflections = new ArrayList<>(result.getNodeCount());
+        for (int i = 0; i < result.getNodeCount(); i++) {
+            double x = result.getNodePosition(i);
+            rows.add(new ResultRow(DimensionFormatter.formatDimension(x),
+                result.getShearAt(x), result.getMomentAt(x), result.getDeflection(i)));
+            nodePositions.add(x);
+            deflections.add(result.getDeflection(i));
+        }
+        
+        List<Double> stationPositions = new ArrayList<>(result.getStationCount());
+        List<Double> shear = new ArrayList<>(result.getStationCount());
+        List<Double> moment = new ArrayList<>(result.getStationCount());
+        for (int i = 0; i < result.getStationCount(); i++) {
+            stationPositions.add(result.getStationPosition(i));
+            shear.add(result.getShear(i));
+            moment.add(result.getMoment(i));
+        }
+        
+        updateResults(rows, result.getSummary());
+        updateShearDiagram(stationPositions, shear);
+        updateMomentDiagram(stationPositions, moment);
+        updateDeflectionChart(nodePositions, deflections);
+    }
+    
+    /**
+     * Update the analysis status message
+     */
+    public void setAnalysisStatus(String status) {
+        analysisStatusLabel.setText(status);
+    }
+    
     /**
      * Update shear diagram
      */
     public void updateShearDiagram(List<Double> positions, List<Double> shearValues) {
-        drawDiagram(shearDiagramCanvas, positions, shearValues, "Shear Force", "lbs", Color.BLUE);
+        drawDiagram(shearDiagramCanvas, positions, shearValues, "Shear Force", "kips", Color.BLUE);
     }
     
     /**
      * Update moment diagram
      */
     public void updateMomentDiagram(List<Double> positions, List<Double> momentValues) {
-        drawDiagram(momentDiagramCanvas, positions, momentValues, "Bending Moment", "lb-ft", Color.RED);
+        drawDiagram(momentDiagramCanvas, positions, momentValues, "Bending Moment", "kip-ft", Color.RED);
     }
     
     /**
@@ -533,4 +574,4 @@ public class ResultsPanelController {
         alert.setContentText(message);
         alert.showAndWait();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -11,7 +11,16 @@ module com.quickcalc {
     exports com.quickcalc;
     exports com.quickcalc.controllers;
     exports com.quickcalc.models;
+    exports com.quickcalc.analysis;
+    exports com.quickcalc.analysis.fatigue;
     exports com.quickcalc.utils;
     exports com.quickcalc.constants;
     exports com.quickcalc.views.components;
+    
+    uses com.quickcalc.analysis.AnalysisEngine;
+    provides com.quickcalc.analysis.AnalysisEngine with
+        com.quickcalc.analysis.FeaEngine,
+        com.quickcalc.analysis.ProgressiveEngine,
+        com.quickcalc.analysis.PDeltaEngine,
+        com.quickcalc.analysis.HetenyiEngine;
 }
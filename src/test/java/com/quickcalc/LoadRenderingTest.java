@@ -10,6 +10,7 @@ import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.control.Button;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
@@ -40,11 +41,12 @@ public class LoadRenderingTest extends Application {
         beamCanvas = new BeamCanvas(800, 400);
         beamCanvas.setBeamModel(beamModel);
         
-        // Add the canvas to the container with growth constraints
-        canvasContainer.getChildren().add(beamCanvas);
-        VBox.setVgrow(beamCanvas, Priority.ALWAYS);
-        beamCanvas.widthProperty().bind(canvasContainer.widthProperty());
-        beamCanvas.heightProperty().bind(canvasContainer.heightProperty());
+        // Stack the canvas and its overlay in a pane that grows with the container
+        Pane canvasLayers = new Pane(beamCanvas, beamCanvas.getOverlayCanvas());
+        canvasContainer.getChildren().add(canvasLayers);
+        VBox.setVgrow(canvasLayers, Priority.ALWAYS);
+        beamCanvas.widthProperty().bind(canvasLayers.widthProperty());
+        beamCanvas.heightProperty().bind(canvasLayers.heightProperty());
         
         // Create buttons for adding different types of loads
         Button addPointLoadBtn = new Button("Add Point Load");
@@ -0,0 +1,225 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Simple test class to verify ModelFingerprint, AnalysisResultCache and DiskResultCache
+ * Note: This is a basic test without JUnit framework
+ */
+public class AnalysisResultCacheTest {
+
+    public static void main(String[] args) throws IOException {
+        AnalysisResultCacheTest test = new AnalysisResultCacheTest();
+        test.runTests();
+    }
+
+    public void runTests() throws IOException {
+        System.out.println("=== AnalysisResultCache Tests ===");
+
+        testFingerprintIgnoresOrder();
+        testFingerprintDetectsChanges();
+        testUndoHitsCache();
+        testEvictsLeastRecentlyUsed();
+        testDiskRoundTrip();
+        testDiskEvictsOldestAccess();
+        testDiskDiscardsOtherSolverVersions();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static BeamModel beam(boolean reversed) {
+        BeamModel beam = new BeamModel(20.0);
+        beam.getSupports().clear();
+        Support left = new Support(0.0, Support.Type.PINNED);
+        Support right = new Support(20.0, Support.Type.ROLLER);
+        Load point = new Load(8.0, -10.0, Load.Type.POINT);
+        Load udl = new Load(0.0, 20.0, -1.0);
+        if (reversed) {
+            beam.addSupport(right);
+            beam.addSupport(left);
+            beam.addLoad(udl);
+            beam.addLoad(point);
+        } else {
+            beam.addSupport(left);
+            beam.addSupport(right);
+            beam.addLoad(point);
+            beam.addLoad(udl);
+        }
+        return beam;
+    }
+
+    private void testFingerprintIgnoresOrder() {
+        System.out.println("Testing fingerprint order independence...");
+
+        assert ModelFingerprint.of(beam(false)).equals(ModelFingerprint.of(beam(true)))
+            : "Element order should not change the fingerprint";
+        assert ModelFingerprint.of(beam(false)).equals(ModelFingerprint.of(beam(false).copy()))
+            : "A copy should have the same fingerprint";
+
+        System.out.println("✓ Fingerprint order test passed");
+    }
+
+    private void testFingerprintDetectsChanges() {
+        System.out.println("Testing fingerprint sensitivity...");
+
+        ModelFingerprint base = ModelFingerprint.of(beam(false));
+        BeamModel moved = beam(false);
+        moved.getLoads().get(0).setPosition(8.001);
+        BeamModel retyped = beam(false);
+        retyped.getSupports().get(1).setType(Support.Type.FIXED);
+        BeamModel resized = beam(false);
+        resized.setSection("W12x26");
+
+        assert !base.equals(ModelFingerprint.of(moved)) : "Moving a load should change the fingerprint";
+        assert !base.equals(ModelFingerprint.of(retyped)) : "Changing a support type should change the fingerprint";
+        assert !base.equals(ModelFingerprint.of(resized)) : "Changing the section should change the fingerprint";
+
+        System.out.println("✓ Fingerprint sensitivity test passed");
+    }
+
+    private void testUndoHitsCache() {
+        System.out.println("Testing cache hit after undo...");
+
+        AnalysisResultCache cache = new AnalysisResultCache(AnalysisResultCache.DEFAULT_MAX_BYTES);
+        BeamModel original = beam(false);
+        cache.put(ModelFingerprint.of(original), new FeaBeamSolver().solve(original));
+
+        BeamModel edited = original.copy();
+        edited.getLoads().get(0).setMagnitude(-20.0);
+        assert cache.get(edited) == null : "Edited model should miss";
+
+        // Same state as the original, built in a different order
+        AnalysisResult hit = cache.get(beam(true));
+        assert hit != null : "Returning to the original state should hit";
+        assert hit.getSupportPosition(0) == 20.0 : "Reactions should follow the requesting model's support order";
+        assert cache.getHitCount() == 1 && cache.getMissCount() == 1 : "Counters should record one hit and one miss";
+
+        System.out.println("✓ Undo cache hit test passed");
+    }
+
+    private void testEvictsLeastRecentlyUsed() {
+        System.out.println("Testing LRU eviction...");
+
+        FeaBeamSolver solver = new FeaBeamSolver();
+        BeamModel[] models = new BeamModel[3];
+        AnalysisResult[] results = new AnalysisResult[3];
+        for (int i = 0; i < 3; i++) {
+            models[i] = beam(false);
+            models[i].getLoads().get(0).setPosition(5.0 + i);
+            results[i] = solver.solve(models[i]);
+        }
+        // Room for two results but not three
+        long largest = 0;
+        for (AnalysisResult result : results) {
+            largest = Math.max(largest, result.getEstimatedSizeBytes());
+        }
+        long limit = 2 * largest;
+        AnalysisResultCache cache = new AnalysisResultCache(limit);
+        cache.put(ModelFingerprint.of(models[0]), results[0]);
+        cache.put(ModelFingerprint.of(models[1]), results[1]);
+        cache.get(models[0]); // Touch the first so the second is eldest
+        cache.put(ModelFingerprint.of(models[2]), results[2]);
+
+        assert cache.size() == 2 : "Cache should hold two results";
+        assert cache.get(models[0]) != null : "Recently used entry should survive";
+        assert cache.get(models[1]) == null : "Least recently used entry should be evicted";
+        assert cache.getEvictionCount() == 1 : "One eviction should be counted";
+        assert cache.getSizeBytes() <= limit : "Size should stay within the limit";
+
+        System.out.println("✓ LRU eviction test passed");
+    }
+
+    private static Path tempCacheDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("quickcalc-cache-test");
+        directory.toFile().deleteOnExit();
+        return directory;
+    }
+
+    private void testDiskRoundTrip() throws IOException {
+        System.out.println("Testing disk cache round trip...");
+
+        BeamModel model = beam(false);
+        AnalysisResult result = new FeaBeamSolver().solve(model);
+        ModelFingerprint fingerprint = ModelFingerprint.of(model);
+        DiskResultCache cache = new DiskResultCache(tempCacheDirectory(), DiskResultCache.DEFAULT_MAX_BYTES);
+
+        assert cache.get(fingerprint) == null : "Empty cache should miss";
+        cache.put(fingerprint, result);
+        // A fresh instance reads what the previous session wrote
+        DiskResultCache reopened = new DiskResultCache(cache.getDirectory(), DiskResultCache.DEFAULT_MAX_BYTES);
+        AnalysisResult stored = reopened.get(fingerprint);
+
+        assert stored != null : "Stored result should be found";
+        assert stored.getNodeCount() == result.getNodeCount() : "Node count should survive encoding";
+        assert stored.getMaxDeflection() == result.getMaxDeflection() : "Deflections should be bit-exact";
+        assert stored.getMaxMoment() == result.getMaxMoment() : "Moments should be bit-exact";
+        assert stored.getReactionForce(1) == result.getReactionForce(1) : "Reactions should be bit-exact";
+
+        Files.write(cache.getDirectory().resolve(fingerprint + ".qcr"), new byte[] {1, 2, 3});
+        assert reopened.get(fingerprint) == null : "Corrupt file should be treated as a miss";
+        cache.clear();
+
+        System.out.println("✓ Disk round trip test passed");
+    }
+
+    private void testDiskEvictsOldestAccess() throws IOException {
+        System.out.println("Testing disk cache eviction...");
+
+        FeaBeamSolver solver = new FeaBeamSolver();
+        BeamModel[] models = new BeamModel[3];
+        AnalysisResult[] results = new AnalysisResult[3];
+        for (int i = 0; i < 3; i++) {
+            models[i] = beam(false);
+            models[i].getLoads().get(0).setPosition(5.0 + i);
+            results[i] = solver.solve(models[i]);
+        }
+        Path directory = tempCacheDirectory();
+        DiskResultCache sizing = new DiskResultCache(directory, DiskResultCache.DEFAULT_MAX_BYTES);
+        sizing.put(ModelFingerprint.of(models[0]), results[0]);
+        long fileSize = sizing.getSizeBytes();
+        sizing.clear();
+
+        DiskResultCache cache = new DiskResultCache(directory, 2 * fileSize + fileSize / 2);
+        ModelFingerprint first = ModelFingerprint.of(models[0]);
+        ModelFingerprint second = ModelFingerprint.of(models[1]);
+        cache.put(first, results[0]);
+        cache.put(second, results[1]);
+        // Age both files, then read the first so the second is least recently accessed
+        Files.setLastModifiedTime(directory.resolve(first + ".qcr"), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(directory.resolve(second + ".qcr"), FileTime.fromMillis(2000));
+        cache.get(first);
+        cache.put(ModelFingerprint.of(models[2]), results[2]);
+
+        assert cache.get(first) != null : "Recently read result should survive";
+        assert cache.get(second) == null : "Least recently accessed result should be evicted";
+        assert cache.getSizeBytes() <= cache.getMaxBytes() : "Directory should stay within the cap";
+        cache.clear();
+
+        System.out.println("✓ Disk eviction test passed");
+    }
+
+    private void testDiskDiscardsOtherSolverVersions() throws IOException {
+        System.out.println("Testing disk cache solver versioning...");
+
+        BeamModel model = beam(false);
+        ModelFingerprint fingerprint = ModelFingerprint.of(model);
+        Path directory = tempCacheDirectory();
+        DiskResultCache older = new DiskResultCache(directory, DiskResultCache.DEFAULT_MAX_BYTES, 1);
+        older.put(fingerprint, new FeaBeamSolver().solve(model));
+        assert older.get(fingerprint) != null : "Same solver version should hit";
+
+        DiskResultCache newer = new DiskResultCache(directory, DiskResultCache.DEFAULT_MAX_BYTES, 2);
+        assert newer.get(fingerprint) == null : "Result from another solver version should miss";
+        assert !Files.exists(directory.resolve(fingerprint + ".qcr")) : "Stale result should be deleted";
+        assert older.get(fingerprint) == null : "Deleted result should miss for every version";
+
+        System.out.println("✓ Disk solver versioning test passed");
+    }
+}
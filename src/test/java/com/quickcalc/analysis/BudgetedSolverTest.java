@@ -0,0 +1,85 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+/**
+ * Simple test class to verify BudgetedSolver against closed-form beam solutions
+ * Note: This is a basic test without JUnit framework
+ */
+public class BudgetedSolverTest {
+
+    private static final double EI = 29000.0 * 53.8; // Steel W10x12 in kip-in²
+    private static final int REPEATS = 40;
+
+    public static void main(String[] args) {
+        BudgetedSolverTest test = new BudgetedSolverTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== BudgetedSolver Tests ===");
+
+        testRepeatedSolvesStayAccurate();
+        testTightBudgetStillAnswers();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static boolean close(double actual, double expected, double relativeTolerance) {
+        return Math.abs(actual - expected) <= relativeTolerance * Math.max(1.0, Math.abs(expected));
+    }
+
+    private static BeamModel simpleBeam(double length) {
+        BeamModel beam = new BeamModel(length);
+        beam.getSupports().clear();
+        beam.addSupport(new Support(0.0, Support.Type.PINNED));
+        beam.addSupport(new Support(length, Support.Type.ROLLER));
+        return beam;
+    }
+
+    private void testRepeatedSolvesStayAccurate() {
+        System.out.println("Testing repeated budgeted solves as the cost model warms up...");
+
+        BeamModel beam = simpleBeam(30.0);
+        beam.addLoad(new Load(15.0, -10.0, Load.Type.POINT));
+        double expectedDeflection = -10.0 * Math.pow(360.0, 3) / (48.0 * EI);
+
+        // A private cost model, so the calibration follows these solves only
+        BudgetedSolver solver = new BudgetedSolver(new FeaBeamSolver(), new SolveCostModel());
+        long[] budgets = {2_000_000L, 20_000_000L, 200_000_000L};
+        for (int i = 0; i < REPEATS; i++) {
+            for (long budget : budgets) {
+                BudgetedResult result;
+                try {
+                    result = solver.solve(beam, budget);
+                } catch (RuntimeException e) {
+                    throw new AssertionError("Budgeted solve " + i + " threw on a stable beam: " + e.getMessage(), e);
+                }
+                assert result.getElementCount() <= BudgetedSolver.MAX_ELEMENTS + 2 : "Mesh should stay within the accurate size";
+                assert close(result.getResult().getMaxDeflection(), expectedDeflection, 1e-3)
+                    : "Deflection should be PL³/48EI, got " + result.getResult().getMaxDeflection();
+                double error = result.getEstimatedRelativeError();
+                assert Double.isNaN(error) || error < 1e-3 : "Accuracy estimate should stay small, got " + error;
+            }
+        }
+
+        System.out.println("✓ Repeated budgeted solve tests passed");
+    }
+
+    private void testTightBudgetStillAnswers() {
+        System.out.println("Testing a budget too small for any mesh...");
+
+        BeamModel beam = simpleBeam(20.0);
+        beam.addLoad(new Load(10.0, -10.0, Load.Type.POINT));
+        BudgetedResult result = new BudgetedSolver(new FeaBeamSolver(), new SolveCostModel()).solve(beam, 1L);
+
+        double expectedDeflection = -10.0 * Math.pow(240.0, 3) / (48.0 * EI);
+        assert result.getElementCount() >= 1 : "Coarsest mesh should still be solved";
+        assert close(result.getResult().getMaxDeflection(), expectedDeflection, 1e-6)
+            : "Point load at a node should be exact on any mesh";
+
+        System.out.println("✓ Tight budget test passed");
+    }
+}
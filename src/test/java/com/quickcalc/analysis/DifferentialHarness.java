@@ -0,0 +1,515 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Differential accuracy and speed harness: FeaBeamSolver against BeamAnalyzer
+ * in backend/fea.py.
+ *
+ * Random beams are generated from a seed and solved by both engines on the same
+ * mesh. The Python engine runs locally as one subprocess (src/test/python/fea_driver.py)
+ * reading the cases as JSON on stdin. Reactions, maximum deflection and nodal
+ * deflections are compared within a tolerance, and latency and throughput are
+ * reported per engine and mesh size.
+ *
+ * Known differences in fea.py: loads and displacements are positive downward
+ * (converted here), and concentrated moments are not supported and are added
+ * by the driver. Its fixed-end moments of uniform loads are 12x too small and
+ * those of trapezoidal loads are simplified, so cases with distributed loads
+ * are listed as known discrepancies with their largest error and are not held
+ * to the tolerance.
+ *
+ * Usage: DifferentialHarness [seed] [cases per size]
+ * System properties: quickcalc.python (interpreter, default python3),
+ * quickcalc.root (repository root, default the working directory),
+ * quickcalc.compare (false to report only the Java timings, default true).
+ * Exits with status 1 if any case disagrees, or if the comparison was requested
+ * but the interpreter or numpy is unavailable.
+ */
+public class DifferentialHarness {
+
+    private static final int[] MESH_SIZES = {40, 160, 640};
+    private static final double TOLERANCE = 0.01; // Relative to the largest value of each quantity
+    private static final int JAVA_WARMUP_ROUNDS = 20;
+    private static final int JAVA_TIMED_ROUNDS = 20;
+    private static final String[] SECTIONS = {"W8x10", "W10x12", "W12x26", "W16x26", "W21x44"};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 42L;
+        int casesPerSize = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        boolean comparePython = Boolean.parseBoolean(System.getProperty("quickcalc.compare", "true"));
+
+        DifferentialHarness harness = new DifferentialHarness();
+        int failures = harness.run(seed, casesPerSize, comparePython);
+        if (failures > 0) {
+            System.err.println(failures + " case(s) disagree beyond tolerance or were not compared");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * A generated beam and the mesh both engines use
+     */
+    private static final class Case {
+        final String id;
+        final int meshSize;
+        final BeamModel model;
+        final double[] nodes;
+        AnalysisResult javaResult;
+        long javaNanos;
+        PythonResult pythonResult;
+
+        Case(String id, int meshSize, BeamModel model) {
+            this.id = id;
+            this.meshSize = meshSize;
+            this.model = model;
+            this.nodes = FeaBeamSolver.generateNodePositions(model, meshSize);
+        }
+    }
+
+    /**
+     * Parsed driver output, in fea.py's downward-positive convention
+     */
+    private static final class PythonResult {
+        long nanos;
+        double[] nodes;
+        double[] deflections;
+        final Map<Double, double[]> reactions = new HashMap<>(); // position -> {force, moment kip-in}
+        double maxDeflection;
+        String error;
+    }
+
+    /**
+     * Generate, solve and compare
+     *
+     * @param comparePython False to only time the Java engine
+     * @return Number of cases that disagree, or all of them if the Python engine is unavailable
+     */
+    public int run(long seed, int casesPerSize, boolean comparePython) throws IOException, InterruptedException {
+        List<Case> cases = generate(seed, casesPerSize);
+        runJava(cases);
+        if (!comparePython) {
+            report(cases, false, 0, 0);
+            return 0;
+        }
+        String pythonStatus = runPython(cases);
+
+        int failures = 0;
+        int known = 0;
+        if (pythonStatus == null) {
+            for (Case c : cases) {
+                Disagreement worst = compare(c);
+                if (hasDistributedLoads(c.model) && !Double.isInfinite(worst.error)) {
+                    known++;
+                    System.out.println("KNOWN " + c.id + ": " + worst);
+                } else if (worst.error > TOLERANCE) {
+                    failures++;
+                    System.out.println("MISMATCH " + c.id + ": " + worst);
+                }
+            }
+        } else {
+            // Nothing was verified, so none of the cases count as passing
+            failures = cases.size();
+            System.out.println("Python engine unavailable (" + pythonStatus + "); reporting Java timings only");
+        }
+        report(cases, pythonStatus == null, failures, known);
+        return failures;
+    }
+
+    // ---- Generation ----
+
+    private static List<Case> generate(long seed, int casesPerSize) {
+        Random random = new Random(seed);
+        BeamModel template = new BeamModel(20.0);
+        List<Case> cases = new ArrayList<>();
+        for (int meshSize : MESH_SIZES) {
+            for (int i = 0; i < casesPerSize; i++) {
+                cases.add(new Case(meshSize + "-" + i, meshSize, randomBeam(random, template)));
+            }
+        }
+        return cases;
+    }
+
+    private static double roundHalf(double value) {
+        return Math.round(value * 2.0) / 2.0;
+    }
+
+    private static BeamModel randomBeam(Random random, BeamModel template) {
+        BeamModel beam = template.copy();
+        double length = roundHalf(10.0 + 50.0 * random.nextDouble());
+        beam.setLength(length);
+        beam.setSection(SECTIONS[random.nextInt(SECTIONS.length)]);
+        beam.getSupports().clear();
+
+        switch (random.nextInt(5)) {
+            case 0: // Simple span, possibly with overhangs
+                double left = roundHalf(random.nextDouble() * length * 0.2);
+                double right = roundHalf(length - random.nextDouble() * length * 0.2);
+                beam.addSupport(new Support(left, Support.Type.PINNED));
+                beam.addSupport(new Support(right, Support.Type.ROLLER));
+                break;
+            case 1: // Cantilever
+                beam.addSupport(new Support(random.nextBoolean() ? 0.0 : length, Support.Type.FIXED));
+                break;
+            case 2: // Propped cantilever
+                beam.addSupport(new Support(0.0, Support.Type.FIXED));
+                beam.addSupport(new Support(length, Support.Type.ROLLER));
+                break;
+            case 3: // Fixed-fixed
+                beam.addSupport(new Support(0.0, Support.Type.FIXED));
+                beam.addSupport(new Support(length, Support.Type.FIXED));
+                break;
+            default: // Continuous over two to four spans
+                int spans = 2 + random.nextInt(3);
+                beam.addSupport(new Support(0.0, Support.Type.PINNED));
+                for (int s = 1; s <= spans; s++) {
+                    beam.addSupport(new Support(roundHalf(length * s / spans), Support.Type.ROLLER));
+                }
+                break;
+        }
+
+        int pointLoads = 1 + random.nextInt(4);
+        for (int i = 0; i < pointLoads; i++) {
+            beam.addLoad(new Load(roundHalf(random.nextDouble() * length), -(1.0 + 19.0 * random.nextDouble()),
+                Load.Type.POINT));
+        }
+        int distributedLoads = random.nextInt(3);
+        for (int i = 0; i < distributedLoads; i++) {
+            double a = roundHalf(random.nextDouble() * length);
+            double b = roundHalf(random.nextDouble() * length);
+            if (Math.abs(a - b) < 0.5) {
+                continue;
+            }
+            beam.addLoad(new Load(Math.min(a, b), Math.max(a, b),
+                -(0.2 + 2.8 * random.nextDouble()), -(0.2 + 2.8 * random.nextDouble())));
+        }
+        if (random.nextBoolean()) {
+            double magnitude = (5.0 + 25.0 * random.nextDouble()) * (random.nextBoolean() ? 1.0 : -1.0);
+            beam.addLoad(new Load(roundHalf(random.nextDouble() * length), magnitude, Load.Type.MOMENT));
+        }
+        return beam;
+    }
+
+    // ---- Java engine ----
+
+    private static void runJava(List<Case> cases) {
+        FeaBeamSolver solver = new FeaBeamSolver();
+        for (int round = 0; round < JAVA_WARMUP_ROUNDS; round++) {
+            for (Case c : cases) {
+                solver.solveOnMesh(c.model, c.nodes);
+            }
+        }
+        for (Case c : cases) {
+            long start = System.nanoTime();
+            for (int round = 0; round < JAVA_TIMED_ROUNDS; round++) {
+                c.javaResult = solver.solveOnMesh(c.model, c.nodes);
+            }
+            c.javaNanos = (System.nanoTime() - start) / JAVA_TIMED_ROUNDS;
+        }
+    }
+
+    // ---- Python engine ----
+
+    /**
+     * Run every case through the driver in one subprocess
+     *
+     * @return Null on success, otherwise why the engine is unavailable
+     */
+    private static String runPython(List<Case> cases) throws IOException, InterruptedException {
+        Path root = Paths.get(System.getProperty("quickcalc.root", ".")).toAbsolutePath();
+        Path driver = root.resolve("src/test/python/fea_driver.py");
+        if (!Files.exists(driver)) {
+            return "driver not found at " + driver;
+        }
+
+        ProcessBuilder builder = new ProcessBuilder(System.getProperty("quickcalc.python", "python3"), driver.toString());
+        builder.environment().put("QUICKCALC_ROOT", root.toString());
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        Process process;
+        long start = System.nanoTime();
+        try {
+            process = builder.start();
+        } catch (IOException e) {
+            return e.getMessage();
+        }
+        try (OutputStream in = process.getOutputStream()) {
+            in.write(toJson(cases).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // The driver exited before reading its input (e.g. numpy missing); its status says why
+        }
+
+        Map<String, Case> byId = new HashMap<>();
+        for (Case c : cases) {
+            byId.put(c.id, c);
+        }
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            parse(out, byId);
+        }
+        if (!process.waitFor(10, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            return "driver timed out";
+        }
+        if (process.exitValue() != 0) {
+            return "driver exited with status " + process.exitValue();
+        }
+        System.out.printf(Locale.ROOT, "Python subprocess wall time: %.1f ms for %d cases%n",
+            (System.nanoTime() - start) / 1e6, cases.size());
+        return null;
+    }
+
+    /**
+     * Encode the cases in fea.py's conventions: loads positive downward, and
+     * moments conjugate to its downward-positive rotation (so the sign flips too)
+     */
+    private static String toJson(List<Case> cases) {
+        StringBuilder json = new StringBuilder("[");
+        for (int n = 0; n < cases.size(); n++) {
+            Case c = cases.get(n);
+            BeamModel beam = c.model;
+            if (n > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"").append(c.id).append('"')
+                .append(",\"length\":").append(beam.getLength())
+                .append(",\"E\":").append(SectionProperties.getElasticModulus(beam.getMaterial()))
+                .append(",\"I\":").append(SectionProperties.getMomentOfInertia(beam.getSection()))
+                .append(",\"nodes\":[");
+            for (int i = 0; i < c.nodes.length; i++) {
+                json.append(i > 0 ? "," : "").append(c.nodes[i]);
+            }
+            json.append("],\"supports\":[");
+            List<Support> supports = beam.getSupports();
+            for (int i = 0; i < supports.size(); i++) {
+                json.append(i > 0 ? "," : "")
+                    .append("{\"position\":").append(supports.get(i).getPosition())
+                    .append(",\"type\":\"").append(supports.get(i).getType().name().toLowerCase(Locale.ROOT)).append("\"}");
+            }
+
+            StringBuilder points = new StringBuilder();
+            StringBuilder distributed = new StringBuilder();
+            StringBuilder moments = new StringBuilder();
+            for (Load load : beam.getLoads()) {
+                switch (load.getType()) {
+                    case POINT:
+                        append(points, "{\"position\":" + load.getPosition() + ",\"magnitude\":" + (-load.getMagnitude()) + "}");
+                        break;
+                    case DISTRIBUTED:
+                        append(distributed, "{\"start\":" + load.getPosition() + ",\"end\":" + load.getEndPosition()
+                            + ",\"start_magnitude\":" + (-load.getMagnitude())
+                            + ",\"end_magnitude\":" + (-load.getMagnitudeEnd()) + "}");
+                        break;
+                    case MOMENT:
+                        append(moments, "{\"position\":" + load.getPosition() + ",\"magnitude\":" + (-load.getMagnitude()) + "}");
+                        break;
+                }
+            }
+            json.append("],\"point_loads\":[").append(points)
+                .append("],\"distributed_loads\":[").append(distributed)
+                .append("],\"moment_loads\":[").append(moments).append("]}");
+        }
+        return json.append(']').toString();
+    }
+
+    private static void append(StringBuilder list, String item) {
+        if (list.length() > 0) {
+            list.append(',');
+        }
+        list.append(item);
+    }
+
+    private static void parse(BufferedReader out, Map<String, Case> byId) throws IOException {
+        PythonResult current = null;
+        String line;
+        while ((line = out.readLine()) != null) {
+            String[] parts = line.trim().split("\\s+");
+            switch (parts[0]) {
+                case "CASE":
+                    current = new PythonResult();
+                    byId.get(parts[1]).pythonResult = current;
+                    break;
+                case "ERROR":
+                    PythonResult failed = new PythonResult();
+                    failed.error = line.substring(line.indexOf(parts[1]) + parts[1].length()).trim();
+                    byId.get(parts[1]).pythonResult = failed;
+                    break;
+                case "TIME_NS":
+                    current.nanos = Long.parseLong(parts[1]);
+                    break;
+                case "NODES":
+                    current.nodes = parseDoubles(parts);
+                    break;
+                case "DEFLECTIONS":
+                    current.deflections = parseDoubles(parts);
+                    break;
+                case "REACTION":
+                    current.reactions.put(Double.parseDouble(parts[1]),
+                        new double[] {Double.parseDouble(parts[2]), Double.parseDouble(parts[3])});
+                    break;
+                case "MAX":
+                    current.maxDeflection = Double.parseDouble(parts[1]);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static double[] parseDoubles(String[] parts) {
+        double[] values = new double[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            values[i - 1] = Double.parseDouble(parts[i]);
+        }
+        return values;
+    }
+
+    // ---- Comparison ----
+
+    /**
+     * Largest relative disagreement found in one case
+     */
+    private static final class Disagreement {
+        double error; // Infinite if the case could not be compared
+        String description = "engines agree";
+
+        void offer(double candidate, String format, Object... args) {
+            if (candidate > error) {
+                error = candidate;
+                description = String.format(Locale.ROOT, format, args);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return Double.isInfinite(error)
+                ? description
+                : String.format(Locale.ROOT, "%s (error %.2e)", description, error);
+        }
+    }
+
+    private static boolean hasDistributedLoads(BeamModel model) {
+        for (Load load : model.getLoads()) {
+            if (load.getType() == Load.Type.DISTRIBUTED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compare one case
+     *
+     * @return The largest disagreement between the engines
+     */
+    private static Disagreement compare(Case c) {
+        PythonResult py = c.pythonResult;
+        AnalysisResult java = c.javaResult;
+        Disagreement worst = new Disagreement();
+        if (py == null) {
+            worst.offer(Double.POSITIVE_INFINITY, "no Python result");
+            return worst;
+        }
+        if (py.error != null) {
+            worst.offer(Double.POSITIVE_INFINITY, "Python failed: %s", py.error);
+            return worst;
+        }
+
+        // Reactions, matched by position; fea.py forces are positive down, moments in kip-in
+        double forceScale = 1e-9;
+        double momentScale = 1e-9;
+        for (int i = 0; i < java.getSupportCount(); i++) {
+            forceScale = Math.max(forceScale, Math.abs(java.getReactionForce(i)));
+            momentScale = Math.max(momentScale, Math.abs(java.getReactionMoment(i)));
+        }
+        for (int i = 0; i < java.getSupportCount(); i++) {
+            double[] reaction = findReaction(py, java.getSupportPosition(i));
+            if (reaction == null) {
+                worst.offer(Double.POSITIVE_INFINITY, "no Python reaction at %.2f ft", java.getSupportPosition(i));
+                return worst;
+            }
+            worst.offer(Math.abs(java.getReactionForce(i) + reaction[0]) / forceScale,
+                "reaction at %.2f ft: %.4f vs %.4f kips",
+                java.getSupportPosition(i), java.getReactionForce(i), -reaction[0]);
+            worst.offer(Math.abs(java.getReactionMoment(i) + reaction[1] / 12.0) / Math.max(momentScale, forceScale),
+                "reaction moment at %.2f ft: %.4f vs %.4f kip-ft",
+                java.getSupportPosition(i), java.getReactionMoment(i), -reaction[1] / 12.0);
+        }
+
+        double deflectionScale = Math.max(1e-12, Math.abs(java.getMaxDeflection()));
+        worst.offer(Math.abs(java.getMaxDeflection() + py.maxDeflection) / deflectionScale,
+            "max deflection %.5f vs %.5f in", java.getMaxDeflection(), -py.maxDeflection);
+        for (int i = 0; i < py.nodes.length; i++) {
+            double javaDeflection = java.getDeflectionAt(py.nodes[i]);
+            worst.offer(Math.abs(javaDeflection + py.deflections[i]) / deflectionScale,
+                "deflection at %.2f ft: %.5f vs %.5f in", py.nodes[i], javaDeflection, -py.deflections[i]);
+        }
+        return worst;
+    }
+
+    private static double[] findReaction(PythonResult py, double position) {
+        for (Map.Entry<Double, double[]> entry : py.reactions.entrySet()) {
+            if (Math.abs(entry.getKey() - position) <= FeaBeamSolver.POSITION_TOLERANCE) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    // ---- Reporting ----
+
+    private static void report(List<Case> cases, boolean withPython, int failures, int known) {
+        System.out.println();
+        System.out.println(withPython
+            ? "Elements  Cases  Java mean (us)  Java (cases/s)  Python mean (us)  Python (cases/s)  Speedup"
+            : "Elements  Cases  Java mean (us)  Java (cases/s)");
+        for (int meshSize : MESH_SIZES) {
+            int count = 0;
+            long javaNanos = 0;
+            long pythonNanos = 0;
+            for (Case c : cases) {
+                if (c.meshSize != meshSize) {
+                    continue;
+                }
+                count++;
+                javaNanos += c.javaNanos;
+                if (c.pythonResult != null) {
+                    pythonNanos += c.pythonResult.nanos;
+                }
+            }
+            if (count == 0) {
+                continue;
+            }
+            double javaMean = javaNanos / (double) count;
+            if (withPython) {
+                double pythonMean = pythonNanos / (double) count;
+                System.out.printf(Locale.ROOT, "%8d  %5d  %14.1f  %14.0f  %16.1f  %16.0f  %6.1fx%n",
+                    meshSize, count, javaMean / 1e3, 1e9 / javaMean, pythonMean / 1e3, 1e9 / pythonMean,
+                    pythonMean / javaMean);
+            } else {
+                System.out.printf(Locale.ROOT, "%8d  %5d  %14.1f  %14.0f%n", meshSize, count, javaMean / 1e3, 1e9 / javaMean);
+            }
+        }
+        if (withPython) {
+            System.out.printf(Locale.ROOT, "%nAgreement: %d of %d cases within %.1f%%; %d known discrepancies%n",
+                cases.size() - failures - known, cases.size() - known, TOLERANCE * 100.0, known);
+        }
+    }
+}
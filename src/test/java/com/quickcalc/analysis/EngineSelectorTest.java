@@ -0,0 +1,116 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Simple test class to verify engine discovery, selection and benchmarking
+ * Note: This is a basic test without JUnit framework
+ */
+public class EngineSelectorTest {
+
+    public static void main(String[] args) {
+        EngineSelectorTest test = new EngineSelectorTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== EngineSelector Tests ===");
+
+        testServiceLoaderFindsBuiltIns();
+        testSelectsCheapestCapableEngine();
+        testBenchmarkCalibrates();
+
+        System.out.println("All tests completed!");
+    }
+
+    /**
+     * Engine that handles only point loads and claims to be nearly free
+     */
+    private static final class PointLoadEngine implements AnalysisEngine {
+        @Override
+        public String getName() {
+            return "point-only";
+        }
+
+        @Override
+        public Set<Capability> getCapabilities() {
+            return EnumSet.of(Capability.POINT_LOADS);
+        }
+
+        @Override
+        public AnalysisResult analyze(BeamModel beamModel) {
+            return new FeaBeamSolver().solve(beamModel);
+        }
+
+        @Override
+        public double estimateCost(BeamModel beamModel) {
+            return 1.0;
+        }
+    }
+
+    private void testServiceLoaderFindsBuiltIns() {
+        System.out.println("Testing engine discovery...");
+
+        EngineSelector selector = new EngineSelector();
+        assert selector.getEngine(FeaEngine.NAME) != null : "FEA engine should be discovered";
+        assert selector.getEngine(ProgressiveEngine.NAME) != null : "Progressive engine should be discovered";
+
+        System.out.println("✓ Engine discovery test passed");
+    }
+
+    private void testSelectsCheapestCapableEngine() {
+        System.out.println("Testing engine selection...");
+
+        EngineSelector selector = new EngineSelector(Arrays.asList(
+            new ProgressiveEngine(), new FeaEngine(), new PointLoadEngine()));
+        BeamModel pointOnly = new BeamModel(20.0);
+        pointOnly.addLoad(new Load(10.0, -5.0, Load.Type.POINT));
+        BeamModel withUdl = pointOnly.copy();
+        withUdl.addLoad(new Load(0.0, 20.0, -1.0));
+
+        assert selector.select(pointOnly).getName().equals("point-only") : "Cheapest capable engine should win";
+        assert selector.select(withUdl).getName().equals(FeaEngine.NAME)
+            : "Engine lacking a capability should be skipped, and FEA should beat progressive";
+
+        selector.setCalibration(ProgressiveEngine.NAME, 1e-9);
+        assert selector.select(withUdl).getName().equals(ProgressiveEngine.NAME) : "Calibration should change the choice";
+
+        boolean rejected = false;
+        try {
+            new EngineSelector(Collections.singletonList(new PointLoadEngine())).select(withUdl);
+        } catch (IllegalStateException e) {
+            rejected = true;
+        }
+        assert rejected : "No capable engine should be reported";
+
+        System.out.println("✓ Engine selection test passed");
+    }
+
+    private void testBenchmarkCalibrates() {
+        System.out.println("Testing engine benchmark...");
+
+        EngineSelector selector = new EngineSelector(Arrays.asList(new FeaEngine(), new PointLoadEngine()));
+        List<BeamModel> models = EngineBenchmark.standardModels();
+        Map<String, EngineBenchmark.Measurement> measurements = new EngineBenchmark(models, 5, 10).run(selector);
+
+        EngineBenchmark.Measurement fea = measurements.get(FeaEngine.NAME);
+        assert fea.getAnalyses() == 10L * models.size() : "FEA should analyze every standard model each round";
+        assert fea.getAnalysesPerSecond() > 0.0 : "Throughput should be recorded";
+        assert selector.getCalibration(FeaEngine.NAME) == fea.getCalibration() : "Calibration should be applied";
+        assert measurements.get("point-only").getAnalyses() == 0 : "Unsupported models should be skipped";
+        assert selector.getCalibration("point-only") == 1.0 : "Unmeasured engine should keep the default calibration";
+
+        for (EngineBenchmark.Measurement measurement : measurements.values()) {
+            System.out.println("  " + measurement);
+        }
+        System.out.println("✓ Engine benchmark test passed");
+    }
+}
@@ -0,0 +1,131 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+import java.util.List;
+
+/**
+ * Simple test class to verify FramingSystem scheduling and reaction transfer
+ * Note: This is a basic test without JUnit framework
+ */
+public class FramingSystemTest {
+
+    private static final int GIRDERS = 25;
+    private static final int JOISTS_PER_GIRDER = 19;
+
+    public static void main(String[] args) {
+        FramingSystemTest test = new FramingSystemTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== FramingSystem Tests ===");
+
+        testReactionsTransfer();
+        testOnlyDownstreamReanalyzed();
+        testCycleRejected();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static boolean close(double actual, double expected) {
+        return Math.abs(actual - expected) <= 1e-9 * Math.max(1.0, Math.abs(expected));
+    }
+
+    private static BeamModel simpleBeam(double length) {
+        BeamModel beam = new BeamModel(length);
+        beam.getSupports().clear();
+        beam.addSupport(new Support(0.0, Support.Type.PINNED));
+        beam.addSupport(new Support(length, Support.Type.ROLLER));
+        return beam;
+    }
+
+    /**
+     * 500-beam floor: each 40 ft girder carries 19 joists at 2 ft spacing, each
+     * 20 ft joist carrying 1 kip/ft and bearing on the girder at its right end.
+     */
+    private static FramingSystem floor() {
+        FramingSystem floor = new FramingSystem();
+        for (int g = 0; g < GIRDERS; g++) {
+            String girder = "G" + g;
+            floor.addBeam(girder, simpleBeam(40.0));
+            for (int j = 0; j < JOISTS_PER_GIRDER; j++) {
+                String joist = girder + "J" + j;
+                BeamModel beam = simpleBeam(20.0);
+                beam.addLoad(new Load(0.0, 20.0, -1.0));
+                floor.addBeam(joist, beam);
+                floor.linkReaction(joist, 1, girder, 2.0 * (j + 1));
+            }
+        }
+        return floor;
+    }
+
+    private void testReactionsTransfer() {
+        System.out.println("Testing reaction transfer...");
+
+        FramingSystem floor = floor();
+        List<List<String>> waves = floor.getWaves();
+        assert waves.size() == 2 : "Joists and girders should form two waves";
+        assert waves.get(0).size() == GIRDERS * JOISTS_PER_GIRDER : "All joists should be in the first wave";
+
+        int analyzed = floor.analyze();
+        AnalysisResult girder = floor.getResult("G0");
+        double total = JOISTS_PER_GIRDER * 10.0;
+        assert analyzed == 500 : "First analysis should cover every beam";
+        assert close(girder.getReactionForce(0), total / 2.0) : "Girder should carry half the joist reactions at each end";
+        assert close(girder.getReactionForce(1), total / 2.0) : "Symmetric joist layout should split evenly";
+
+        System.out.println("✓ Reaction transfer test passed");
+    }
+
+    private void testOnlyDownstreamReanalyzed() {
+        System.out.println("Testing incremental re-analysis...");
+
+        FramingSystem floor = floor();
+        floor.analyze();
+        assert floor.analyze() == 0 : "Nothing changed, nothing to analyze";
+
+        long start = System.nanoTime();
+        Load joistLoad = floor.getBeam("G3J4").getLoads().get(0);
+        joistLoad.setMagnitude(-2.0);
+        joistLoad.setMagnitudeEnd(-2.0);
+        floor.beamChanged("G3J4");
+        int analyzed = floor.analyze();
+        long elapsed = System.nanoTime() - start;
+        assert analyzed == 2 : "Load change should re-analyze the joist and its girder only";
+        assert close(floor.getResult("G3").getReactionForce(0) + floor.getResult("G3").getReactionForce(1),
+            JOISTS_PER_GIRDER * 10.0 + 10.0) : "Girder should pick up the heavier joist";
+
+        // A stiffer joist does not change its determinate reactions, so the girder is untouched
+        floor.getBeam("G5J0").setSection("W12x26");
+        floor.beamChanged("G5J0");
+        assert floor.analyze() == 1 : "Unchanged reactions should stop propagation";
+
+        System.out.printf("  Single edit on %d beams re-analyzed in %.2f ms%n",
+            floor.getBeamCount(), elapsed / 1e6);
+        System.out.println("✓ Incremental re-analysis test passed");
+    }
+
+    private void testCycleRejected() {
+        System.out.println("Testing cycle detection...");
+
+        FramingSystem system = new FramingSystem();
+        system.addBeam("A", simpleBeam(20.0));
+        system.addBeam("B", simpleBeam(20.0));
+        system.addBeam("C", simpleBeam(20.0));
+        system.linkReaction("A", 1, "B", 10.0);
+        system.linkReaction("B", 1, "C", 10.0);
+        boolean rejected = false;
+        try {
+            system.linkReaction("C", 0, "A", 5.0);
+        } catch (IllegalArgumentException e) {
+            rejected = e.getMessage().contains("cycle");
+        }
+        assert rejected : "Closing a loop should be rejected";
+        assert system.getWaves().size() == 3 : "Rejected link should leave the graph unchanged";
+
+        System.out.println("✓ Cycle detection test passed");
+    }
+}
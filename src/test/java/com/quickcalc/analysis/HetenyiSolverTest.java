@@ -0,0 +1,119 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.StiffnessSegment;
+import com.quickcalc.models.Support;
+
+/**
+ * Simple test class to verify the closed-form elastic foundation solver
+ * Note: This is a basic test without JUnit framework
+ */
+public class HetenyiSolverTest {
+
+    private static final double SUBGRADE = 2.4; // 100 pci over a 24 in bearing width, in ksi
+
+    public static void main(String[] args) {
+        HetenyiSolverTest test = new HetenyiSolverTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== HetenyiSolver Tests ===");
+
+        testUniformLoadSettlesRigidly();
+        testLongBeamPointLoad();
+        testMatchesFiniteElements();
+        testFallback();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static boolean close(double actual, double expected, double relative) {
+        return Math.abs(actual - expected) <= relative * Math.max(1e-9, Math.abs(expected));
+    }
+
+    private static BeamModel gradeBeam(double length, double modulus) {
+        BeamModel beam = new BeamModel(length);
+        beam.getSupports().clear();
+        beam.setFoundationModulus(modulus);
+        return beam;
+    }
+
+    private void testUniformLoadSettlesRigidly() {
+        System.out.println("Testing uniform load on a free beam...");
+
+        BeamModel beam = gradeBeam(40.0, SUBGRADE);
+        beam.addLoad(new Load(0.0, 40.0, -2.0));
+        assert StabilityChecker.check(beam).isStable() : "A foundation should hold a beam without supports";
+        assert HetenyiSolver.isClosedForm(beam) : "Uniform grade beam should be solved in closed form";
+
+        AnalysisResult result = new HetenyiSolver().solve(beam);
+        double settlement = -2.0 / 12.0 / SUBGRADE;
+        for (double x = 0.0; x <= 40.0; x += 2.5) {
+            assert close(result.getDeflectionAt(x), settlement, 1e-9) : "Full-length load should settle uniformly";
+            assert Math.abs(result.getMomentAt(x)) < 1e-9 : "Uniform settlement should not bend the beam";
+        }
+
+        System.out.println("✓ Uniform load test passed");
+    }
+
+    private void testLongBeamPointLoad() {
+        System.out.println("Testing point load far from the ends...");
+
+        BeamModel beam = gradeBeam(80.0, SUBGRADE);
+        beam.addLoad(new Load(40.0, -10.0, Load.Type.POINT));
+        AnalysisResult result = new HetenyiSolver().solve(beam);
+
+        // Infinite beam: y = Pλ/2k and M = P/4λ under the load
+        double lambda = SectionProperties.getFoundationCharacteristic(beam);
+        assert close(result.getDeflectionAt(40.0), -10.0 * lambda / (2.0 * SUBGRADE), 1e-6) : "Deflection under the load";
+        assert close(result.getMaxMoment(), 10.0 / (4.0 * lambda) / 12.0, 1e-6) : "Sagging moment under the load";
+
+        System.out.println("✓ Long beam point load test passed");
+    }
+
+    private void testMatchesFiniteElements() {
+        System.out.println("Testing agreement with the banded FEA...");
+
+        BeamModel beam = gradeBeam(40.0, 0.5);
+        beam.addSupport(new Support(15.0, Support.Type.FIXED));
+        beam.addSupport(new Support(40.0, Support.Type.ROLLER));
+        Load trapezoid = new Load(5.0, 33.0, -1.0);
+        trapezoid.setMagnitudeEnd(-3.0);
+        beam.addLoad(trapezoid);
+        beam.addLoad(new Load(25.0, 12.0, Load.Type.MOMENT));
+        beam.addLoad(new Load(0.0, -4.0, Load.Type.POINT));
+
+        AnalysisResult closed = new HetenyiSolver().solve(beam);
+        AnalysisResult fea = new FeaBeamSolver().solve(beam, 400);
+        for (double x = 0.0; x <= 40.0; x += 5.0) {
+            assert Math.abs(closed.getDeflectionAt(x) - fea.getDeflectionAt(x)) < 1e-5 : "Deflection at " + x;
+        }
+        for (int s = 0; s < 2; s++) {
+            assert close(closed.getReactionForce(s), fea.getReactionForce(s), 1e-5) : "Reaction " + s;
+            assert close(closed.getReactionMoment(s), fea.getReactionMoment(s), 1e-5) : "Reaction moment " + s;
+        }
+        assert close(closed.getMomentAt(15.0), fea.getMomentAt(15.0), 1e-3) : "Moment over the fixed support";
+
+        System.out.println("✓ FEA agreement test passed");
+    }
+
+    private void testFallback() {
+        System.out.println("Testing finite element fallback...");
+
+        BeamModel beam = gradeBeam(40.0, SUBGRADE);
+        beam.addLoad(new Load(20.0, -10.0, Load.Type.POINT));
+        beam.addStiffnessSegment(new StiffnessSegment(0.0, 10.0, 2.0e6, 2.0e6));
+        assert !HetenyiSolver.isClosedForm(beam) : "Stiffness segments are outside the closed form";
+        AnalysisResult result = new HetenyiSolver().solve(beam);
+        assert close(result.getMaxDeflection(), new FeaBeamSolver().solve(beam).getMaxDeflection(), 1e-12)
+            : "Fallback should match the FEA solver";
+
+        HetenyiEngine engine = new HetenyiEngine();
+        assert engine.supports(beam) : "Engine should accept foundation beams it can fall back on";
+        assert !engine.supports(new BeamModel(20.0)) : "Engine should leave beams without a foundation to others";
+
+        System.out.println("✓ Fallback test passed");
+    }
+}
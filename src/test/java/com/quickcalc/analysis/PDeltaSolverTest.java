@@ -0,0 +1,156 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+/**
+ * Simple test class to verify PDeltaSolver against closed-form beam-column solutions
+ * Note: This is a basic test without JUnit framework
+ */
+public class PDeltaSolverTest {
+
+    public static void main(String[] args) {
+        PDeltaSolverTest test = new PDeltaSolverTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== PDeltaSolver Tests ===");
+
+        testMatchesLinearWithoutAxialLoad();
+        testModerateLoadReusesFactorization();
+        testHighLoadRefactors();
+        testCantileverBaseMoment();
+        testBucklingDetected();
+        testSelectorRoutesAxialModels();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static boolean close(double actual, double expected, double relative) {
+        return Math.abs(actual - expected) <= relative * Math.abs(expected);
+    }
+
+    private static BeamModel simpleBeam(double length, double load) {
+        BeamModel beam = new BeamModel(length);
+        beam.addLoad(new Load(0.0, length, load));
+        return beam;
+    }
+
+    private static double eulerLoad(BeamModel beam, double effectiveLength) {
+        double lengthIn = effectiveLength * 12.0;
+        return Math.PI * Math.PI * SectionProperties.getFlexuralRigidity(beam) / (lengthIn * lengthIn);
+    }
+
+    /**
+     * Exact midspan deflection amplification of a pinned beam-column under uniform load
+     */
+    private static double uniformLoadAmplification(BeamModel beam) {
+        double u = 0.5 * beam.getLength() * 12.0
+            * Math.sqrt(beam.getAxialLoad() / SectionProperties.getFlexuralRigidity(beam));
+        return 12.0 * (2.0 / Math.cos(u) - 2.0 - u * u) / (5.0 * Math.pow(u, 4));
+    }
+
+    private void testMatchesLinearWithoutAxialLoad() {
+        System.out.println("Testing zero axial load...");
+
+        BeamModel beam = simpleBeam(20.0, -1.0);
+        PDeltaResult pDelta = new PDeltaSolver().solve(beam);
+        AnalysisResult linear = new FeaBeamSolver().solve(beam);
+        assert pDelta.getIterations() == 0 : "No axial load should need no iterations";
+        assert pDelta.getDeflectionAmplification() == 1.0 : "No axial load should not amplify";
+        assert close(pDelta.getResult().getMaxMoment(), linear.getMaxMoment(), 1e-12) : "Should match the linear solver";
+
+        System.out.println("✓ Zero axial load test passed");
+    }
+
+    private void testModerateLoadReusesFactorization() {
+        System.out.println("Testing moderate axial load...");
+
+        BeamModel beam = simpleBeam(20.0, -1.0);
+        beam.setAxialLoad(0.3 * eulerLoad(beam, 20.0));
+        PDeltaResult result = new PDeltaSolver().solve(beam, 40);
+        double expected = uniformLoadAmplification(beam);
+        assert result.getRefactorCount() == 0 : "Moderate load should converge on the linear factorization";
+        assert result.getIterations() <= 10 : "Secant extrapolation should converge quickly";
+        assert close(result.getDeflectionAmplification(), expected, 1e-3) : "Deflection amplification should match theory";
+        assert result.getMomentAmplification() > 1.0 : "Compression should amplify the moment";
+        assert close(result.getResult().getReactionForce(0), 10.0, 1e-9) : "Determinate reactions should not change";
+
+        System.out.printf("  P/Pe = 0.3: %d iterations, deflection x%.4f (theory x%.4f), moment x%.4f%n",
+            result.getIterations(), result.getDeflectionAmplification(), expected, result.getMomentAmplification());
+        System.out.println("✓ Moderate axial load test passed");
+    }
+
+    private void testHighLoadRefactors() {
+        System.out.println("Testing high axial load...");
+
+        BeamModel beam = simpleBeam(20.0, -1.0);
+        beam.setAxialLoad(0.8 * eulerLoad(beam, 20.0));
+        PDeltaResult result = new PDeltaSolver().solve(beam, 40);
+        double expected = uniformLoadAmplification(beam);
+        assert result.getRefactorCount() == 1 : "Stalled iteration should refactor once";
+        assert close(result.getDeflectionAmplification(), expected, 1e-3) : "Deflection amplification should match theory";
+
+        BeamModel tension = simpleBeam(20.0, -1.0);
+        tension.setAxialLoad(-0.3 * eulerLoad(tension, 20.0));
+        PDeltaResult stiffened = new PDeltaSolver().solve(tension, 40);
+        assert stiffened.getDeflectionAmplification() < 1.0 : "Tension should reduce deflection";
+
+        System.out.printf("  P/Pe = 0.8: %d iterations, %d refactor, deflection x%.4f (theory x%.4f)%n",
+            result.getIterations(), result.getRefactorCount(), result.getDeflectionAmplification(), expected);
+        System.out.println("✓ High axial load test passed");
+    }
+
+    private void testCantileverBaseMoment() {
+        System.out.println("Testing cantilever beam-column...");
+
+        BeamModel beam = new BeamModel(10.0);
+        beam.getSupports().clear();
+        beam.addSupport(new Support(0.0, Support.Type.FIXED));
+        beam.addLoad(new Load(10.0, -2.0, Load.Type.POINT));
+        beam.setAxialLoad(0.1 * eulerLoad(beam, 20.0));
+
+        // Exact base moment F·tan(kL)/k, with k = sqrt(P/EI)
+        double k = Math.sqrt(beam.getAxialLoad() / SectionProperties.getFlexuralRigidity(beam));
+        double lengthIn = 120.0;
+        double expected = -2.0 * Math.tan(k * lengthIn) / k / 12.0;
+        AnalysisResult result = new PDeltaSolver().solve(beam, 40).getResult();
+        assert close(result.getMaxMoment(), expected, 1e-4) : "Base moment should include P·delta";
+        assert close(result.getReactionMoment(0), -expected, 1e-4) : "Reaction moment should balance the base moment";
+        assert Math.abs(result.getMomentAt(10.0)) < 1e-6 : "Free end should carry no moment";
+
+        System.out.println("✓ Cantilever beam-column test passed");
+    }
+
+    private void testBucklingDetected() {
+        System.out.println("Testing buckling detection...");
+
+        BeamModel beam = simpleBeam(20.0, -1.0);
+        beam.setAxialLoad(1.05 * eulerLoad(beam, 20.0));
+        StabilityReport.Issue issue = null;
+        try {
+            new PDeltaSolver().solve(beam);
+        } catch (UnstableStructureException e) {
+            issue = e.getReport().getIssue();
+        }
+        assert issue == StabilityReport.Issue.AXIAL_BUCKLING : "Load above Pe should be reported as buckling";
+
+        System.out.println("✓ Buckling detection test passed");
+    }
+
+    private void testSelectorRoutesAxialModels() {
+        System.out.println("Testing engine selection for axial loads...");
+
+        EngineSelector selector = new EngineSelector();
+        BeamModel beam = simpleBeam(20.0, -1.0);
+        assert !selector.select(beam).getName().equals(PDeltaEngine.NAME) : "First-order model should use a linear engine";
+        beam.setAxialLoad(10.0);
+        assert selector.select(beam).getName().equals(PDeltaEngine.NAME) : "Axial load should select the P-delta engine";
+        assert !ModelFingerprint.of(beam).equals(ModelFingerprint.of(simpleBeam(20.0, -1.0)))
+            : "Axial load should change the fingerprint";
+
+        System.out.println("✓ Engine selection test passed");
+    }
+}
@@ -0,0 +1,185 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.StiffnessSegment;
+import com.quickcalc.models.Support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Simple test class to verify reactions-only solves against full analyses
+ * Note: This is a basic test without JUnit framework
+ */
+public class ReactionSolverTest {
+
+    public static void main(String[] args) {
+        ReactionSolverTest test = new ReactionSolverTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== ReactionSolver Tests ===");
+
+        testDeterminateByStatics();
+        testIndeterminateMatchesFea();
+        testBatchOfBeams();
+        testUnstableBeamRejected();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static boolean close(double actual, double expected, double relativeTolerance) {
+        return Math.abs(actual - expected) <= relativeTolerance * Math.max(1.0, Math.abs(expected));
+    }
+
+    private static BeamModel beam(double length, Support... supports) {
+        BeamModel beam = new BeamModel(length);
+        beam.getSupports().clear();
+        for (Support support : supports) {
+            beam.addSupport(support);
+        }
+        return beam;
+    }
+
+    private static void addRandomLoads(BeamModel beam, Random random) {
+        double length = beam.getLength();
+        for (int i = 0; i < 4; i++) {
+            double x = random.nextDouble() * length;
+            switch (random.nextInt(3)) {
+                case 0:
+                    beam.addLoad(new Load(x, -1.0 - 9.0 * random.nextDouble(), Load.Type.POINT));
+                    break;
+                case 1:
+                    beam.addLoad(new Load(x, 20.0 * random.nextDouble() - 10.0, Load.Type.MOMENT));
+                    break;
+                default:
+                    // Some distributed loads run off the end of the beam
+                    Load load = new Load(x, x + random.nextDouble() * length * 0.8, -random.nextDouble());
+                    load.setMagnitudeEnd(-2.0 * random.nextDouble());
+                    beam.addLoad(load);
+                    break;
+            }
+        }
+    }
+
+    private static void assertMatchesFea(BeamModel beam, String label) {
+        int count = beam.getSupports().size();
+        double[] forces = new double[count];
+        double[] moments = new double[count];
+        new ReactionSolver().solve(beam, forces, moments);
+        AnalysisResult result = new FeaBeamSolver().solve(beam);
+        for (int s = 0; s < count; s++) {
+            assert close(forces[s], result.getReactionForce(s), 1e-6) : label + ": reaction " + s;
+            assert close(moments[s], result.getReactionMoment(s), 1e-6) : label + ": reaction moment " + s;
+        }
+    }
+
+    private void testDeterminateByStatics() {
+        System.out.println("Testing determinate beams by equilibrium...");
+
+        Random random = new Random(40);
+        for (int trial = 0; trial < 50; trial++) {
+            double length = 10.0 + 30.0 * random.nextDouble();
+            BeamModel overhang = beam(length,
+                new Support(0.2 * length, Support.Type.PINNED), new Support(0.8 * length, Support.Type.ROLLER));
+            addRandomLoads(overhang, random);
+            assert !StabilityChecker.isIndeterminate(overhang) : "Two-support beam should be determinate";
+            assertMatchesFea(overhang, "Overhang " + trial);
+
+            BeamModel cantilever = beam(length, new Support(length, Support.Type.FIXED));
+            addRandomLoads(cantilever, random);
+            assertMatchesFea(cantilever, "Cantilever " + trial);
+        }
+
+        BeamModel simple = beam(20.0, new Support(0.0, Support.Type.PINNED), new Support(20.0, Support.Type.ROLLER));
+        simple.addLoad(new Load(0.0, 20.0, -1.0));
+        double[] forces = new double[2];
+        new ReactionSolver().solve(simple, forces, null);
+        assert close(forces[0], 10.0, 1e-12) && close(forces[1], 10.0, 1e-12) : "Reactions should be wL/2";
+
+        System.out.println("✓ Determinate statics test passed");
+    }
+
+    private void testIndeterminateMatchesFea() {
+        System.out.println("Testing indeterminate beams on the reduced mesh...");
+
+        Random random = new Random(41);
+        for (int trial = 0; trial < 50; trial++) {
+            double length = 20.0 + 30.0 * random.nextDouble();
+            BeamModel continuous = beam(length, new Support(0.0, Support.Type.FIXED),
+                new Support(length * (0.3 + 0.4 * random.nextDouble()), Support.Type.ROLLER),
+                new Support(length, Support.Type.PINNED));
+            addRandomLoads(continuous, random);
+            if (trial % 2 == 0) {
+                continuous.addStiffnessSegment(new StiffnessSegment(0.0, 0.25 * length, 3.0e6));
+            }
+            assertMatchesFea(continuous, "Continuous " + trial);
+        }
+
+        BeamModel tapered = beam(30.0, new Support(0.0, Support.Type.FIXED), new Support(30.0, Support.Type.FIXED));
+        tapered.addLoad(new Load(0.0, 30.0, -1.5));
+        tapered.addStiffnessSegment(new StiffnessSegment(0.0, 10.0, 4.0e6, 1.5e6));
+        assertMatchesFea(tapered, "Tapered");
+
+        BeamModel grade = beam(40.0, new Support(10.0, Support.Type.ROLLER));
+        grade.setFoundationModulus(1.0);
+        grade.addLoad(new Load(25.0, -12.0, Load.Type.POINT));
+        assertMatchesFea(grade, "Foundation");
+
+        System.out.println("✓ Indeterminate reduced mesh test passed");
+    }
+
+    private void testBatchOfBeams() {
+        System.out.println("Testing a batch of beams in one pass...");
+
+        Random random = new Random(42);
+        List<BeamModel> beams = new ArrayList<>();
+        int total = 0;
+        for (int i = 0; i < 200; i++) {
+            double length = 10.0 + 20.0 * random.nextDouble();
+            BeamModel beam = i % 3 == 0
+                ? beam(length, new Support(0.0, Support.Type.PINNED), new Support(length / 2.0, Support.Type.ROLLER),
+                       new Support(length, Support.Type.ROLLER))
+                : beam(length, new Support(0.0, Support.Type.PINNED), new Support(length, Support.Type.ROLLER));
+            addRandomLoads(beam, random);
+            beams.add(beam);
+            total += beam.getSupports().size();
+        }
+
+        double[] forces = new double[total];
+        assert new ReactionSolver().solveAll(beams, forces) == total : "Every support should get a reaction";
+        FeaEngine engine = new FeaEngine();
+        int offset = 0;
+        for (BeamModel beam : beams) {
+            AnalysisResult result = engine.analyze(beam);
+            double[] single = engine.reactions(beam);
+            // Random loads can land a hair apart, leaving the full mesh with badly conditioned slivers
+            for (int s = 0; s < single.length; s++) {
+                assert close(forces[offset + s], result.getReactionForce(s), 1e-4) : "Batch reaction " + (offset + s);
+                assert single[s] == forces[offset + s] : "Engine reactions should use the same fast path";
+            }
+            offset += single.length;
+        }
+
+        System.out.println("✓ Batch test passed");
+    }
+
+    private void testUnstableBeamRejected() {
+        System.out.println("Testing mechanism is rejected...");
+
+        BeamModel mechanism = beam(20.0, new Support(10.0, Support.Type.ROLLER));
+        mechanism.addLoad(new Load(5.0, -1.0, Load.Type.POINT));
+        boolean thrown = false;
+        try {
+            new ReactionSolver().solve(mechanism, new double[1], null);
+        } catch (UnstableStructureException e) {
+            thrown = true;
+        }
+        assert thrown : "A single roller should be reported as unstable";
+
+        System.out.println("✓ Unstable beam test passed");
+    }
+}
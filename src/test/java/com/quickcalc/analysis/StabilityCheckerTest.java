@@ -0,0 +1,130 @@
+package com.quickcalc.analysis;
+
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+import com.quickcalc.models.Support;
+
+/**
+ * Simple test class to verify StabilityChecker diagnostics
+ * Note: This is a basic test without JUnit framework
+ */
+public class StabilityCheckerTest {
+
+    public static void main(String[] args) {
+        StabilityCheckerTest test = new StabilityCheckerTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== StabilityChecker Tests ===");
+
+        testStableModels();
+        testNoSupports();
+        testSinglePin();
+        testCoincidentSupports();
+        testRollerOnly();
+        testSupportOffBeam();
+        testSolverRejectsBeforeAssembly();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static BeamModel beamWith(double length, Support... supports) {
+        BeamModel beam = new BeamModel(length);
+        beam.getSupports().clear();
+        for (Support support : supports) {
+            beam.addSupport(support);
+        }
+        return beam;
+    }
+
+    private void testStableModels() {
+        System.out.println("Testing stable models...");
+
+        assert StabilityChecker.check(new BeamModel(20.0)).isStable() : "Default pinned-roller beam should be stable";
+        assert StabilityChecker.check(beamWith(10.0, new Support(0.0, Support.Type.FIXED))).isStable()
+            : "Cantilever should be stable";
+        assert StabilityChecker.check(beamWith(30.0,
+            new Support(5.0, Support.Type.PINNED), new Support(25.0, Support.Type.ROLLER))).isStable()
+            : "Overhanging beam should be stable";
+
+        System.out.println("✓ Stable models test passed");
+    }
+
+    private void testNoSupports() {
+        System.out.println("Testing beam without supports...");
+
+        StabilityReport report = StabilityChecker.check(beamWith(20.0));
+        assert report.getIssue() == StabilityReport.Issue.NO_SUPPORTS : "Should report missing supports";
+
+        System.out.println("✓ No supports test passed");
+    }
+
+    private void testSinglePin() {
+        System.out.println("Testing single pinned support...");
+
+        StabilityReport report = StabilityChecker.check(beamWith(20.0, new Support(10.0, Support.Type.PINNED)));
+        assert report.getIssue() == StabilityReport.Issue.ROTATION_MECHANISM : "Single pin should be a rotation mechanism";
+        assert report.getMessage().contains("10.00") : "Diagnostic should name the pivot location";
+
+        System.out.println("✓ Single pin test passed");
+    }
+
+    private void testCoincidentSupports() {
+        System.out.println("Testing coincident supports...");
+
+        StabilityReport report = StabilityChecker.check(beamWith(20.0,
+            new Support(8.0, Support.Type.PINNED), new Support(8.0, Support.Type.ROLLER)));
+        assert report.getIssue() == StabilityReport.Issue.ROTATION_MECHANISM : "Supports at one point should not resist rotation";
+
+        System.out.println("✓ Coincident supports test passed");
+    }
+
+    private void testRollerOnly() {
+        System.out.println("Testing roller-only beam...");
+
+        StabilityReport report = StabilityChecker.check(beamWith(20.0,
+            new Support(0.0, Support.Type.ROLLER), new Support(20.0, Support.Type.ROLLER)));
+        assert report.getIssue() == StabilityReport.Issue.NO_HORIZONTAL_RESTRAINT : "Roller-only beam should be rejected";
+
+        System.out.println("✓ Roller-only test passed");
+    }
+
+    private void testSupportOffBeam() {
+        System.out.println("Testing support outside the beam...");
+
+        StabilityReport report = StabilityChecker.check(beamWith(20.0,
+            new Support(0.0, Support.Type.PINNED), new Support(25.0, Support.Type.ROLLER)));
+        assert report.getIssue() == StabilityReport.Issue.SUPPORT_OFF_BEAM : "Support past the end should be rejected";
+
+        System.out.println("✓ Support off beam test passed");
+    }
+
+    private void testSolverRejectsBeforeAssembly() {
+        System.out.println("Testing solver rejection...");
+
+        BeamModel beam = beamWith(20.0, new Support(10.0, Support.Type.ROLLER));
+        beam.addLoad(new Load(5.0, -10.0, Load.Type.POINT));
+        boolean rejected = false;
+        try {
+            new FeaBeamSolver().solve(beam);
+        } catch (UnstableStructureException e) {
+            rejected = e.getReport().getIssue() == StabilityReport.Issue.ROTATION_MECHANISM;
+        }
+        assert rejected : "Solver should reject the mechanism with a diagnostic";
+
+        boolean guarded = false;
+        BandedSymmetricMatrix matrix = new BandedSymmetricMatrix(2, 1);
+        matrix.set(0, 0, 1.0);
+        matrix.set(1, 0, 1.0);
+        matrix.set(1, 1, 1.0);
+        try {
+            matrix.factor();
+        } catch (SingularMatrixException e) {
+            guarded = e.getDof() == 1;
+        }
+        assert guarded : "Zero pivot should be caught at the dependent DOF";
+
+        System.out.println("✓ Solver rejection test passed");
+    }
+}
@@ -0,0 +1,145 @@
+package com.quickcalc.analysis.fatigue;
+
+import com.quickcalc.analysis.FeaBeamSolver;
+import com.quickcalc.models.BeamModel;
+
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Simple test class to verify streaming rainflow counting and fatigue damage
+ * Note: This is a basic test without JUnit framework
+ */
+public class RainflowCounterTest {
+
+    public static void main(String[] args) {
+        RainflowCounterTest test = new RainflowCounterTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== RainflowCounter Tests ===");
+
+        testFourPointExtraction();
+        testRepeatedBlocks();
+        testBoundedResidue();
+        testInfluenceLine();
+        testConstantAmplitudeDamage();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static boolean close(double actual, double expected, double relative) {
+        return Math.abs(actual - expected) <= relative * Math.max(1e-9, Math.abs(expected));
+    }
+
+    private void testFourPointExtraction() {
+        System.out.println("Testing four-point cycle extraction...");
+
+        RainflowCounter counter = new RainflowCounter(1.0);
+        for (double stress : new double[] {0.0, 10.0, 9.8, 4.0, 6.0, 6.1, 0.0}) {
+            counter.accept(stress);
+        }
+        assert counter.getTotalCycles() == 1 : "One cycle should close";
+        assert counter.getCycleCount(2) == 1 : "The closed cycle should range from 4 to 6";
+        assert counter.getResidueSize() == 3 : "Residue should be 0, 10, 0";
+        assert counter.getSampleCount() == 7 : "Every sample should be counted";
+
+        System.out.println("✓ Four-point extraction test passed");
+    }
+
+    private void testRepeatedBlocks() {
+        System.out.println("Testing repeated blocks against streaming every repetition...");
+
+        Random random = new Random(39);
+        for (int trial = 0; trial < 200; trial++) {
+            double[] block = new double[5 + random.nextInt(40)];
+            for (int i = 0; i < block.length; i++) {
+                block[i] = random.nextGaussian() * 8.0 + (trial % 3) * 5.0;
+            }
+            Consumer<DoubleConsumer> pass = sink -> {
+                for (double stress : block) {
+                    sink.accept(stress);
+                }
+            };
+            long count = 1 + random.nextInt(60);
+
+            RainflowCounter streamed = new RainflowCounter(0.5);
+            RainflowCounter repeated = new RainflowCounter(0.5);
+            for (long c = 0; c < count; c++) {
+                pass.accept(streamed);
+            }
+            repeated.acceptRepeated(pass, count);
+
+            int bins = Math.max(streamed.getBinCount(), repeated.getBinCount());
+            for (int bin = 0; bin < bins; bin++) {
+                assert streamed.getCycleCount(bin) == repeated.getCycleCount(bin)
+                    : "Bin " + bin + " differs in trial " + trial;
+            }
+            assert streamed.getResidueSize() == repeated.getResidueSize() : "Residue differs in trial " + trial;
+            assert streamed.getSampleCount() == repeated.getSampleCount() : "Sample count differs in trial " + trial;
+        }
+
+        System.out.println("✓ Repeated block test passed");
+    }
+
+    private void testBoundedResidue() {
+        System.out.println("Testing residue stays bounded on a long history...");
+
+        RainflowCounter counter = new RainflowCounter(0.25);
+        Random random = new Random(7);
+        int maxResidue = 0;
+        for (int i = 0; i < 2_000_000; i++) {
+            counter.accept(Math.max(-20.0, Math.min(20.0, random.nextGaussian() * 6.0)));
+            maxResidue = Math.max(maxResidue, counter.getResidueSize());
+        }
+        assert maxResidue <= 2 * (int) (40.0 / 0.25) + 2 : "Residue should be bounded by the stress levels";
+        assert counter.getTotalCycles() > 500_000 : "Cycles should be extracted as the history streams";
+
+        System.out.println("✓ Bounded residue test passed");
+    }
+
+    private void testInfluenceLine() {
+        System.out.println("Testing moment influence line of a simple span...");
+
+        BeamModel beam = new BeamModel(30.0);
+        double[] stations = {7.5, 15.0};
+        InfluenceLines lines = InfluenceLines.compute(new FeaBeamSolver(), beam, stations, 1.0);
+        for (int s = 0; s < stations.length; s++) {
+            double a = stations[s];
+            for (double x = 0.0; x <= 30.0; x += 0.5) {
+                double expected = x < a ? x * (30.0 - a) / 30.0 : a * (30.0 - x) / 30.0;
+                assert Math.abs(lines.getOrdinate(s, x) - expected) < 1e-9 : "Ordinate at " + x;
+            }
+        }
+        assert lines.getOrdinate(0, -1.0) == 0.0 && lines.getOrdinate(0, 31.0) == 0.0 : "No moment from loads off the beam";
+
+        System.out.println("✓ Influence line test passed");
+    }
+
+    private void testConstantAmplitudeDamage() {
+        System.out.println("Testing Miner's rule for single-wheel passes...");
+
+        BeamModel beam = new BeamModel(30.0);
+        InfluenceLines lines = InfluenceLines.compute(new FeaBeamSolver(), beam, new double[] {15.0}, 1.0);
+        MovingLoad wheel = new MovingLoad(new double[] {20.0}, new double[] {0.0});
+        double sectionModulus = 54.6;
+        FatigueAnalysis analysis = new FatigueAnalysis(lines, wheel, sectionModulus, 0.5, 0.1);
+        long passes = 2_000_000L;
+        analysis.addPasses(passes);
+
+        // Each pass is one 0 to peak to 0 cycle
+        double range = 20.0 * 7.5 * 12.0 / sectionModulus;
+        SnCurve curve = SnCurve.aashto("C");
+        double expected = passes * Math.pow(range, 3.0) / curve.getConstant();
+        assert close(analysis.getDamage(0, curve), expected, 0.01) : "Damage should follow the S-N curve";
+        assert analysis.getCounter(0).getTotalCycles() == passes - 1 : "All but one cycle should be closed";
+        assert analysis.getCounter(0).getSampleCount() > passes : "Samples should be counted per pass";
+
+        MovingLoad crane = MovingLoad.twoWheels(20.0, 10.0);
+        assert crane.getLength() == 10.0 : "Train length is the wheel base";
+
+        System.out.println("✓ Constant amplitude damage test passed");
+    }
+}
@@ -0,0 +1,147 @@
+package com.quickcalc.models;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Simple test class to verify BeamElementIndex range queries and invalidation
+ * Note: This is a basic test without JUnit framework
+ */
+public class BeamElementIndexTest {
+
+    public static void main(String[] args) {
+        BeamElementIndexTest test = new BeamElementIndexTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== BeamElementIndex Tests ===");
+
+        testRangeQueriesMatchScan();
+        testNearestSupports();
+        testRebuiltAfterChanges();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static BeamModel randomBeam(Random random, int loadCount) {
+        BeamModel beam = new BeamModel(400.0);
+        beam.getSupports().clear();
+        for (int i = 0; i < 40; i++) {
+            beam.addSupport(new Support(random.nextDouble() * 400.0, Support.Type.ROLLER));
+        }
+        for (int i = 0; i < loadCount; i++) {
+            double x = random.nextDouble() * 400.0;
+            switch (random.nextInt(3)) {
+                case 0:
+                    beam.addLoad(new Load(x, -1.0, Load.Type.POINT));
+                    break;
+                case 1:
+                    beam.addLoad(new Load(x, 5.0, Load.Type.MOMENT));
+                    break;
+                default:
+                    // Mostly short loads, some spanning most of the beam, some reversed
+                    double span = random.nextInt(10) == 0 ? random.nextDouble() * 400.0 : random.nextDouble() * 5.0 + 0.1;
+                    double end = random.nextBoolean() ? x + span : x - span;
+                    beam.addLoad(new Load(x, end, -0.5));
+                    break;
+            }
+        }
+        return beam;
+    }
+
+    private static double start(Load load) {
+        return load.getType() == Load.Type.DISTRIBUTED ? Math.min(load.getPosition(), load.getEndPosition()) : load.getPosition();
+    }
+
+    private static double end(Load load) {
+        return load.getType() == Load.Type.DISTRIBUTED ? Math.max(load.getPosition(), load.getEndPosition()) : load.getPosition();
+    }
+
+    private void testRangeQueriesMatchScan() {
+        System.out.println("Testing range queries against a scan...");
+
+        Random random = new Random(48);
+        BeamModel beam = randomBeam(random, 2000);
+        BeamElementIndex index = beam.getElementIndex();
+        List<Load> loads = new ArrayList<>();
+        List<Support> supports = new ArrayList<>();
+        for (int trial = 0; trial < 500; trial++) {
+            double min = random.nextDouble() * 420.0 - 10.0;
+            double max = min + (trial % 5 == 0 ? 0.0 : random.nextDouble() * 30.0);
+
+            loads.clear();
+            int found = index.findLoads(min, max, loads);
+            Set<Load> expected = new HashSet<>();
+            for (Load load : beam.getLoads()) {
+                if (start(load) <= max && end(load) >= min) {
+                    expected.add(load);
+                }
+            }
+            assert found == loads.size() && found == expected.size() : "Load count should match the scan";
+            assert expected.containsAll(loads) : "Every found load should touch the range";
+            for (int i = 1; i < loads.size(); i++) {
+                assert start(loads.get(i - 1)) <= start(loads.get(i)) : "Loads should come in order of their start";
+            }
+
+            supports.clear();
+            index.findSupports(min, max, supports);
+            int expectedSupports = 0;
+            for (Support support : beam.getSupports()) {
+                if (support.getPosition() >= min && support.getPosition() <= max) {
+                    expectedSupports++;
+                }
+            }
+            assert supports.size() == expectedSupports : "Support count should match the scan";
+            for (int i = 1; i < supports.size(); i++) {
+                assert supports.get(i - 1).getPosition() <= supports.get(i).getPosition() : "Supports should be in position order";
+            }
+        }
+
+        System.out.println("✓ Range query test passed");
+    }
+
+    private void testNearestSupports() {
+        System.out.println("Testing nearest supports...");
+
+        BeamModel beam = new BeamModel(30.0);
+        beam.addSupport(new Support(12.0, Support.Type.ROLLER));
+        BeamElementIndex index = beam.getElementIndex();
+        assert index.supportBefore(12.0) == 0.0 : "Support before should be strictly before";
+        assert index.supportAfter(12.0) == 30.0 : "Support after should be strictly after";
+        assert index.supportBefore(12.5) == 12.0 : "Nearest support before 12.5 ft is at 12 ft";
+        assert index.supportBefore(0.0) == Double.NEGATIVE_INFINITY : "Nothing lies before the first support";
+        assert index.supportAfter(30.0) == Double.POSITIVE_INFINITY : "Nothing lies after the last support";
+
+        System.out.println("✓ Nearest support test passed");
+    }
+
+    private void testRebuiltAfterChanges() {
+        System.out.println("Testing index invalidation...");
+
+        BeamModel beam = new BeamModel(20.0);
+        BeamElementIndex index = beam.getElementIndex();
+        assert beam.getElementIndex() == index : "An unchanged beam should reuse its index";
+
+        Load load = new Load(5.0, -2.0, Load.Type.POINT);
+        beam.addLoad(load);
+        BeamElementIndex added = beam.getElementIndex();
+        assert added != index && added.getLoadCount() == 1 : "Adding a load should rebuild the index";
+
+        // Direct list edits are caught by the size check
+        beam.getSupports().clear();
+        assert beam.getElementIndex().getSupportCount() == 0 : "Clearing the support list should rebuild the index";
+
+        // Moves in place need markModified
+        load.setPosition(15.0);
+        beam.markModified();
+        List<Load> found = new ArrayList<>();
+        beam.getElementIndex().findLoads(14.0, 16.0, found);
+        assert found.size() == 1 : "A moved load should be found at its new position";
+
+        System.out.println("✓ Invalidation test passed");
+    }
+}
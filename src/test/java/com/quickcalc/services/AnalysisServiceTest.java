@@ -0,0 +1,346 @@
+package com.quickcalc.services;
+
+import com.quickcalc.analysis.AnalysisCallback;
+import com.quickcalc.analysis.AnalysisResult;
+import com.quickcalc.analysis.AnalysisResultCache;
+import com.quickcalc.analysis.DiskResultCache;
+import com.quickcalc.analysis.EngineSelector;
+import com.quickcalc.analysis.FeaBeamSolver;
+import com.quickcalc.analysis.FeaEngine;
+import com.quickcalc.analysis.HetenyiEngine;
+import com.quickcalc.analysis.ModelFingerprint;
+import com.quickcalc.analysis.PDeltaSolver;
+import com.quickcalc.models.BeamModel;
+import com.quickcalc.models.Load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simple test class to verify the AnalysisService threading contract
+ * Note: This is a basic test without JUnit framework
+ */
+public class AnalysisServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    /**
+     * Solver whose first solve blocks until released, recording whether it was interrupted
+     */
+    private static class BlockingSolver extends FeaBeamSolver {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private boolean blocked;
+
+        @Override
+        public AnalysisResult solve(BeamModel beamModel) {
+            boolean block;
+            synchronized (this) {
+                block = !blocked;
+                blocked = true;
+            }
+            if (block) {
+                started.countDown();
+                // Keep going after an interrupt, like a solve that misses the cancellation
+                while (true) {
+                    try {
+                        release.await();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                }
+            }
+            return super.solve(beamModel);
+        }
+    }
+
+    /**
+     * Callback that records what reached the delivery thread
+     */
+    private static class RecordingCallback implements AnalysisCallback {
+        final List<AnalysisResult> completed = new ArrayList<>();
+        final List<Double> estimatedErrors = new ArrayList<>();
+        int refinements;
+        final List<String> failures = new ArrayList<>();
+        int cancellations;
+
+        @Override
+        public void onAnalysisRefined(AnalysisResult result, int refinementLevel) {
+            refinements++;
+        }
+
+        @Override
+        public void onAnalysisCompleted(AnalysisResult result) {
+            completed.add(result);
+        }
+
+        @Override
+        public void onBudgetedAnalysisCompleted(AnalysisResult result, double estimatedRelativeError) {
+            estimatedErrors.add(estimatedRelativeError);
+            completed.add(result);
+        }
+
+        @Override
+        public void onAnalysisFailed(String message) {
+            failures.add(message);
+        }
+
+        @Override
+        public void onAnalysisCancelled() {
+            cancellations++;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        AnalysisServiceTest test = new AnalysisServiceTest();
+        test.runTests();
+    }
+
+    public void runTests() throws InterruptedException, IOException {
+        System.out.println("=== AnalysisService Tests ===");
+
+        testCancellationInterruptsSolve();
+        testSupersededPublishIsDropped();
+        testBudgetedSubmit();
+        testOnlyFinalResultsPersist();
+        testEngineSelectorRouting();
+
+        System.out.println("All tests completed!");
+    }
+
+    private static BeamModel createBeam(double loadPosition) {
+        BeamModel beam = new BeamDataService().createSimpleBeam(20.0);
+        beam.addLoad(new Load(loadPosition, -10.0, Load.Type.POINT));
+        return beam;
+    }
+
+    private void testCancellationInterruptsSolve() throws InterruptedException {
+        System.out.println("Testing that cancellation interrupts the running solve...");
+
+        BlockingSolver solver = new BlockingSolver();
+        BlockingQueue<Runnable> deliveries = new LinkedBlockingQueue<>();
+        AnalysisService service = new AnalysisService(solver, new AnalysisResultCache(1 << 20), null, deliveries::add);
+        RecordingCallback callback = new RecordingCallback();
+        service.setCallback(callback);
+
+        service.submit(createBeam(5.0));
+        assert solver.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS) : "Solve should start";
+        assert service.isAnalysisInProgress() : "Analysis should be in progress";
+
+        service.cancel();
+        assert solver.interrupted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS) : "Cancel should interrupt the solver thread";
+        assert callback.cancellations == 1 : "Cancel should be reported once";
+        assert !service.isAnalysisInProgress() : "No analysis should be in progress after cancel";
+
+        solver.release.countDown();
+        service.shutdown();
+
+        System.out.println("✓ Cancellation tests passed");
+    }
+
+    private void testSupersededPublishIsDropped() throws InterruptedException {
+        System.out.println("Testing that a superseded version's late result is dropped...");
+
+        BlockingSolver solver = new BlockingSolver();
+        BlockingQueue<Runnable> deliveries = new LinkedBlockingQueue<>();
+        AnalysisService service = new AnalysisService(solver, new AnalysisResultCache(1 << 20), null, deliveries::add);
+        RecordingCallback callback = new RecordingCallback();
+        service.setCallback(callback);
+
+        long staleVersion = service.submit(createBeam(5.0));
+        assert solver.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS) : "Solve should start";
+
+        // A newer request supersedes the blocked one, which then finishes late
+        long currentVersion = service.submit(createBeam(12.0));
+        assert currentVersion > staleVersion : "Newer request should get a newer version";
+        solver.release.countDown();
+
+        // The worker is single-threaded, so the newer result is delivered after the stale solve returned
+        Runnable delivery = deliveries.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assert delivery != null : "Current result should be delivered";
+        delivery.run();
+        assert deliveries.isEmpty() : "Stale result should not be queued for delivery";
+        assert callback.completed.size() == 1 : "Only the current result should complete";
+        double maxMomentPosition = callback.completed.get(0).getMaxMomentLocation();
+        assert Math.abs(maxMomentPosition - 12.0) < 1e-6 : "Delivered result should be for the newer model";
+
+        // A delivery queued before a newer request is dropped when it runs
+        service.submit(createBeam(8.0));
+        delivery = deliveries.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assert delivery != null : "Result should be queued for delivery";
+        service.modelChanged(createBeam(9.0));
+        delivery.run();
+        assert callback.completed.size() == 1 : "Queued result of a superseded version should be dropped";
+        assert callback.failures.isEmpty() : "No analysis should fail";
+
+        service.shutdown();
+
+        System.out.println("✓ Superseded publish tests passed");
+    }
+
+    private void testBudgetedSubmit() throws InterruptedException {
+        System.out.println("Testing a time-budgeted request...");
+
+        AnalysisResultCache cache = new AnalysisResultCache(1 << 20);
+        BlockingQueue<Runnable> deliveries = new LinkedBlockingQueue<>();
+        AnalysisService service = new AnalysisService(new FeaBeamSolver(), cache, null, deliveries::add);
+        RecordingCallback callback = new RecordingCallback();
+        service.setCallback(callback);
+        service.setProgressive(true);
+
+        service.submit(createBeam(10.0), 20_000_000L);
+        Runnable delivery = deliveries.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assert delivery != null : "Budgeted result should be delivered";
+        delivery.run();
+
+        double expectedDeflection = -10.0 * Math.pow(240.0, 3) / (48.0 * 29000.0 * 53.8);
+        assert callback.refinements == 0 : "Budgeted request should skip progressive refinement";
+        assert callback.completed.size() == 1 : "Budgeted request should complete once";
+        AnalysisResult result = callback.completed.get(0);
+        assert Math.abs(result.getMaxDeflection() - expectedDeflection) <= 1e-4 * Math.abs(expectedDeflection)
+            : "Budgeted deflection should be PL³/48EI";
+        assert cache.size() == 0 : "Budget-dependent results should not be cached";
+        assert callback.estimatedErrors.size() == 1 : "Budgeted result should carry its accuracy estimate";
+        double estimate = callback.estimatedErrors.get(0);
+        assert Double.isNaN(estimate) || (estimate >= 0.0 && estimate < 1e-2) : "Estimate should be a small relative error";
+
+        try {
+            service.submit(createBeam(10.0), -1L);
+            assert false : "Negative budget should be rejected";
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        service.shutdown();
+
+        System.out.println("✓ Budgeted request tests passed");
+    }
+
+    private static AnalysisResult awaitCompleted(BlockingQueue<Runnable> deliveries, RecordingCallback callback)
+            throws InterruptedException {
+        int completed = callback.completed.size();
+        while (callback.completed.size() == completed) {
+            Runnable delivery = deliveries.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assert delivery != null : "Analysis should complete";
+            delivery.run();
+        }
+        return callback.completed.get(callback.completed.size() - 1);
+    }
+
+    private void testOnlyFinalResultsPersist() throws InterruptedException, IOException {
+        System.out.println("Testing that only final results are written to disk...");
+
+        DiskResultCache disk = new DiskResultCache(Files.createTempDirectory("quickcalc-service-test"),
+            DiskResultCache.DEFAULT_MAX_BYTES);
+        disk.getDirectory().toFile().deleteOnExit();
+        BlockingQueue<Runnable> deliveries = new LinkedBlockingQueue<>();
+        AnalysisService service = new AnalysisService(new FeaBeamSolver(), new AnalysisResultCache(1 << 20), disk,
+            deliveries::add);
+        RecordingCallback callback = new RecordingCallback();
+        service.setCallback(callback);
+
+        BeamModel progressiveBeam = createBeam(6.0);
+        service.setProgressive(true);
+        service.submit(progressiveBeam);
+        awaitCompleted(deliveries, callback);
+        assert disk.get(ModelFingerprint.of(progressiveBeam)) == null : "Progressive result should not be persisted";
+
+        BeamModel budgetedBeam = createBeam(7.0);
+        service.submit(budgetedBeam, 20_000_000L);
+        awaitCompleted(deliveries, callback);
+        assert disk.get(ModelFingerprint.of(budgetedBeam)) == null : "Budgeted result should not be persisted";
+
+        BeamModel fullBeam = createBeam(8.0);
+        service.setProgressive(false);
+        service.submit(fullBeam);
+        AnalysisResult full = awaitCompleted(deliveries, callback);
+        // The worker writes the file after handing the result to the delivery thread
+        AnalysisResult stored = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (stored == null && System.nanoTime() < deadline) {
+            stored = disk.get(ModelFingerprint.of(fullBeam));
+            if (stored == null) {
+                Thread.sleep(10);
+            }
+        }
+        assert stored != null : "Full-mesh result should be persisted";
+        assert stored.getMaxDeflection() == full.getMaxDeflection() : "Persisted result should match the delivered one";
+        // The single worker has finished the earlier requests by now, so their absence is final
+        assert disk.get(ModelFingerprint.of(progressiveBeam)) == null : "Progressive result should never be persisted";
+        assert disk.get(ModelFingerprint.of(budgetedBeam)) == null : "Budgeted result should never be persisted";
+
+        disk.clear();
+        service.shutdown();
+
+        System.out.println("✓ Disk persistence tests passed");
+    }
+
+    private void testEngineSelectorRouting() throws InterruptedException, IOException {
+        System.out.println("Testing analyses routed through the installed engines...");
+
+        Path benchmarkFile = Files.createTempFile("quickcalc-engine-benchmark", ".properties");
+        Files.delete(benchmarkFile);
+        benchmarkFile.toFile().deleteOnExit();
+        BlockingQueue<Runnable> deliveries = new LinkedBlockingQueue<>();
+        AnalysisService service = new AnalysisService(new FeaBeamSolver(), new AnalysisResultCache(1 << 20), null,
+            deliveries::add);
+        RecordingCallback callback = new RecordingCallback();
+        service.setCallback(callback);
+        service.setProgressive(true);
+        service.setEngineSelector(new EngineSelector());
+        service.calibrateEngines(benchmarkFile);
+
+        BeamModel axialBeam = createBeam(10.0);
+        axialBeam.setAxialLoad(-20.0);
+        service.submit(axialBeam);
+        AnalysisResult axial = awaitCompleted(deliveries, callback);
+        assert callback.refinements == 0 : "Axial beams should skip progressive refinement";
+        double expected = new PDeltaSolver(new FeaBeamSolver()).solve(axialBeam).getResult().getMaxDeflection();
+        assert Math.abs(axial.getMaxDeflection() - expected) <= 1e-6 * Math.abs(expected)
+            : "Axial beams should get the P-delta result";
+        // The benchmark ran on the single worker ahead of the analysis
+        assert Files.exists(benchmarkFile) : "Missing benchmark should be measured and saved";
+
+        BeamModel foundationBeam = createBeam(10.0);
+        foundationBeam.setFoundationModulus(0.5);
+        service.setProgressive(false);
+        service.submit(foundationBeam);
+        AnalysisResult foundation = awaitCompleted(deliveries, callback);
+        double fea = new FeaBeamSolver().solve(foundationBeam).getMaxDeflection();
+        assert Math.abs(foundation.getMaxDeflection() - fea) <= 1e-3 * Math.abs(fea)
+            : "Selected engine should agree with the FEA solver";
+        assert callback.failures.isEmpty() : "Every beam should have a capable engine";
+        service.shutdown();
+
+        // Progressive mode refines only when the selected engine solves on the FEA mesh
+        for (boolean meshBased : new boolean[] {false, true}) {
+            service = new AnalysisService(new FeaBeamSolver(), new AnalysisResultCache(1 << 20), null, deliveries::add);
+            callback = new RecordingCallback();
+            service.setCallback(callback);
+            service.setProgressive(true);
+            service.setEngineSelector(new EngineSelector(Collections.singletonList(
+                meshBased ? new FeaEngine() : new HetenyiEngine())));
+            service.submit(foundationBeam);
+            AnalysisResult selected = awaitCompleted(deliveries, callback);
+            if (meshBased) {
+                assert callback.refinements > 0 : "A mesh-based engine should be refined progressively";
+            } else {
+                double closedForm = new HetenyiEngine().analyze(foundationBeam).getMaxDeflection();
+                assert callback.refinements == 0 : "An engine that cannot refine should be run once";
+                assert selected.getMaxDeflection() == closedForm : "Progressive mode should use the selected engine";
+            }
+            service.shutdown();
+        }
+
+        System.out.println("✓ Engine routing tests passed");
+    }
+}
@@ -0,0 +1,79 @@
+package com.quickcalc.utils;
+
+/**
+ * Simple test class to verify the primitive ViewTransform conversions
+ * Note: This is a basic test without JUnit framework
+ */
+public class ViewTransformTest {
+
+    public static void main(String[] args) {
+        ViewTransformTest test = new ViewTransformTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== ViewTransform Tests ===");
+
+        testPrimitiveMatchesPoint();
+        testBatchMatchesScalar();
+        testZoomKeepsCenterFixed();
+
+        System.out.println("All tests completed!");
+    }
+
+    private void testPrimitiveMatchesPoint() {
+        System.out.println("Testing primitive conversions against Point2D conversions...");
+
+        for (boolean flipY : new boolean[] {true, false}) {
+            ViewTransform transform = new ViewTransform(17.5, 12.25, 43.0, 310.0, flipY);
+            for (double x = -20.0; x <= 40.0; x += 3.7) {
+                double y = 0.3 * x - 2.0;
+                Point2D screen = transform.engineeringToScreen(x, y);
+                assert screen.getX() == transform.toScreenX(x) : "Screen X should match";
+                assert screen.getY() == transform.toScreenY(y) : "Screen Y should match";
+
+                Point2D engineering = transform.screenToEngineering(screen.getX(), screen.getY());
+                assert engineering.getX() == transform.toEngineeringX(screen.getX()) : "Engineering X should match";
+                assert engineering.getY() == transform.toEngineeringY(screen.getY()) : "Engineering Y should match";
+            }
+        }
+
+        System.out.println("✓ Primitive conversion test passed");
+    }
+
+    private void testBatchMatchesScalar() {
+        System.out.println("Testing batch conversions...");
+
+        ViewTransform transform = new ViewTransform(8.0, 8.0, 25.0, 200.0, true);
+        double[] values = {0.0, 1.5, -3.25, 12.0, 100.0};
+        double[] screenX = new double[values.length];
+        double[] screenY = new double[values.length];
+        transform.toScreenX(values, screenX, values.length);
+        transform.toScreenY(values, screenY, values.length);
+        for (int i = 0; i < values.length; i++) {
+            assert Math.abs(screenX[i] - transform.toScreenX(values[i])) < 1e-12 : "Batch X should match scalar";
+            assert Math.abs(screenY[i] - transform.toScreenY(values[i])) < 1e-12 : "Batch Y should match scalar";
+        }
+
+        // Converting in place only touches the requested prefix
+        double[] inPlace = values.clone();
+        transform.toScreenX(inPlace, inPlace, 3);
+        assert inPlace[2] == screenX[2] && inPlace[3] == values[3] : "In-place batch should convert only the prefix";
+
+        System.out.println("✓ Batch conversion test passed");
+    }
+
+    private void testZoomKeepsCenterFixed() {
+        System.out.println("Testing zoom about a point...");
+
+        ViewTransform transform = new ViewTransform();
+        double engineeringX = transform.toEngineeringX(180.0);
+        double engineeringY = transform.toEngineeringY(220.0);
+        transform.zoom(180.0, 220.0, 1.6);
+        assert Math.abs(transform.toScreenX(engineeringX) - 180.0) < 1e-9 : "Zoom center X should stay fixed";
+        assert Math.abs(transform.toScreenY(engineeringY) - 220.0) < 1e-9 : "Zoom center Y should stay fixed";
+        assert Math.abs(transform.getScaleX() - 32.0) < 1e-12 : "Scale should grow by the zoom factor";
+
+        System.out.println("✓ Zoom test passed");
+    }
+}
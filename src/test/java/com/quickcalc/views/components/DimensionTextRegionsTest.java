@@ -0,0 +1,114 @@
+package com.quickcalc.views.components;
+
+import com.quickcalc.utils.ViewTransform;
+
+/**
+ * Simple test class to verify the dimension text hit regions
+ * Note: This is a basic test without JUnit framework
+ */
+public class DimensionTextRegionsTest {
+
+    private static final double LINE_OFFSET = 85.0;
+    private static final double TEXT_OFFSET = -3.0;
+    private static final double PADDING = 2.0;
+    private static final double TEXT_HEIGHT = 12.0;
+    private static final double TEXT_WIDTH = 30.0;
+
+    public static void main(String[] args) {
+        DimensionTextRegionsTest test = new DimensionTextRegionsTest();
+        test.runTests();
+    }
+
+    public void runTests() {
+        System.out.println("=== DimensionTextRegions Tests ===");
+
+        testFindsCenteredLabel();
+        testFollowsPanAndZoom();
+        testHidesLabelsThatDoNotFit();
+        testClear();
+
+        System.out.println("All tests completed!");
+    }
+
+    private DimensionTextRegions createRegions() {
+        DimensionTextRegions regions = new DimensionTextRegions(LINE_OFFSET, TEXT_OFFSET, PADDING);
+        regions.setTextHeight(TEXT_HEIGHT);
+        regions.add(0.0, 10.0, "10'-0\"", TEXT_WIDTH, "first", "permanent_spacing");
+        regions.add(10.0, 12.0, "2'-0\"", TEXT_WIDTH, "second", "permanent_spacing");
+        regions.add(12.0, 30.0, "18'-0\"", TEXT_WIDTH, "third", "permanent_spacing");
+        return regions;
+    }
+
+    private static double labelCenterY(ViewTransform transform) {
+        return transform.toScreenY(0) + LINE_OFFSET + TEXT_OFFSET - TEXT_HEIGHT / 2;
+    }
+
+    private void testFindsCenteredLabel() {
+        System.out.println("Testing lookup of a centered label...");
+
+        ViewTransform transform = new ViewTransform(20.0, 20.0, 50.0, 200.0, true);
+        DimensionTextRegions regions = createRegions();
+        double y = labelCenterY(transform);
+
+        ClickableDimensionText text = regions.find(transform, transform.toScreenX(21.0), y);
+        assert text != null : "Label at the middle of a segment should be found";
+        assert "third".equals(text.modelElement()) : "Label should belong to the segment under the point";
+        assert text.originalValue() == 18.0 : "Value should be the segment length";
+        assert text.anchor1EngX() == 12.0 && text.anchor2EngX() == 30.0 : "Anchors should be the segment ends";
+        double expectedLeft = transform.toScreenX(21.0) - TEXT_WIDTH / 2 - PADDING;
+        assert Math.abs(text.screenBounds().getMinX() - expectedLeft) < 1e-9 : "Bounds should be centered on the segment";
+        assert text.screenBounds().getWidth() == TEXT_WIDTH + 2 * PADDING : "Bounds should include the padding";
+
+        assert regions.find(transform, transform.toScreenX(2.0), y) == null : "Point beside the label should miss";
+        assert regions.find(transform, transform.toScreenX(21.0), y - 40.0) == null : "Point above the line should miss";
+        assert regions.find(transform, transform.toScreenX(-5.0), y) == null : "Point before the first segment should miss";
+        assert regions.find(transform, transform.toScreenX(35.0), y) == null : "Point after the last segment should miss";
+
+        System.out.println("✓ Centered label lookup tests passed");
+    }
+
+    private void testFollowsPanAndZoom() {
+        System.out.println("Testing that regions follow the view without being rebuilt...");
+
+        ViewTransform transform = new ViewTransform(20.0, 20.0, 50.0, 200.0, true);
+        DimensionTextRegions regions = createRegions();
+        transform.pan(-137.0, 45.0);
+        transform.zoom(400.0, 300.0, 1.7);
+
+        ClickableDimensionText text = regions.find(transform, transform.toScreenX(5.0), labelCenterY(transform));
+        assert text != null : "Label should be found after panning and zooming";
+        assert "first".equals(text.modelElement()) : "Label should belong to the first segment";
+
+        System.out.println("✓ Pan and zoom tests passed");
+    }
+
+    private void testHidesLabelsThatDoNotFit() {
+        System.out.println("Testing that labels too wide for their segment are not hit...");
+
+        ViewTransform transform = new ViewTransform(20.0, 20.0, 50.0, 200.0, true);
+        DimensionTextRegions regions = createRegions();
+        double y = labelCenterY(transform);
+
+        // The 2 ft segment is 40 px wide, which fits a 34 px label
+        assert regions.find(transform, transform.toScreenX(11.0), y) != null : "Label that fits should be hit";
+
+        transform.zoom(0.0, 0.0, 0.5);
+        assert regions.find(transform, transform.toScreenX(11.0), labelCenterY(transform)) == null
+            : "Label that no longer fits should not be hit";
+
+        System.out.println("✓ Label fit tests passed");
+    }
+
+    private void testClear() {
+        System.out.println("Testing clear...");
+
+        ViewTransform transform = new ViewTransform(20.0, 20.0, 50.0, 200.0, true);
+        DimensionTextRegions regions = createRegions();
+        regions.clear();
+        assert regions.size() == 0 : "Cleared regions should be empty";
+        assert regions.find(transform, transform.toScreenX(21.0), labelCenterY(transform)) == null
+            : "Cleared regions should not be hit";
+
+        System.out.println("✓ Clear tests passed");
+    }
+}
@@ -0,0 +1,106 @@
+"""
+Driver for the Java differential harness (DifferentialHarness).
+
+Reads a JSON array of beam cases on stdin, solves each with
+backend.fea.BeamAnalyzer in this process, and prints one block per case:
+
+    CASE <id>
+    TIME_NS <solve time>
+    NODES <x ft> ...
+    DEFLECTIONS <v in> ...
+    REACTION <position ft> <force kips> <moment kip-in>
+    MAX <value in> <location ft>
+    END
+
+or "ERROR <id> <message>" if the case fails. All values use fea.py's
+conventions: forces, deflections and rotations positive downward.
+
+Each case carries the node positions of the Java mesh, and the analyzer uses
+them instead of its own mesher. Differences then come only from the element
+formulation and load conversion. fea.py's mesher adds at most one midpoint per
+gap, so it cannot reach large element counts anyway.
+"""
+import json
+import os
+import sys
+import time
+
+ROOT = os.environ.get("QUICKCALC_ROOT") or os.path.abspath(
+    os.path.join(os.path.dirname(__file__), "..", "..", ".."))
+sys.path.insert(0, ROOT)
+
+from backend.fea import BeamAnalyzer, DistributedLoad, PointLoad, Support, SupportType  # noqa: E402
+
+
+class DriverAnalyzer(BeamAnalyzer):
+    """BeamAnalyzer on a given mesh, plus concentrated moments, which fea.py does not model."""
+
+    def __init__(self, *args, node_positions=(), moment_loads=(), **kwargs):
+        super().__init__(*args, **kwargs)
+        self.node_positions = [x * 12.0 for x in node_positions]
+        # (position ft, moment kip-ft conjugate to fea.py's rotation DOF)
+        self.moment_loads = list(moment_loads)
+
+    def _generate_node_positions(self):
+        return list(self.node_positions)
+
+    def _apply_boundary_conditions(self, K, F):
+        # F is the full load vector that solve() later uses for reactions
+        for position, moment in self.moment_loads:
+            x = position * 12.0
+            for i, node in enumerate(self.nodes):
+                if abs(node.x - x) < 1e-6:
+                    F[2 * i + 1] += moment * 12.0
+                    break
+        return super()._apply_boundary_conditions(K, F)
+
+
+def solve_case(case):
+    analyzer = DriverAnalyzer(
+        case["length"],
+        min_elements=len(case["nodes"]) - 1,
+        E=case["E"],
+        I=case["I"],
+        node_positions=case["nodes"],
+        moment_loads=[(m["position"], m["magnitude"]) for m in case.get("moment_loads", [])])
+    analyzer.supports = [Support(position=s["position"], support_type=SupportType(s["type"]))
+                         for s in case["supports"]]
+    point_loads = [PointLoad(position=p["position"], magnitude=p["magnitude"])
+                   for p in case.get("point_loads", [])]
+    distributed_loads = [DistributedLoad(start_pos=d["start"], end_pos=d["end"],
+                                         start_magnitude=d["start_magnitude"],
+                                         end_magnitude=d["end_magnitude"])
+                         for d in case.get("distributed_loads", [])]
+
+    start = time.perf_counter_ns()
+    results = analyzer.solve(point_loads, distributed_loads)
+    elapsed = time.perf_counter_ns() - start
+    return results, elapsed
+
+
+def main():
+    cases = json.load(sys.stdin)
+    out = []
+    for case in cases:
+        try:
+            results, elapsed = solve_case(case)
+        except Exception as e:  # Report and continue with the next case
+            out.append("ERROR %s %s" % (case["id"], str(e).replace("\n", " ")))
+            continue
+        displacements = results["displacements"]
+        out.append("CASE %s" % case["id"])
+        out.append("TIME_NS %d" % elapsed)
+        out.append("NODES " + " ".join(repr(float(x)) for x in results["node_positions"]))
+        out.append("DEFLECTIONS " + " ".join(repr(float(displacements[2 * i]))
+                                             for i in range(len(results["node_positions"]))))
+        for position, reaction in results["support_reactions"].items():
+            out.append("REACTION %r %r %r" % (float(position), float(reaction["force"]),
+                                             float(reaction["moment"])))
+        max_deflection = results["max_deflection"]
+        out.append("MAX %r %r" % (float(max_deflection["value"]), float(max_deflection["location_ft"])))
+        out.append("END")
+    sys.stdout.write("\n".join(out) + "\n")
+
+
+if __name__ == "__main__":
+    main()